@@ -0,0 +1,64 @@
+package app.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запись {@code OffsetDateTime} шаблоном {@code @JsonFormat} из DTO транзакций против формата Jackson по умолчанию
+ * (ISO-8601) и прямого вызова {@link DateTimeFormatter} с тем же шаблоном
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormattingBenchmark {
+
+    /**
+     * Шаблон {@code createDate} в {@link app.core.model.dto.TransactionBaseResponseDto}
+     */
+    private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ssXXX";
+
+    public record PatternDate(@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = PATTERN) OffsetDateTime createDate) {
+    }
+
+    public record IsoDate(OffsetDateTime createDate) {
+    }
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(PATTERN);
+
+    private ObjectWriter writer;
+    private PatternDate patternDate;
+    private IsoDate isoDate;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        OffsetDateTime createDate = OffsetDateTime.of(2024, 1, 15, 10, 30, 0, 0, ZoneOffset.ofHours(3));
+        patternDate = new PatternDate(createDate);
+        isoDate = new IsoDate(createDate);
+    }
+
+    @Benchmark
+    public String jsonFormatPattern() throws Exception {
+        return writer.writeValueAsString(patternDate);
+    }
+
+    @Benchmark
+    public String jsonDefaultIso() throws Exception {
+        return writer.writeValueAsString(isoDate);
+    }
+
+    @Benchmark
+    public String formatterPattern() {
+        return formatter.format(patternDate.createDate());
+    }
+}
@@ -0,0 +1,62 @@
+package app.benchmarks;
+
+import app.core.errorhandling.GlobalExceptionHandler;
+import app.core.errorhandling.model.CommonExceptionJson;
+import app.core.errorhandling.model.ValidationExceptionJson;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Построение ответа об ошибке {@link GlobalExceptionHandler} вместе с созданием исключения (заполнение стека входит
+ * в стоимость ошибки). Логирование обработчика отключено: мерится построение ответа, а не вывод в консоль
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MethodParameter requestParameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+        requestParameter = new MethodParameter(
+                ExceptionHandlerBenchmark.class.getDeclaredMethod("create", CreateTransactionBaseRequestDto.class), 0);
+    }
+
+    @Benchmark
+    public ResponseEntity<CommonExceptionJson> entityNotFound() {
+        return handler.entityNotFoundExceptionHandler(new EntityNotFoundException("Expense with id: 42 is not found!"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ValidationExceptionJson> validationFailed() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(null, "createTransactionBaseRequestDto");
+        bindingResult.addError(new FieldError("createTransactionBaseRequestDto", "amount", "must not be null"));
+        bindingResult.addError(new FieldError("createTransactionBaseRequestDto", "createDate", "must not be null"));
+        return handler.methodArgumentNotValidExceptionHandler(new MethodArgumentNotValidException(requestParameter, bindingResult));
+    }
+
+    /**
+     * Сигнатура метода контроллера для {@link MethodArgumentNotValidException}
+     */
+    @SuppressWarnings("unused")
+    private void create(CreateTransactionBaseRequestDto request) {
+    }
+}
@@ -0,0 +1,96 @@
+package app.benchmarks;
+
+import app.core.mappers.ExpenseMapper;
+import app.core.mappers.IncomeMapper;
+import app.core.mappers.UserMapper;
+import app.core.model.ExpenseEntity;
+import app.core.model.IncomeEntity;
+import app.core.model.UserEntity;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+import app.core.model.dto.CreateUserRequestDto;
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.UserResponseDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Маппинг MapStruct на одну запись. Кодировщик пароля подменен тождественным: стоимость BCrypt измеряется отдельно
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final PasswordEncoder PLAIN_PASSWORD = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    private final ExpenseMapper expenseMapper = Mappers.getMapper(ExpenseMapper.class);
+    private final IncomeMapper incomeMapper = Mappers.getMapper(IncomeMapper.class);
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    private ExpenseEntity expense;
+    private IncomeEntity income;
+    private UserEntity user;
+    private CreateTransactionBaseRequestDto createRequest;
+    private CreateUserRequestDto createUserRequest;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime createDate = OffsetDateTime.of(2024, 1, 15, 10, 30, 0, 0, ZoneOffset.ofHours(3));
+        expense = ExpenseEntity.builder().id(1L).amount(new BigDecimal("1500.25")).category("Food")
+                .createDate(createDate).description("Lunch at cafe").build();
+        income = IncomeEntity.builder().id(1L).amount(new BigDecimal("50000.00")).category("Salary")
+                .createDate(createDate).description("Monthly salary").build();
+        user = new UserEntity(1L, "John Doe", "johndoe", "hashedPassword", "john@example.com");
+        createRequest = new CreateTransactionBaseRequestDto(new BigDecimal("1500.25"), "Food", createDate, "Lunch at cafe");
+        createUserRequest = new CreateUserRequestDto("johndoe", "password123", "password123", "John Doe", "john@example.com");
+    }
+
+    @Benchmark
+    public TransactionBaseResponseDto expenseToResponse() {
+        return expenseMapper.toResponse(expense);
+    }
+
+    @Benchmark
+    public TransactionBaseResponseDto incomeToResponse() {
+        return incomeMapper.toResponse(income);
+    }
+
+    @Benchmark
+    public ExpenseEntity expenseFromCreateRequest() {
+        return expenseMapper.createExpenseFromRequest(createRequest);
+    }
+
+    @Benchmark
+    public IncomeEntity incomeFromCreateRequest() {
+        return incomeMapper.createIncomeFromRequest(createRequest);
+    }
+
+    @Benchmark
+    public UserResponseDto userToResponse() {
+        return userMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public UserEntity userFromCreateRequest() {
+        return userMapper.createUserFromRequest(createUserRequest, PLAIN_PASSWORD);
+    }
+}
@@ -0,0 +1,55 @@
+package app.benchmarks;
+
+import app.core.model.dto.TransactionBaseResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сериализация списка транзакций, как в ответе {@code GET /api/expenses}.
+ * <p>
+ * {@code ObjectMapper} собирается тем же {@link Jackson2ObjectMapperBuilder}, что и в приложении, а JSON пишется
+ * в поток, как {@code MappingJackson2HttpMessageConverter} пишет в ответ, без накопления массива байт
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TransactionBaseResponseDto> transactions;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build()
+                .writerFor(new TypeReference<List<TransactionBaseResponseDto>>() {
+                });
+        OffsetDateTime start = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionBaseResponseDto((long) i, BigDecimal.valueOf(100_00L + i, 2),
+                    "Category " + i % 20, start.plusMinutes(i), i % 3 == 0 ? null : "Description " + i));
+        }
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), transactions);
+    }
+}
@@ -0,0 +1,12 @@
+package app.core.api;
+
+import app.core.model.dto.AnalyticsSummaryResponseDto;
+
+/**
+ * Сервис агрегированной аналитики для дашборда: суммы считаются в БД, а не на клиенте
+ */
+public interface AnalyticsService {
+
+    AnalyticsSummaryResponseDto getSummary(String period, String zone);
+
+}
@@ -3,7 +3,8 @@ package app.core.api;
 import app.core.model.dto.AuthRequestDto;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
 
 public interface AuthService {
-    void authenticate(AuthRequestDto authRequest, HttpServletRequest request, HttpServletResponse response);
+    Authentication authenticate(AuthRequestDto authRequest, HttpServletRequest request, HttpServletResponse response);
 }
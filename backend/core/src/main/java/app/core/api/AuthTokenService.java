@@ -0,0 +1,23 @@
+package app.core.api;
+
+import app.core.model.UserEntity;
+import app.core.model.dto.TokenResponseDto;
+
+/**
+ * Access- и refresh-токены режима {@code authentication.mode=token}
+ */
+public interface AuthTokenService {
+
+    TokenResponseDto issue(UserEntity user);
+
+    /**
+     * Обменивает refresh-токен на новую пару, старый становится недействительным.
+     * Повторное предъявление уже обменянного токена отзывает все токены пользователя
+     */
+    TokenResponseDto refresh(String refreshToken);
+
+    /**
+     * Отзывает все access- и refresh-токены пользователя
+     */
+    void revokeAll(Long userId);
+}
@@ -2,6 +2,9 @@ package app.core.api;
 
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
 
 import java.util.List;
@@ -12,10 +15,14 @@ public interface ExpenseService {
 
     TransactionBaseResponseDto create(CreateTransactionBaseRequestDto expenseEntity);
 
+    TransactionBatchResponseDto createAll(List<CreateTransactionBaseRequestDto> expenseRequests, boolean atomic);
+
     void delete(Long id);
 
     TransactionBaseResponseDto update(Long id, UpdateTransactionBaseRequestDto expenseEntity);
 
-    List<TransactionBaseResponseDto> getAllUserExpenses();
+    List<TransactionBaseResponseDto> getAllUserExpenses(TransactionFilterDto filter);
+
+    TransactionPageResponseDto getUserExpensesPage(int limit, String after, TransactionFilterDto filter);
 
 }
@@ -2,6 +2,9 @@ package app.core.api;
 
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
 
 import java.util.List;
@@ -13,10 +16,14 @@ public interface IncomeService {
 
     TransactionBaseResponseDto create(CreateTransactionBaseRequestDto income);
 
+    TransactionBatchResponseDto createAll(List<CreateTransactionBaseRequestDto> incomeRequests, boolean atomic);
+
     void delete(Long id);
 
     TransactionBaseResponseDto update(Long id, UpdateTransactionBaseRequestDto income);
 
-    List<TransactionBaseResponseDto> getAllUserIncomes();
+    List<TransactionBaseResponseDto> getAllUserIncomes(TransactionFilterDto filter);
+
+    TransactionPageResponseDto getUserIncomesPage(int limit, String after, TransactionFilterDto filter);
 
 }
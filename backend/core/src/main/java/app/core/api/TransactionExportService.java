@@ -0,0 +1,16 @@
+package app.core.api;
+
+import app.core.model.export.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Выгрузка всей истории доходов и расходов текущего пользователя
+ */
+public interface TransactionExportService {
+
+    /**
+     * Пользователь определяется сразу, а строки читаются уже при записи тела ответа в асинхронном потоке
+     */
+    StreamingResponseBody export(ExportFormat format);
+
+}
@@ -0,0 +1,12 @@
+package app.core.api;
+
+import app.core.model.dto.TransactionHistoryPageResponseDto;
+
+/**
+ * Постраничный просмотр общей истории доходов и расходов текущего пользователя
+ */
+public interface TransactionHistoryService {
+
+    TransactionHistoryPageResponseDto getPage(int limit, String after);
+
+}
@@ -0,0 +1,22 @@
+package app.core.api;
+
+import app.core.model.dto.TransactionImportJobResponseDto;
+import app.core.model.imports.ImportFormat;
+
+import java.io.InputStream;
+
+/**
+ * Импорт банковских выписок в доходы и расходы текущего пользователя
+ */
+public interface TransactionImportService {
+
+    /**
+     * Сохраняет тело запроса во временный файл и ставит его разбор в очередь
+     *
+     * @param zone часовой пояс для дат выписки без смещения
+     */
+    TransactionImportJobResponseDto start(ImportFormat format, String zone, InputStream statement);
+
+    TransactionImportJobResponseDto getJob(String jobId);
+
+}
@@ -0,0 +1,55 @@
+package app.core.batch;
+
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Поэлементная валидация пакета транзакций.
+ * <p>
+ * В отличие от {@code @Valid} на теле запроса не прерывается на первом невалидном элементе,
+ * а возвращает ошибки каждого элемента по его индексу
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionBatchValidator {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final Validator validator;
+
+    /**
+     * @return ошибки по индексам элементов в порядке возрастания; пусто, если все элементы валидны
+     */
+    public Map<Integer, Map<String, String>> validate(List<CreateTransactionBaseRequestDto> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain from 1 to " + MAX_BATCH_SIZE + " items");
+        }
+        Map<Integer, Map<String, String>> errors = new TreeMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTransactionBaseRequestDto request = requests.get(i);
+            if (request == null) {
+                errors.put(i, Map.of("item", "must not be null"));
+                continue;
+            }
+            Map<String, String> itemErrors = validator.validate(request).stream()
+                    .collect(Collectors.toMap(
+                            violation -> violation.getPropertyPath().toString(),
+                            ConstraintViolation::getMessage,
+                            (first, second) -> first,
+                            TreeMap::new
+                    ));
+            if (!itemErrors.isEmpty()) {
+                errors.put(i, itemErrors);
+            }
+        }
+        return errors;
+    }
+}
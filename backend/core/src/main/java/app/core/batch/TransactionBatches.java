@@ -0,0 +1,63 @@
+package app.core.batch;
+
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchItemDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Сборка результата пакетного создания транзакций.
+ * <p>
+ * Ошибки адресуются индексом элемента в запросе, созданные элементы идут в порядке запроса
+ */
+public final class TransactionBatches {
+
+    private TransactionBatches() {
+    }
+
+    public static <T> List<T> validItems(List<T> requests, Map<Integer, Map<String, String>> errors) {
+        return IntStream.range(0, requests.size())
+                .filter(index -> !errors.containsKey(index))
+                .mapToObj(requests::get)
+                .toList();
+    }
+
+    public static TransactionBatchResponseDto rejected(Map<Integer, Map<String, String>> errors) {
+        List<TransactionBatchItemDto> items = errors.entrySet().stream()
+                .map(error -> TransactionBatchItemDto.builder().index(error.getKey()).errors(error.getValue()).build())
+                .toList();
+        return TransactionBatchResponseDto.builder()
+                .created(0)
+                .failed(errors.size())
+                .items(items)
+                .build();
+    }
+
+    /**
+     * @param created созданные элементы в порядке индексов запроса без ошибок
+     */
+    public static TransactionBatchResponseDto toResponse(int size,
+                                                         Map<Integer, Map<String, String>> errors,
+                                                         List<TransactionBaseResponseDto> created) {
+        List<TransactionBatchItemDto> items = new ArrayList<>(created.size() + errors.size());
+        Iterator<TransactionBaseResponseDto> createdItems = created.iterator();
+        for (int index = 0; index < size; index++) {
+            Map<String, String> itemErrors = errors.get(index);
+            if (itemErrors != null) {
+                items.add(TransactionBatchItemDto.builder().index(index).errors(itemErrors).build());
+            } else if (createdItems.hasNext()) {
+                items.add(TransactionBatchItemDto.builder().index(index).item(createdItems.next()).build());
+            }
+        }
+        return TransactionBatchResponseDto.builder()
+                .created(created.size())
+                .failed(errors.size())
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package app.core.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Кэши приложения; размер и время жизни задаются {@code spring.cache.caffeine.spec}.
+ * Прокси по классу: {@link app.core.service.UserServiceImpl} внедряется без интерфейса
+ */
+@Configuration
+@EnableCaching(proxyTargetClass = true)
+public class CacheConfig {
+
+    /**
+     * Пользователи по username: аутентификация remember-me читает пользователя на каждом запросе
+     */
+    public static final String USERS = "users";
+}
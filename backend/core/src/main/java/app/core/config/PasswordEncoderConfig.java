@@ -1,14 +1,45 @@
 package app.core.config;
 
+import app.core.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 
+import java.util.Map;
+
+/**
+ * Пароли хешируются BCrypt со стоимостью {@code authentication.password.bcrypt-strength}.
+ * <p>
+ * Новые хеши пишутся с префиксом {@code {bcrypt}} ({@link DelegatingPasswordEncoder}). Хеши без префикса, созданные
+ * до него, проверяются тем же BCrypt. При следующем входе перехешируются только хеши меньшей стоимости, с префиксом
+ * или без, см. {@link app.core.service.UserServiceImpl#updatePassword}: remember-me cookie подписана хешем пароля,
+ * и новый хеш ее отзывает, поэтому ради одного префикса хеш не переписывается. Бин объявлен своим классом, чтобы Spring Boot нашел
+ * в нем {@link io.micrometer.core.instrument.binder.MeterBinder} и зарегистрировал метрики хеширования
+ */
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT = "bcrypt";
+    private static final String PREFIX = "{";
+
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${authentication.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${authentication.password.hashing-threads:2}") int threads,
+                                                  @Value("${authentication.password.hashing-queue-capacity:20}") int queueCapacity) {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegatingPasswordEncoder =
+                new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bCryptPasswordEncoder)) {
+                    @Override
+                    public boolean upgradeEncoding(String prefixEncodedPassword) {
+                        if (prefixEncodedPassword != null && !prefixEncodedPassword.startsWith(PREFIX)) {
+                            return bCryptPasswordEncoder.upgradeEncoding(prefixEncodedPassword);
+                        }
+                        return super.upgradeEncoding(prefixEncodedPassword);
+                    }
+                };
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, queueCapacity);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package app.core.config;
+
+import app.core.security.ratelimit.InMemoryRateLimitStore;
+import app.core.security.ratelimit.RateLimitStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Хранилище ведер {@link app.core.security.ratelimit.LoginRateLimiter}, выбирается {@code authentication.rate-limit.store}
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * Ведро простаивает не дольше, чем наполняется самый медленный лимит: после этого оно полное и не нужно
+     */
+    @Bean
+    @ConditionalOnProperty(name = "authentication.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+    public RateLimitStore inMemoryRateLimitStore(
+            @Value("${authentication.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${authentication.rate-limit.username.capacity:10}") int usernameCapacity,
+            @Value("${authentication.rate-limit.username.refill-period:30s}") Duration usernameRefillPeriod,
+            @Value("${authentication.rate-limit.address.capacity:30}") int addressCapacity,
+            @Value("${authentication.rate-limit.address.refill-period:2s}") Duration addressRefillPeriod) {
+        Duration usernameRefill = usernameRefillPeriod.multipliedBy(usernameCapacity);
+        Duration addressRefill = addressRefillPeriod.multipliedBy(addressCapacity);
+        return new InMemoryRateLimitStore(maxKeys,
+                usernameRefill.compareTo(addressRefill) > 0 ? usernameRefill : addressRefill);
+    }
+}
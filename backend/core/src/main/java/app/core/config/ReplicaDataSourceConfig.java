@@ -0,0 +1,79 @@
+package app.core.config;
+
+import app.core.datasource.ReadYourWritesAspect;
+import app.core.datasource.ReadYourWritesTracker;
+import app.core.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Чтение с реплики PostgreSQL, включается профилем {@code replica} ({@code datasource.replica.enabled=true}).
+ * <p>
+ * Транзакции {@code @Transactional(readOnly = true)} (списки, аналитика, профиль) берут соединение из пула реплики,
+ * остальные — из основного пула. Соединение берется при первом операторе, а не в начале транзакции
+ * ({@link LazyConnectionDataSourceProxy}), поэтому профиль выключает open-in-view: иначе первое соединение запроса
+ * удерживалось бы до его конца, и запись после чтения пошла бы на реплику. Liquibase, Spring Session и остальные потребители {@link DataSource} работают с основной БД
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Основной пул с настройками {@code spring.datasource}, как его создала бы автоконфигурация
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Адрес, учетная запись и размер пула реплики задаются {@code datasource.replica.hikari}
+     */
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.getDriverClassName())
+                .build();
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.read-your-writes.window:5s}") Duration window,
+            @Value("${datasource.replica.read-your-writes.max-users:100000}") long maxUsers) {
+        return new ReadYourWritesTracker(window, maxUsers);
+    }
+
+    @Bean
+    public ReadYourWritesAspect readYourWritesAspect(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesAspect(readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("Replica routing requires spring.jpa.open-in-view=false, activate the 'replica' profile");
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker));
+        return dataSource;
+    }
+}
@@ -1,8 +1,13 @@
 package app.core.config;
 
+import app.core.security.AccessTokenAuthenticationConverter;
+import app.core.security.SessionUsernameSecurityContextRepository;
+import app.core.security.TokenRevocationList;
 import app.core.service.UserServiceImpl;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,17 +19,31 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 import org.springframework.security.config.annotation.web.configurers.RequestCacheConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.NullRememberMeServices;
 import org.springframework.security.web.authentication.RememberMeServices;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.security.web.authentication.rememberme.TokenBasedRememberMeServices;
-import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -33,7 +52,9 @@ public class SecurityConfig {
 
     private final UserServiceImpl userService;
     private final HandlerExceptionResolver handlerExceptionResolver;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
+
+    private static final int MIN_ACCESS_TOKEN_KEY_BYTES = 32;
 
     @Value("${authentication.remember-me.key}")
     private String rememberMeKey;
@@ -42,19 +63,15 @@ public class SecurityConfig {
     private Integer rememberMeExp;
 
     @Bean
-    public SecurityFilterChain sessionBasedAuthFilterChain(HttpSecurity http) throws Exception {
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "session", matchIfMissing = true)
+    public SecurityFilterChain sessionBasedAuthFilterChain(HttpSecurity http, SecurityContextRepository securityContextRepository) throws Exception {
         return http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .authenticationProvider(authenticationProvider(true))
-                .securityContext(context -> context.securityContextRepository(securityContextRepository()))
+                .securityContext(context -> context.securityContextRepository(securityContextRepository))
                 .requestCache(RequestCacheConfigurer::disable)
-                .authorizeHttpRequests(req -> req
-                        .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/internal/**").permitAll()
-                        .requestMatchers("/scalar/**","/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs", "/v3/api-docs/**", "/webjars/**", "/favicon/**").permitAll()
-                        .anyRequest().authenticated()
-                )
+                .authorizeHttpRequests(this::authorizeRequests)
                 .rememberMe(remember -> remember
                         .rememberMeServices(rememberMeServices())
                 )
@@ -70,21 +87,99 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Без сессии и remember-me: access-токен из заголовка {@code Authorization: Bearer} проверяется по подписи,
+     * сроку и {@link TokenRevocationList}, principal собирается из claims без обращения к БД.
+     * Выход — удаление токенов на клиенте: {@code /api/auth/logout} отвечает как в сессионном режиме, но токены не отзывает
+     */
+    @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+    public SecurityFilterChain tokenBasedAuthFilterChain(HttpSecurity http, SecurityContextRepository securityContextRepository,
+                                                         JwtDecoder jwtDecoder) throws Exception {
+        return http
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .authenticationProvider(authenticationProvider(true))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(securityContextRepository))
+                .requestCache(RequestCacheConfigurer::disable)
+                .authorizeHttpRequests(this::authorizeRequests)
+                .oauth2ResourceServer(resourceServer -> resourceServer
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(new AccessTokenAuthenticationConverter()))
+                        .authenticationEntryPoint(authenticationEntryPoint())
+                )
+                .logout(logout -> logout
+                        .logoutUrl("/api/auth/logout")
+                        .logoutSuccessHandler(logoutSuccessHandler()))
+                .exceptionHandling(e -> e
+                        .authenticationEntryPoint(authenticationEntryPoint())
+                )
+                .build();
+    }
+
+    private void authorizeRequests(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry req) {
+        req
+                .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/internal/**").permitAll()
+                .requestMatchers("/scalar/**","/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs", "/v3/api-docs/**", "/webjars/**", "/favicon/**").permitAll()
+                .anyRequest().authenticated();
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
     }
 
     @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "session", matchIfMissing = true)
     public SecurityContextRepository securityContextRepository() {
-        return new HttpSessionSecurityContextRepository();
+        return new SessionUsernameSecurityContextRepository(userService);
+    }
+
+    /**
+     * Контекст живет только в рамках запроса: вход через {@code AuthServiceImpl} не создает сессию
+     */
+    @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+    public SecurityContextRepository requestSecurityContextRepository() {
+        return new RequestAttributeSecurityContextRepository();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+    public SecretKey accessTokenKey(@Value("${authentication.token.secret}") String secret) {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_ACCESS_TOKEN_KEY_BYTES) {
+            throw new IllegalStateException("authentication.token.secret must be at least "
+                    + MIN_ACCESS_TOKEN_KEY_BYTES + " bytes for HS256");
+        }
+        return new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+    public JwtEncoder jwtEncoder(SecretKey accessTokenKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(accessTokenKey));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+    public JwtDecoder jwtDecoder(SecretKey accessTokenKey, TokenRevocationList tokenRevocationList) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(accessTokenKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), tokenRevocationList));
+        return decoder;
     }
 
     @Bean
     public AuthenticationProvider authenticationProvider(@Value("${authentication.hide-usernotfound-exceptions:true}") boolean hideUserNotFoundExceptions) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userService);
-        authenticationProvider.setPasswordEncoder(bCryptPasswordEncoder);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setUserDetailsPasswordService(userService);
         authenticationProvider.setHideUserNotFoundExceptions(hideUserNotFoundExceptions);
         return authenticationProvider;
     }
@@ -104,6 +199,13 @@ public class SecurityConfig {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+    public RememberMeServices nullRememberMeServices() {
+        return new NullRememberMeServices();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "authentication.mode", havingValue = "session", matchIfMissing = true)
     public RememberMeServices rememberMeServices() {
         TokenBasedRememberMeServices rememberMeServices =
                 new TokenBasedRememberMeServices(rememberMeKey, userService);
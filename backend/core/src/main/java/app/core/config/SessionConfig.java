@@ -0,0 +1,67 @@
+package app.core.config;
+
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import java.time.Duration;
+
+/**
+ * HTTP-сессии в PostgreSQL (Spring Session JDBC), включается {@code session.store=jdbc}.
+ * <p>
+ * Сессия переживает перезапуск и видна всем экземплярам backend за балансировщиком без sticky sessions.
+ * Автоконфигурация Spring Session в Spring Boot отключена в application.yml: она включила бы JDBC-хранилище
+ * по одному наличию зависимости, а по умолчанию сессии остаются в памяти Tomcat
+ */
+@Configuration
+@ConditionalOnProperty(name = "session.store", havingValue = "jdbc")
+@EnableJdbcHttpSession
+public class SessionConfig {
+
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+            @Value("${session.jdbc.table-name}") String tableName,
+            @Value("${session.jdbc.flush-mode}") FlushMode flushMode,
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        return repository -> {
+            repository.setTableName(tableName);
+            repository.setFlushMode(flushMode);
+            repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
+            repository.setDefaultMaxInactiveInterval(timeout);
+        };
+    }
+
+    /**
+     * Cookie называется как у Tomcat, чтобы logout и клиенты не зависели от режима хранения
+     */
+    @Bean
+    public CookieSerializer cookieSerializer() {
+        DefaultCookieSerializer serializer = new DefaultCookieSerializer();
+        serializer.setCookieName("JSESSIONID");
+        serializer.setUseHttpOnlyCookie(true);
+        return serializer;
+    }
+
+    /**
+     * Фильтр нужен и на ASYNC/ERROR-диспетчеризации: иначе Spring Security не увидит сессию
+     * при завершении потоковой выгрузки и при обработке ошибок
+     */
+    @Bean
+    public FilterRegistrationBean<SessionRepositoryFilter<?>> sessionRepositoryFilterRegistration(SessionRepositoryFilter<?> filter) {
+        FilterRegistrationBean<SessionRepositoryFilter<?>> registration = new FilterRegistrationBean<>(filter);
+        registration.setDispatcherTypes(DispatcherType.ASYNC, DispatcherType.ERROR, DispatcherType.REQUEST);
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER);
+        return registration;
+    }
+}
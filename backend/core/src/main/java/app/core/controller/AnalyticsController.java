@@ -0,0 +1,47 @@
+package app.core.controller;
+
+import app.core.api.AnalyticsService;
+import app.core.errorhandling.model.CommonExceptionJson;
+import app.core.model.dto.AnalyticsSummaryResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/analytics")
+@Tag(name = "api.analytics.tag", description = "api.analytics.tag.description")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/summary")
+    @Operation(summary = "api.analytics.summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.analytics.summary.success",
+                    content = @Content(schema = @Schema(implementation = AnalyticsSummaryResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<AnalyticsSummaryResponseDto> getSummary(@RequestParam(defaultValue = "month") String period,
+                                                                  @RequestParam(defaultValue = "UTC") String zone) {
+        return ResponseEntity.ok(analyticsService.getSummary(period, zone));
+    }
+}
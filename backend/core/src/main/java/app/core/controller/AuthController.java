@@ -2,9 +2,14 @@ package app.core.controller;
 
 import app.core.errorhandling.model.CommonExceptionJson;
 import app.core.errorhandling.model.ValidationExceptionJson;
+import app.core.model.UserEntity;
 import app.core.model.dto.AuthRequestDto;
 import app.core.model.dto.CreateUserRequestDto;
+import app.core.model.dto.RefreshTokenRequestDto;
+import app.core.model.dto.TokenResponseDto;
+import app.core.security.ratelimit.LoginRateLimiter;
 import app.core.service.AuthServiceImpl;
+import app.core.service.AuthTokenServiceImpl;
 import app.core.service.UserManagementServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +21,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -31,42 +39,85 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
     private final AuthServiceImpl authService;
     private final UserManagementServiceImpl userManagementService;
+    private final LoginRateLimiter loginRateLimiter;
+    /**
+     * Есть только при {@code authentication.mode=token}
+     */
+    private final ObjectProvider<AuthTokenServiceImpl> authTokenService;
 
     @PostMapping(value = "/login", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "api.auth.login")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "api.auth.login.success"),
+            @ApiResponse(responseCode = "200", description = "api.auth.login.success",
+                    content = @Content(schema = @Schema(implementation = TokenResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "error.validation",
                     content = @Content(schema = @Schema(implementation = ValidationExceptionJson.class))),
             @ApiResponse(responseCode = "401", description = "api.auth.login.failed",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "429", description = "api.auth.rate.limited",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "500", description = "error.internal.server",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
     })
-    public ResponseEntity<Void> login(@Valid @RequestBody AuthRequestDto authRequest, HttpServletRequest request, HttpServletResponse response) {
-        authService.authenticate(authRequest, request, response);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<TokenResponseDto> login(@Valid @RequestBody AuthRequestDto authRequest, HttpServletRequest request, HttpServletResponse response) {
+        loginRateLimiter.acquire("login", authRequest.username(), request.getRemoteAddr());
+        Authentication authentication = authService.authenticate(authRequest, request, response);
+        return ResponseEntity.ok(issueTokens(authentication));
     }
 
     @PostMapping(value = "/signup", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "api.auth.signup")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "api.auth.signup.success"),
+            @ApiResponse(responseCode = "201", description = "api.auth.signup.success",
+                    content = @Content(schema = @Schema(implementation = TokenResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "error.validation",
                     content = @Content(schema = @Schema(implementation = ValidationExceptionJson.class))),
             @ApiResponse(responseCode = "409", description = "api.auth.user.exists",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "429", description = "api.auth.rate.limited",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "500", description = "error.internal.server",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
     })
-    public ResponseEntity<Void> signUp(@Valid @RequestBody CreateUserRequestDto registerRequest, HttpServletRequest request, HttpServletResponse response) {
+    public ResponseEntity<TokenResponseDto> signUp(@Valid @RequestBody CreateUserRequestDto registerRequest, HttpServletRequest request, HttpServletResponse response) {
+        loginRateLimiter.acquire("signup", registerRequest.username(), request.getRemoteAddr());
         userManagementService.createUser(registerRequest);
         AuthRequestDto authRequest = new AuthRequestDto(registerRequest.username(), registerRequest.password(), false);
-        authService.authenticate(authRequest, request, response);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        Authentication authentication = authService.authenticate(authRequest, request, response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(issueTokens(authentication));
+    }
+
+    @PostMapping(value = "/refresh", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "api.auth.refresh")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.auth.refresh.success",
+                    content = @Content(schema = @Schema(implementation = TokenResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = ValidationExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "api.auth.refresh.failed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto refreshRequest) {
+        AuthTokenServiceImpl tokenService = authTokenService.getIfAvailable();
+        if (tokenService == null) {
+            throw new BadCredentialsException("Token authentication is disabled");
+        }
+        return ResponseEntity.ok(tokenService.refresh(refreshRequest.refreshToken()));
+    }
+
+    /**
+     * @return пара токенов в режиме {@code authentication.mode=token}, в сессионном режиме тела нет
+     */
+    private TokenResponseDto issueTokens(Authentication authentication) {
+        AuthTokenServiceImpl tokenService = authTokenService.getIfAvailable();
+        return tokenService == null ? null : tokenService.issue((UserEntity) authentication.getPrincipal());
     }
 }
\ No newline at end of file
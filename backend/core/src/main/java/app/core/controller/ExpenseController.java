@@ -5,6 +5,9 @@ import app.core.errorhandling.model.CommonExceptionJson;
 import app.core.errorhandling.model.ValidationExceptionJson;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -70,6 +74,30 @@ public class ExpenseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(expenseService.create(expenseEntity));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "api.expenses.create.batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "api.expenses.create.batch.success",
+                    content = @Content(schema = @Schema(implementation = TransactionBatchResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "api.expenses.create.batch.rejected",
+                    content = @Content(schema = @Schema(implementation = TransactionBatchResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "409", description = "error.conflict",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<TransactionBatchResponseDto> createBatch(@RequestBody List<CreateTransactionBaseRequestDto> expenseRequests,
+                                                                   @RequestParam(defaultValue = "false") boolean atomic) {
+        TransactionBatchResponseDto result = expenseService.createAll(expenseRequests, atomic);
+        return ResponseEntity.status(result.created() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST).body(result);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "api.expenses.delete")
     @ApiResponses(value = {
@@ -119,6 +147,28 @@ public class ExpenseController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "api.expenses.get.all.success",
                     content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = ValidationExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<List<TransactionBaseResponseDto>> getAllUserExpense(@ParameterObject TransactionFilterDto filter) {
+        return ResponseEntity.ok(expenseService.getAllUserExpenses(filter));
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(summary = "api.expenses.get.page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.expenses.get.page.success",
+                    content = @Content(schema = @Schema(implementation = TransactionPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "401", description = "error.unauthorized",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "403", description = "error.forbidden",
@@ -128,7 +178,8 @@ public class ExpenseController {
             @ApiResponse(responseCode = "500", description = "error.internal.server",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
     })
-    public ResponseEntity<List<TransactionBaseResponseDto>> getAllUserExpense() {
-        return ResponseEntity.ok(expenseService.getAllUserExpenses());
+    public ResponseEntity<TransactionPageResponseDto> getUserExpensePage(@RequestParam int limit, @RequestParam(required = false) String after,
+                                                                         @ParameterObject TransactionFilterDto filter) {
+        return ResponseEntity.ok(expenseService.getUserExpensesPage(limit, after, filter));
     }
 }
\ No newline at end of file
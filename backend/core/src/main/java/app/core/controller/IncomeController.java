@@ -5,6 +5,9 @@ import app.core.errorhandling.model.CommonExceptionJson;
 import app.core.errorhandling.model.ValidationExceptionJson;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -70,6 +74,30 @@ public class IncomeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(incomeService.create(incomeEntity));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "api.incomes.create.batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "api.incomes.create.batch.success",
+                    content = @Content(schema = @Schema(implementation = TransactionBatchResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "api.incomes.create.batch.rejected",
+                    content = @Content(schema = @Schema(implementation = TransactionBatchResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "409", description = "error.conflict",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<TransactionBatchResponseDto> createBatch(@RequestBody List<CreateTransactionBaseRequestDto> incomeRequests,
+                                                                   @RequestParam(defaultValue = "false") boolean atomic) {
+        TransactionBatchResponseDto result = incomeService.createAll(incomeRequests, atomic);
+        return ResponseEntity.status(result.created() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST).body(result);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "api.incomes.delete")
     @ApiResponses(value = {
@@ -119,6 +147,28 @@ public class IncomeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "api.incomes.get.all.success",
                     content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = ValidationExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<List<TransactionBaseResponseDto>> getAllUserIncome(@ParameterObject TransactionFilterDto filter) {
+        return ResponseEntity.ok(incomeService.getAllUserIncomes(filter));
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(summary = "api.incomes.get.page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.incomes.get.page.success",
+                    content = @Content(schema = @Schema(implementation = TransactionPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "401", description = "error.unauthorized",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
             @ApiResponse(responseCode = "403", description = "error.forbidden",
@@ -128,7 +178,8 @@ public class IncomeController {
             @ApiResponse(responseCode = "500", description = "error.internal.server",
                     content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
     })
-    public ResponseEntity<List<TransactionBaseResponseDto>> getAllUserIncome() {
-        return ResponseEntity.ok(incomeService.getAllUserIncomes());
+    public ResponseEntity<TransactionPageResponseDto> getUserIncomePage(@RequestParam int limit, @RequestParam(required = false) String after,
+                                                                        @ParameterObject TransactionFilterDto filter) {
+        return ResponseEntity.ok(incomeService.getUserIncomesPage(limit, after, filter));
     }
 }
\ No newline at end of file
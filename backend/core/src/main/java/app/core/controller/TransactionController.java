@@ -0,0 +1,146 @@
+package app.core.controller;
+
+import app.core.api.TransactionExportService;
+import app.core.api.TransactionHistoryService;
+import app.core.api.TransactionImportService;
+import app.core.errorhandling.model.CommonExceptionJson;
+import app.core.model.dto.TransactionExportItemDto;
+import app.core.model.dto.TransactionHistoryPageResponseDto;
+import app.core.model.dto.TransactionImportJobResponseDto;
+import app.core.model.export.ExportFormat;
+import app.core.model.imports.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/transactions")
+@Tag(name = "api.transactions.tag", description = "api.transactions.tag.description")
+public class TransactionController {
+
+    private final TransactionHistoryService transactionHistoryService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionImportService transactionImportService;
+
+    @GetMapping
+    @Operation(summary = "api.transactions.get.page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.transactions.get.page.success",
+                    content = @Content(schema = @Schema(implementation = TransactionHistoryPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<TransactionHistoryPageResponseDto> getPage(@RequestParam(defaultValue = "50") int limit,
+                                                                     @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(transactionHistoryService.getPage(limit, after));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "api.transactions.export")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.transactions.export.success",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TransactionExportItemDto.class)),
+                            @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+                    }),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.fileName()).build().toString())
+                .body(transactionExportService.export(exportFormat));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ofx", MediaType.TEXT_PLAIN_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "api.transactions.import",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = {
+                    @Content(mediaType = "text/csv", schema = @Schema(type = "string")),
+                    @Content(mediaType = "application/x-ofx", schema = @Schema(type = "string"))
+            }))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "api.transactions.import.accepted",
+                    content = @Content(schema = @Schema(implementation = TransactionImportJobResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "error.validation",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "415", description = "error.unsupported.media.type",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "429", description = "error.too.many.requests",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<TransactionImportJobResponseDto> importStatement(@RequestParam(defaultValue = "csv") String format,
+                                                                           @RequestParam(defaultValue = "UTC") String zone,
+                                                                           InputStream statement) {
+        TransactionImportJobResponseDto job = transactionImportService.start(ImportFormat.fromValue(format), zone, statement);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/transactions/import/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "api.transactions.import.job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "api.transactions.import.job.success",
+                    content = @Content(schema = @Schema(implementation = TransactionImportJobResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "error.unauthorized",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "403", description = "error.forbidden",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "404", description = "api.transactions.import.job.not.found",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "405", description = "error.method.not.allowed",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class))),
+            @ApiResponse(responseCode = "500", description = "error.internal.server",
+                    content = @Content(schema = @Schema(implementation = CommonExceptionJson.class)))
+    })
+    public ResponseEntity<TransactionImportJobResponseDto> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(transactionImportService.getJob(jobId));
+    }
+}
@@ -0,0 +1,45 @@
+package app.core.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+/**
+ * Отмечает в {@link ReadYourWritesTracker} успешные изменяющие вызовы сервисов {@code app.core.api}, то есть методы
+ * с {@code @Transactional} без {@code readOnly}. Аспект снаружи транзакционного прокси (его порядок {@code LOWEST_PRECEDENCE}):
+ * к моменту отметки запись закоммичена.
+ * <p>
+ * Записи сессий Spring Session JDBC и фоновых задач сюда не попадают, иначе каждый запрос читал бы с основной БД
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ReadYourWritesAspect {
+
+    private final TransactionAttributeSource transactionAttributeSource = new AnnotationTransactionAttributeSource();
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @AfterReturning("execution(public * app.core.api.*Service+.*(..))")
+    public void recordWrite(JoinPoint joinPoint) {
+        if (isReadWrite(joinPoint)) {
+            readYourWritesTracker.recordWrite();
+        } else {
+            readYourWritesTracker.recordAuthenticationAfterWrite();
+        }
+    }
+
+    private boolean isReadWrite(JoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        TransactionAttribute attribute = transactionAttributeSource.getTransactionAttribute(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        return attribute != null && !attribute.isReadOnly();
+    }
+}
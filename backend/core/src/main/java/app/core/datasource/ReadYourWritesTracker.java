@@ -0,0 +1,86 @@
+package app.core.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Окно read-your-writes: пока реплика может отставать, чтения пользователя после его собственной записи идут на основную БД.
+ * <p>
+ * Окно отсчитывается от последней записи пользователя и хранится в памяти экземпляра, у каждого экземпляра backend свое.
+ * Внутри HTTP-запроса с записью на основную БД идут все последующие чтения, в том числе до аутентификации:
+ * регистрация сразу входит созданным пользователем
+ */
+public class ReadYourWritesTracker {
+
+    static final String WRITTEN_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WRITTEN";
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxUsers) {
+        this(window, maxUsers, Ticker.systemTicker());
+    }
+
+    public ReadYourWritesTracker(Duration window, long maxUsers, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Запись закоммичена: отмечает текущий HTTP-запрос и открывает окно текущему пользователю
+     */
+    public void recordWrite() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        openWindow();
+    }
+
+    /**
+     * Открывает окно пользователю, вошедшему после записи в том же запросе (регистрация)
+     */
+    public void recordAuthenticationAfterWrite() {
+        if (isWrittenInRequest()) {
+            openWindow();
+        }
+    }
+
+    public boolean isPrimaryRequired() {
+        if (isWrittenInRequest()) {
+            return true;
+        }
+        String username = currentUsername();
+        return username != null && recentWriters.getIfPresent(username) != null;
+    }
+
+    private void openWindow() {
+        String username = currentUsername();
+        if (username != null) {
+            recentWriters.put(username, Boolean.TRUE);
+        }
+    }
+
+    private static boolean isWrittenInRequest() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null && request.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return TRUST_RESOLVER.isAuthenticated(authentication) ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package app.core.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Соединения транзакций {@code readOnly}: из пула реплики, а в окне {@link ReadYourWritesTracker} — из основного пула.
+ * Подключается через {@link LazyConnectionDataSourceProxy#setReadOnlyDataSource}, поэтому пул выбирается
+ * при первом операторе транзакции, когда признак {@code readOnly} уже выставлен на соединении
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return readYourWritesTracker.isPrimaryRequired() ? Target.PRIMARY : Target.REPLICA;
+    }
+}
@@ -1,13 +1,17 @@
 package app.core.errorhandling;
 
 import app.core.errorhandling.exceptions.MethodNotSupportedException;
+import app.core.errorhandling.exceptions.PasswordHashingBusyException;
+import app.core.errorhandling.exceptions.RateLimitExceededException;
 import app.core.errorhandling.exceptions.UserAlreadyExistsException;
 import app.core.errorhandling.model.CommonExceptionJson;
 import app.core.errorhandling.model.ValidationExceptionJson;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -15,13 +19,17 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.MethodNotAllowedException;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -58,6 +66,11 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.UNAUTHORIZED, "Insufficient authentication", e);
     }
 
+    @ExceptionHandler(OAuth2AuthenticationException.class)
+    public ResponseEntity<CommonExceptionJson> oAuth2AuthenticationExceptionHandler(OAuth2AuthenticationException e) {
+        return buildResponse(HttpStatus.UNAUTHORIZED, "Invalid token", e);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<CommonExceptionJson> entityNotFoundExceptionHandler(EntityNotFoundException e) {
         return buildResponse(HttpStatus.NOT_FOUND, "Element not found", e);
@@ -88,6 +101,34 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Wrong data", e);
     }
 
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<CommonExceptionJson> httpMediaTypeNotSupportedExceptionHandler(HttpMediaTypeNotSupportedException e) {
+        return buildResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported content type", e);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<CommonExceptionJson> taskRejectedExceptionHandler(TaskRejectedException e) {
+        return buildResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many background tasks", e);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<CommonExceptionJson> rateLimitExceededExceptionHandler(RateLimitExceededException e) {
+        return buildTooManyRequestsResponse("Too many login attempts", e.getRetryAfter(), e);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<CommonExceptionJson> passwordHashingBusyExceptionHandler(PasswordHashingBusyException e) {
+        return buildTooManyRequestsResponse("Too many password checks", e.getRetryAfter(), e);
+    }
+
+    /**
+     * Нет свободного соединения в пуле за {@code spring.datasource.hikari.connection-timeout} или БД недоступна
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<CommonExceptionJson> cannotCreateTransactionExceptionHandler(CannotCreateTransactionException e) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Database is unavailable", e);
+    }
+
     @ExceptionHandler({HttpRequestMethodNotSupportedException.class, MethodNotSupportedException.class})
     public ResponseEntity<CommonExceptionJson> httpRequestMethodNotSupportedExceptionHandler(Exception e) {
         return buildResponse(HttpStatus.METHOD_NOT_ALLOWED, "There is no such http method", e);
@@ -100,6 +141,14 @@ public class GlobalExceptionHandler {
                 .body(CommonExceptionJson.builder().msg("Something went wrong").cause(e.getMessage()).build());
     }
 
+    private ResponseEntity<CommonExceptionJson> buildTooManyRequestsResponse(String msg, Duration retryAfter, Exception e) {
+        log.warn("{}: {}.", e.getClass().getSimpleName(), e.getMessage());
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(CommonExceptionJson.builder().msg(msg).cause(e.getMessage()).build());
+    }
+
     private ResponseEntity<CommonExceptionJson> buildResponse(HttpStatus status, String msg, Exception e) {
         log.error("{}: {}.", e.getClass().getSimpleName(), e.getMessage());
         return ResponseEntity.status(status)
@@ -0,0 +1,18 @@
+package app.core.errorhandling.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+    /**
+     * Через сколько стоит повторить запрос, отдается в заголовке {@code Retry-After}
+     */
+    private final Duration retryAfter;
+
+    public PasswordHashingBusyException(String s, Duration retryAfter, Throwable cause) {
+        super(s, cause);
+        this.retryAfter = retryAfter;
+    }
+}
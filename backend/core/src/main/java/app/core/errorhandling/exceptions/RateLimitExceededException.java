@@ -0,0 +1,18 @@
+package app.core.errorhandling.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    /**
+     * Через сколько появится следующая попытка, отдается в заголовке {@code Retry-After}
+     */
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String s, Duration retryAfter) {
+        super(s);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,230 @@
+package app.core.imports;
+
+import app.core.model.analytics.TransactionKind;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CSV-выписка с заголовком, экранирование по RFC 4180, разделитель {@code ,} или {@code ;} определяется по заголовку.
+ * <p>
+ * Обязательные колонки: {@code amount}, {@code category}, {@code createDate} (или {@code date}).
+ * Если колонки {@code kind} нет, вид транзакции определяется знаком суммы.
+ * Формат совпадает с выгрузкой {@code /api/transactions/export?format=csv}, колонка {@code id} игнорируется
+ */
+class CsvStatementReader implements StatementReader {
+
+    private static final String FORMULA_PREFIXES = "=+-@";
+
+    private final BufferedReader reader;
+    private final ZoneId zone;
+    private final char delimiter;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+
+    CsvStatementReader(Reader reader, ZoneId zone) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.zone = zone;
+        String header = this.reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV statement is empty");
+        }
+        header = header.replace("\uFEFF", "");
+        delimiter = header.chars().filter(c -> c == ';').count() > header.chars().filter(c -> c == ',').count() ? ';' : ',';
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(normalize(names.get(i)), i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String required : List.of("amount", "category", "createDate")) {
+            if (!columns.containsKey(normalize(required))) {
+                missing.add(required);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV statement has no columns " + missing);
+        }
+    }
+
+    @Override
+    public StatementRecord read() throws IOException {
+        List<String> values;
+        long recordLine;
+        do {
+            line++;
+            recordLine = line;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+        return toRecord(recordLine, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private StatementRecord toRecord(long recordLine, List<String> values) {
+        Map<String, String> errors = new TreeMap<>();
+        BigDecimal amount = null;
+        String amountValue = StatementFields.emptyToNull(value(values, "amount"));
+        if (amountValue != null) {
+            try {
+                amount = StatementFields.parseAmount(amountValue);
+            } catch (NumberFormatException e) {
+                errors.put("amount", "must be a number");
+            }
+        }
+        OffsetDateTime createDate = null;
+        String dateValue = StatementFields.emptyToNull(value(values, "createdate"));
+        if (dateValue != null) {
+            try {
+                createDate = parseDate(dateValue);
+            } catch (DateTimeParseException e) {
+                errors.put("createDate", "must be an ISO-8601 date");
+            }
+        }
+        TransactionKind kind = null;
+        String kindValue = StatementFields.emptyToNull(value(values, "kind"));
+        if (kindValue != null) {
+            try {
+                kind = TransactionKind.valueOf(kindValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                errors.put("kind", "must be EXPENSE or INCOME");
+            }
+        }
+        if (!errors.isEmpty()) {
+            return StatementRecord.rejected(recordLine, errors);
+        }
+        String category = unguard(StatementFields.emptyToNull(value(values, "category")));
+        String description = unguard(StatementFields.emptyToNull(value(values, "description")));
+        if (kind == null && amount != null) {
+            return StatementFields.bySign(recordLine, amount, category, createDate, description);
+        }
+        return StatementRecord.parsed(recordLine, kind == null ? TransactionKind.EXPENSE : kind,
+                new CreateTransactionBaseRequestDto(amount, category, createDate, description));
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    /**
+     * Полная дата со смещением, локальные дата и время или только дата; без смещения берется {@link #zone}
+     */
+    private OffsetDateTime parseDate(String value) {
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+            // дата без смещения
+        }
+        try {
+            return LocalDateTime.parse(value).atZone(zone).toOffsetDateTime();
+        } catch (DateTimeParseException ignored) {
+            // только дата
+        }
+        return LocalDate.parse(value).atStartOfDay(zone).toOffsetDateTime();
+    }
+
+    /**
+     * Снимает префикс {@code '}, которым выгрузка защищает значения от вычисления как формулы
+     */
+    private static String unguard(String value) {
+        if (value != null && value.length() > 1 && value.charAt(0) == '\'' && FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    private static String normalize(String column) {
+        String name = column.strip().toLowerCase(Locale.ROOT);
+        return switch (name) {
+            case "date", "create_date" -> "createdate";
+            case "type" -> "kind";
+            case "memo" -> "description";
+            default -> name;
+        };
+    }
+
+    private List<String> split(String header) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == delimiter && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Одна запись RFC 4180: значение в кавычках может содержать разделитель, кавычки ({@code ""}) и переводы строк
+     *
+     * @return значения записи или {@code null} в конце файла
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    value.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,81 @@
+package app.core.imports;
+
+import app.core.model.imports.ImportFormat;
+import app.core.model.imports.ImportJobStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Прогресс импорта одной выписки.
+ * <p>
+ * Пишет только поток импорта, читают запросы прогресса, поэтому изменения и снимок ошибок синхронизированы
+ */
+@Getter
+public class ImportJob {
+
+    /**
+     * Сколько ошибок по строкам хранится для ответа; остальные только подсчитываются
+     */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final String id;
+    private final Long userId;
+    private final ImportFormat format;
+    private final Instant createdAt;
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile long imported;
+    private volatile long failed;
+    private volatile String message;
+    private volatile Instant finishedAt;
+    @Getter(AccessLevel.NONE)
+    private final List<LineErrors> errors = new ArrayList<>();
+
+    public ImportJob(String id, Long userId, ImportFormat format, Instant createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.format = format;
+        this.createdAt = createdAt;
+    }
+
+    public synchronized void start() {
+        status = ImportJobStatus.RUNNING;
+    }
+
+    public synchronized void addImported(long count) {
+        imported += count;
+    }
+
+    public synchronized void reject(long line, Map<String, String> lineErrors) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new LineErrors(line, lineErrors));
+        }
+    }
+
+    public synchronized void complete(Instant now) {
+        status = ImportJobStatus.COMPLETED;
+        finishedAt = now;
+    }
+
+    public synchronized void fail(String reason, Instant now) {
+        status = ImportJobStatus.FAILED;
+        message = reason;
+        finishedAt = now;
+    }
+
+    /**
+     * @return сохраненные ошибки по возрастанию номера строки
+     */
+    public synchronized List<LineErrors> getErrors() {
+        return errors.stream().sorted(Comparator.comparingLong(LineErrors::line)).toList();
+    }
+
+    public record LineErrors(long line, Map<String, String> errors) {
+    }
+}
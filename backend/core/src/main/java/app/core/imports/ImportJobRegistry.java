@@ -0,0 +1,57 @@
+package app.core.imports;
+
+import app.core.model.imports.ImportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Задачи импорта текущего экземпляра приложения.
+ * <p>
+ * Завершенные задачи хранятся {@code transactions.import.job-ttl} и удаляются при регистрации новых
+ */
+@Component
+public class ImportJobRegistry {
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Duration jobTtl;
+    private final Clock clock;
+
+    @Autowired
+    public ImportJobRegistry(@Value("${transactions.import.job-ttl:1h}") Duration jobTtl) {
+        this(jobTtl, Clock.systemUTC());
+    }
+
+    ImportJobRegistry(Duration jobTtl, Clock clock) {
+        this.jobTtl = jobTtl;
+        this.clock = clock;
+    }
+
+    public ImportJob register(Long userId, ImportFormat format) {
+        Instant now = clock.instant();
+        jobs.values().removeIf(job -> job.getStatus().isFinished() && job.getFinishedAt().plus(jobTtl).isBefore(now));
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId, format, now);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    public Optional<ImportJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public void remove(ImportJob job) {
+        jobs.remove(job.getId());
+    }
+
+    public Instant now() {
+        return clock.instant();
+    }
+}
@@ -0,0 +1,169 @@
+package app.core.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OFX-выписка: SGML (OFX 1.x, листовые теги без закрывающих) и XML (OFX 2.x).
+ * <p>
+ * Каждый {@code <STMTTRN>} становится записью: знак {@code TRNAMT} определяет вид транзакции,
+ * категория берется из {@code NAME} (или {@code TRNTYPE}), описание — из {@code MEMO}
+ */
+class OfxStatementReader implements StatementReader {
+
+    /**
+     * {@code YYYYMMDD[HHMMSS[.XXX]][[gmt offset[:tz name]]]}
+     */
+    private static final Pattern OFX_DATE = Pattern.compile(
+            "(\\d{8})(\\d{6})?(?:\\.\\d{1,3})?(?:\\[([+-]?\\d{1,2}(?:\\.\\d{1,2})?)(?::[^]]*)?])?");
+
+    private final BufferedReader reader;
+    private final ZoneId zone;
+    private long line = 1;
+
+    OfxStatementReader(Reader reader, ZoneId zone) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.zone = zone;
+    }
+
+    @Override
+    public StatementRecord read() throws IOException {
+        Map<String, String> fields = null;
+        long recordLine = 0;
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if (tag.equals("STMTTRN")) {
+                fields = new HashMap<>();
+                recordLine = line;
+            } else if (tag.equals("/STMTTRN")) {
+                if (fields != null) {
+                    return toRecord(recordLine, fields);
+                }
+            } else if (fields != null && !tag.startsWith("/")) {
+                String value = StatementFields.emptyToNull(text());
+                if (value != null) {
+                    fields.put(tag, value);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private StatementRecord toRecord(long recordLine, Map<String, String> fields) {
+        Map<String, String> errors = new TreeMap<>();
+        BigDecimal amount = null;
+        if (fields.containsKey("TRNAMT")) {
+            try {
+                amount = StatementFields.parseAmount(fields.get("TRNAMT"));
+            } catch (NumberFormatException e) {
+                errors.put("amount", "must be a number");
+            }
+        } else {
+            errors.put("amount", "must not be null");
+        }
+        OffsetDateTime createDate = null;
+        if (fields.containsKey("DTPOSTED")) {
+            try {
+                createDate = parseDate(fields.get("DTPOSTED"));
+            } catch (DateTimeParseException e) {
+                errors.put("createDate", "must be an OFX date");
+            }
+        } else {
+            errors.put("createDate", "must not be null");
+        }
+        if (!errors.isEmpty()) {
+            return StatementRecord.rejected(recordLine, errors);
+        }
+        String category = fields.getOrDefault("NAME", fields.get("TRNTYPE"));
+        return StatementFields.bySign(recordLine, amount, category, createDate, fields.get("MEMO"));
+    }
+
+    private OffsetDateTime parseDate(String value) {
+        Matcher matcher = OFX_DATE.matcher(value);
+        if (!matcher.matches()) {
+            throw new DateTimeParseException("Unsupported OFX date", value, 0);
+        }
+        String date = matcher.group(1);
+        String time = matcher.group(2) == null ? "000000" : matcher.group(2);
+        LocalDateTime local = LocalDateTime.of(
+                Integer.parseInt(date.substring(0, 4)), Integer.parseInt(date.substring(4, 6)), Integer.parseInt(date.substring(6, 8)),
+                Integer.parseInt(time.substring(0, 2)), Integer.parseInt(time.substring(2, 4)), Integer.parseInt(time.substring(4, 6)));
+        if (matcher.group(3) == null) {
+            return local.atZone(zone).toOffsetDateTime();
+        }
+        int offsetSeconds = new BigDecimal(matcher.group(3)).multiply(BigDecimal.valueOf(3600)).intValue();
+        return local.atOffset(ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    /**
+     * @return имя следующего тега в верхнем регистре ({@code /NAME} для закрывающего) или {@code null} в конце файла;
+     * заголовки, инструкции и комментарии пропускаются
+     */
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = readChar()) != -1) {
+            if (c != '<') {
+                continue;
+            }
+            StringBuilder tag = new StringBuilder();
+            while ((c = readChar()) != -1 && c != '>') {
+                tag.append((char) c);
+            }
+            String name = tag.toString().strip();
+            if (!name.isEmpty() && name.charAt(0) != '?' && name.charAt(0) != '!') {
+                return name.toUpperCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Текст до следующего тега; сам тег остается непрочитанным
+     */
+    private String text() throws IOException {
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            reader.mark(1);
+            int c = readChar();
+            if (c == -1) {
+                return text.toString();
+            }
+            if (c == '<') {
+                reader.reset();
+                return unescape(text.toString());
+            }
+            text.append((char) c);
+        }
+    }
+
+    private int readChar() throws IOException {
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&nbsp;", " ").replace("&amp;", "&");
+    }
+}
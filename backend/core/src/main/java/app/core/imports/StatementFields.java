@@ -0,0 +1,39 @@
+package app.core.imports;
+
+import app.core.model.analytics.TransactionKind;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Общие правила разбора полей выписки
+ */
+final class StatementFields {
+
+    private StatementFields() {
+    }
+
+    /**
+     * Допускает пробелы-разделители разрядов и десятичную запятую: {@code "1 500,50"}
+     */
+    static BigDecimal parseAmount(String value) {
+        String normalized = value.strip().replace(" ", "").replace("\u00A0", "");
+        if (normalized.indexOf(',') >= 0 && normalized.indexOf('.') < 0) {
+            normalized = normalized.replace(',', '.');
+        }
+        return new BigDecimal(normalized);
+    }
+
+    /**
+     * Знак суммы без явного вида транзакции: списание — расход, поступление — доход
+     */
+    static StatementRecord bySign(long line, BigDecimal amount, String category, OffsetDateTime createDate, String description) {
+        TransactionKind kind = amount.signum() < 0 ? TransactionKind.EXPENSE : TransactionKind.INCOME;
+        return StatementRecord.parsed(line, kind, new CreateTransactionBaseRequestDto(amount.abs(), category, createDate, description));
+    }
+
+    static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,29 @@
+package app.core.imports;
+
+import app.core.model.imports.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.ZoneId;
+
+/**
+ * Последовательное чтение выписки по одной записи, без загрузки файла в память
+ */
+public interface StatementReader extends Closeable {
+
+    /**
+     * @return следующая запись или {@code null}, если выписка закончилась
+     */
+    StatementRecord read() throws IOException;
+
+    /**
+     * @param zone часовой пояс для дат без смещения
+     */
+    static StatementReader open(ImportFormat format, Reader reader, ZoneId zone) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvStatementReader(reader, zone);
+            case OFX -> new OfxStatementReader(reader, zone);
+        };
+    }
+}
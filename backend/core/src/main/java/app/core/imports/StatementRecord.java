@@ -0,0 +1,29 @@
+package app.core.imports;
+
+import app.core.model.analytics.TransactionKind;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+
+import java.util.Map;
+
+/**
+ * Строка выписки: разобранная транзакция либо ошибки разбора по полям.
+ *
+ * @param line номер строки файла, с которой начинается запись
+ */
+public record StatementRecord(long line,
+                              TransactionKind kind,
+                              CreateTransactionBaseRequestDto request,
+                              Map<String, String> errors) {
+
+    public static StatementRecord parsed(long line, TransactionKind kind, CreateTransactionBaseRequestDto request) {
+        return new StatementRecord(line, kind, request, null);
+    }
+
+    public static StatementRecord rejected(long line, Map<String, String> errors) {
+        return new StatementRecord(line, null, null, errors);
+    }
+
+    public boolean isRejected() {
+        return errors != null;
+    }
+}
@@ -0,0 +1,31 @@
+package app.core.jobs;
+
+import app.core.service.DailyRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодическая сверка {@code daily_rollups} с таблицами доходов и расходов.
+ * <p>
+ * При расхождении (ручные правки в БД, сбой между релизами) агрегаты пересчитываются целиком
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyRollupCheckJob {
+
+    private final DailyRollupService dailyRollupService;
+
+    @Scheduled(cron = "${analytics.rollups.check-cron:-}", zone = "UTC")
+    public void checkAndRebuild() {
+        long mismatches = dailyRollupService.countMismatches();
+        if (mismatches == 0) {
+            log.debug("Daily rollups are consistent with transactions");
+            return;
+        }
+        log.warn("Found {} daily rollup rows inconsistent with transactions, rebuilding", mismatches);
+        dailyRollupService.rebuild();
+    }
+}
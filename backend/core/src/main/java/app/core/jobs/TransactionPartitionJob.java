@@ -0,0 +1,37 @@
+package app.core.jobs;
+
+import app.core.repository.TransactionPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Заранее создает годовые разделы доходов и расходов.
+ * <p>
+ * Строка с датой вне созданных разделов (импорт старой выписки, дата далеко в будущем) не теряется, а попадает
+ * в раздел по умолчанию; при следующем запуске для ее года создается отдельный раздел
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionPartitionJob {
+
+    private final TransactionPartitionRepository transactionPartitionRepository;
+
+    @Value("${transactions.partitions.years-ahead:1}")
+    private int yearsAhead;
+
+    @Transactional
+    @Scheduled(cron = "${transactions.partitions.create-cron:-}", zone = "UTC")
+    public void createPartitions() {
+        int created = transactionPartitionRepository.createPartitions(yearsAhead);
+        if (created == 0) {
+            log.debug("Transaction partitions are up to date");
+            return;
+        }
+        log.info("Created {} transaction partitions", created);
+    }
+}
@@ -0,0 +1,21 @@
+package app.core.mappers;
+
+import app.core.model.dto.BucketAmountDto;
+import app.core.model.dto.CategoryAmountDto;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface AnalyticsMapper {
+
+    CategoryAmountDto toCategoryAmount(CategoryAmount categoryAmount);
+
+    List<CategoryAmountDto> toCategoryAmounts(List<CategoryAmount> categoryAmounts);
+
+    BucketAmountDto toBucketAmount(BucketAmount bucketAmount);
+
+    List<BucketAmountDto> toBucketAmounts(List<BucketAmount> bucketAmounts);
+}
@@ -3,20 +3,26 @@ package app.core.mappers;
 import app.core.model.ExpenseEntity;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
-import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
 import org.mapstruct.*;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
 @Mapper(componentModel = "spring")
 public interface ExpenseMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "userId", ignore = true)
     ExpenseEntity createExpenseFromRequest(CreateTransactionBaseRequestDto request);
 
-    @Mapping(target = "id", ignore = true)
-    @Mapping(target = "user", ignore = true)
-    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    void updateExpenseFromRequest(UpdateTransactionBaseRequestDto request, @MappingTarget ExpenseEntity expenseEntity);
-
     TransactionBaseResponseDto toResponse(ExpenseEntity expenseEntity);
+
+    TransactionBaseResponseDto toResponse(TransactionChange change);
+
+    default OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
 }
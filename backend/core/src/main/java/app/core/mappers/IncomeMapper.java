@@ -2,19 +2,26 @@ package app.core.mappers;
 
 import app.core.model.IncomeEntity;
 import app.core.model.dto.*;
+import app.core.model.projection.TransactionChange;
 import org.mapstruct.*;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
 @Mapper(componentModel = "spring")
 public interface IncomeMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "userId", ignore = true)
     IncomeEntity createIncomeFromRequest(CreateTransactionBaseRequestDto request);
 
-    @Mapping(target = "id", ignore = true)
-    @Mapping(target = "user", ignore = true)
-    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    void updateIncomeFromRequest(UpdateTransactionBaseRequestDto request, @MappingTarget IncomeEntity incomeEntity);
-
     TransactionBaseResponseDto toResponse(IncomeEntity incomeEntity);
+
+    TransactionBaseResponseDto toResponse(TransactionChange change);
+
+    default OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
 }
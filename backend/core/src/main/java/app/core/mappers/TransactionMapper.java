@@ -0,0 +1,30 @@
+package app.core.mappers;
+
+import app.core.imports.ImportJob;
+import app.core.model.dto.TransactionExportItemDto;
+import app.core.model.dto.TransactionHistoryItemDto;
+import app.core.model.dto.TransactionImportJobResponseDto;
+import app.core.model.projection.TransactionExportRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface TransactionMapper {
+
+    TransactionExportItemDto toExportItem(TransactionExportRow row);
+
+    List<TransactionHistoryItemDto> toHistoryItems(List<TransactionExportRow> rows);
+
+    @Mapping(target = "jobId", source = "id")
+    @Mapping(target = "format", source = "format.value")
+    TransactionImportJobResponseDto toImportJobResponse(ImportJob job);
+
+    default OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+}
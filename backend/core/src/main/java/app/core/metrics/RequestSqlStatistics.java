@@ -0,0 +1,55 @@
+package app.core.metrics;
+
+import java.time.Duration;
+
+/**
+ * SQL-операторы и время их выполнения в БД за один HTTP-запрос.
+ * <p>
+ * Счетчик привязан к потоку запроса между {@link #start()} и {@link #stop()} ({@link SqlStatementBudgetFilter})
+ * и пополняется {@link SqlStatisticsSessionListener}; операторы фоновых задач и асинхронной выгрузки в него не попадают
+ */
+public final class RequestSqlStatistics {
+
+    /**
+     * Атрибут запроса со статистикой, доступен после завершения цепочки фильтров (в тестах — из {@code MvcResult})
+     */
+    public static final String ATTRIBUTE = RequestSqlStatistics.class.getName();
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    public static RequestSqlStatistics start() {
+        RequestSqlStatistics statistics = new RequestSqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return статистика запроса текущего потока или {@code null} вне HTTP-запроса
+     */
+    public static RequestSqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @param nanos время выполнения оператора или JDBC-батча, батч считается одним оператором
+     */
+    public void record(long nanos) {
+        statements++;
+        this.nanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(nanos);
+    }
+}
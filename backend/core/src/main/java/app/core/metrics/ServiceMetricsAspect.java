@@ -0,0 +1,68 @@
+package app.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Время каждого вызова публичного метода сервисов {@code app.core.api} в таймере {@value #METRIC} с тегами
+ * {@code service} (интерфейс), {@code operation} (метод), {@code outcome} ({@code success}/{@code error})
+ * и {@code exception} (простое имя класса или {@code none}).
+ * <p>
+ * Вместе с {@code http.server.requests}, {@code spring.data.repository.invocations}, {@code password.hashing}
+ * и метриками Hikari показывает, где ушло время запроса: в БД, в BCrypt или после сервиса, на сериализации ответа
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC = "app.service";
+
+    private static final String API_PACKAGE = "app.core.api";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> serviceNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * app.core.api.*Service+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .tag("service", serviceName(AopUtils.getTargetClass(joinPoint.getTarget())))
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(exception) ? "success" : "error")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Имя интерфейса из {@code app.core.api}, а не реализации: теги не меняются при замене реализации
+     */
+    private String serviceName(Class<?> targetClass) {
+        return serviceNames.computeIfAbsent(targetClass, type -> {
+            for (Class<?> serviceInterface : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (API_PACKAGE.equals(serviceInterface.getPackageName())) {
+                    return serviceInterface.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package app.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Считает SQL-операторы и время БД каждого HTTP-запроса, включая загрузку пользователя фильтрами безопасности.
+ * <p>
+ * Распределения пишутся в {@value #STATEMENTS_METRIC} и {@value #DB_TIME_METRIC} с тегами {@code method} и {@code uri}
+ * (шаблон пути, как в {@code http.server.requests}). Запрос сверх {@code sql.request-budget} логируется с WARN:
+ * так видно, что изменение добавило эндпоинту лишние обращения к БД
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "app.request.statements";
+    public static final String DB_TIME_METRIC = "app.request.db";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final Duration timeBudget;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${sql.request-budget.statements:10}") int statementBudget,
+                                    @Value("${sql.request-budget.db-time:500ms}") Duration timeBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStatistics statistics = RequestSqlStatistics.start();
+        request.setAttribute(RequestSqlStatistics.ATTRIBUTE, statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStatistics.stop();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.statements());
+        Timer.builder(DB_TIME_METRIC)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.time());
+        if (statistics.statements() > statementBudget || statistics.time().compareTo(timeBudget) > 0) {
+            log.warn("{} {} executed {} SQL statements in {} ms, budget is {} statements and {} ms",
+                    request.getMethod(), uri, statistics.statements(), statistics.time().toMillis(),
+                    statementBudget, timeBudget.toMillis());
+        }
+    }
+}
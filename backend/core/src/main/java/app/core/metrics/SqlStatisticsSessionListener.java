@@ -0,0 +1,41 @@
+package app.core.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Передает в {@link RequestSqlStatistics} каждое выполнение SQL-оператора и JDBC-батча сессии Hibernate.
+ * <p>
+ * Hibernate создает экземпляр на каждую сессию ({@code hibernate.session.events.auto}), а сессия используется
+ * одним потоком, поэтому время начала хранится в поле без синхронизации
+ */
+public class SqlStatisticsSessionListener extends BaseSessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution();
+    }
+
+    private void recordExecution() {
+        RequestSqlStatistics statistics = RequestSqlStatistics.current();
+        if (statistics != null) {
+            statistics.record(System.nanoTime() - executionStart);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package app.core.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Сумма и количество транзакций пользователя за день (UTC) по категории.
+ * <p>
+ * Поддерживается дельтами при записи транзакций, см. {@link app.core.service.DailyRollupService}
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "daily_rollups")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollupEntity {
+
+    @EmbeddedId
+    private DailyRollupId id;
+
+    @Column(name = "total", nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "count", nullable = false)
+    private Long count;
+}
@@ -0,0 +1,33 @@
+package app.core.model;
+
+import app.core.model.analytics.TransactionKind;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollupId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 16, nullable = false)
+    private TransactionKind kind;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "category", length = 128, nullable = false)
+    private String category;
+}
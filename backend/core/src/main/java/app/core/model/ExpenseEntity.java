@@ -8,7 +8,7 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @Table(name = "expenses")
-@SequenceGenerator(name = "transaction_seq", sequenceName = "expenses_seq", allocationSize = 1)
+@SequenceGenerator(name = "transaction_seq", sequenceName = "expenses_seq", allocationSize = 50)
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 public class ExpenseEntity extends TransactionBaseEntity {
@@ -7,7 +7,7 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = true)
 @Entity
 @Table(name = "incomes")
-@SequenceGenerator(name = "transaction_seq", sequenceName = "incomes_seq", allocationSize = 1)
+@SequenceGenerator(name = "transaction_seq", sequenceName = "incomes_seq", allocationSize = 50)
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 public class IncomeEntity extends TransactionBaseEntity {
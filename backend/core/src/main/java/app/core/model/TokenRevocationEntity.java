@@ -0,0 +1,25 @@
+package app.core.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Отзыв access-токенов пользователя: выпущенные раньше {@code revokedAt} токены недействительны
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "token_revocations")
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
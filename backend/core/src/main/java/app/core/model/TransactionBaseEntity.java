@@ -14,6 +14,10 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 public abstract class TransactionBaseEntity {
 
+    /**
+     * Первичный ключ разделенных по годам таблиц — {@code (id, create_date)}, поэтому уникальность {@code id} обеспечивает
+     * только последовательность: запросы API и выписок не принимают идентификатор, строки вне Hibernate вставляются с {@code nextval}
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
     protected Long id;
@@ -30,6 +34,13 @@ public abstract class TransactionBaseEntity {
     @Column(name = "description")
     protected String description;
 
-    @ManyToOne
+    /**
+     * Владелец для проверок доступа без загрузки {@link #user}; колонку записывает ассоциация
+     */
+    @Column(name = "user_id", insertable = false, updatable = false)
+    protected Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
     protected UserEntity user;
 }
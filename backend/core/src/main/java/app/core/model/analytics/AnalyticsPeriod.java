@@ -0,0 +1,75 @@
+package app.core.model.analytics;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Период дашборда и гранулярность его временного ряда.
+ * <p>
+ * {@code unit} передается в {@code date_trunc} PostgreSQL
+ */
+public enum AnalyticsPeriod {
+    WEEK("week", "day") {
+        @Override
+        public LocalDate startDate(LocalDate today) {
+            return today.minusDays(7);
+        }
+
+        @Override
+        public LocalDate endDate(LocalDate today) {
+            return today.plusDays(1);
+        }
+    },
+    MONTH("month", "day") {
+        @Override
+        public LocalDate startDate(LocalDate today) {
+            return today.minusDays(30);
+        }
+
+        @Override
+        public LocalDate endDate(LocalDate today) {
+            return today.plusDays(1);
+        }
+    },
+    YEAR("year", "month") {
+        @Override
+        public LocalDate startDate(LocalDate today) {
+            return today.withDayOfMonth(1).minusMonths(11);
+        }
+
+        @Override
+        public LocalDate endDate(LocalDate today) {
+            return today.withDayOfMonth(1).plusMonths(1);
+        }
+    };
+
+    private final String value;
+    private final String unit;
+
+    AnalyticsPeriod(String value, String unit) {
+        this.value = value;
+        this.unit = unit;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public abstract LocalDate startDate(LocalDate today);
+
+    /**
+     * Первый день после текущего интервала, граница не включается
+     */
+    public abstract LocalDate endDate(LocalDate today);
+
+    public static AnalyticsPeriod fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(period -> period.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown analytics period '" + value + "'"));
+    }
+}
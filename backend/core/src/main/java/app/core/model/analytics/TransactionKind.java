@@ -0,0 +1,9 @@
+package app.core.model.analytics;
+
+/**
+ * Тип транзакции в суточных агрегатах {@code daily_rollups}
+ */
+public enum TransactionKind {
+    EXPENSE,
+    INCOME
+}
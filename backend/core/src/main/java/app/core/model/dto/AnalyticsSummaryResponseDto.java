@@ -0,0 +1,31 @@
+package app.core.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+
+@Builder
+@Schema(description = "dto.analytics.summary.response.description")
+public record AnalyticsSummaryResponseDto(
+        @Schema(description = "dto.analytics.period.description", example = "month")
+        String period,
+
+        @Schema(description = "dto.analytics.unit.description", example = "day")
+        String unit,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        @Schema(description = "dto.analytics.from.description", example = "2024-01-01T00:00:00+03:00")
+        OffsetDateTime from,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        @Schema(description = "dto.analytics.to.description", example = "2024-01-31T00:00:00+03:00")
+        OffsetDateTime to,
+
+        @Schema(description = "dto.analytics.expenses.description")
+        TransactionSummaryDto expenses,
+
+        @Schema(description = "dto.analytics.incomes.description")
+        TransactionSummaryDto incomes) {
+}
@@ -0,0 +1,19 @@
+package app.core.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+@Schema(description = "dto.analytics.bucket.description")
+public record BucketAmountDto(
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @Schema(description = "dto.analytics.bucket.start.description", example = "2024-01-15")
+        LocalDate bucket,
+
+        @Schema(description = "dto.analytics.total.description", example = "1500.00")
+        BigDecimal total) {
+}
@@ -0,0 +1,19 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+@Schema(description = "dto.analytics.category.description")
+public record CategoryAmountDto(
+        @Schema(description = "dto.transaction.category.description", example = "Продукты")
+        String category,
+
+        @Schema(description = "dto.analytics.total.description", example = "12500.00")
+        BigDecimal total,
+
+        @Schema(description = "dto.analytics.count.description", example = "14")
+        Long count) {
+}
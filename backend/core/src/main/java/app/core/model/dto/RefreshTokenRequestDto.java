@@ -0,0 +1,13 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "dto.token.refresh.request.description")
+public record RefreshTokenRequestDto(
+        @Schema(description = "dto.token.refreshToken.description", example = "q3Jx2v9kP0bNcR8wLm4tYs7uZa1eHd6gFi5oWj3VhXk")
+        @NotBlank
+        String refreshToken) {
+}
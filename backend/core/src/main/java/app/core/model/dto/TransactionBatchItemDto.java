@@ -0,0 +1,19 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+@Schema(description = "dto.transaction.batch.item.description")
+public record TransactionBatchItemDto(
+        @Schema(description = "dto.transaction.batch.item.index.description", example = "0")
+        int index,
+
+        @Schema(description = "dto.transaction.batch.item.item.description")
+        TransactionBaseResponseDto item,
+
+        @Schema(description = "dto.transaction.batch.item.errors.description", example = "{\"amount\": \"must be greater than 0\"}")
+        Map<String, String> errors) {
+}
@@ -0,0 +1,19 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "dto.transaction.batch.response.description")
+public record TransactionBatchResponseDto(
+        @Schema(description = "dto.transaction.batch.created.description", example = "2")
+        int created,
+
+        @Schema(description = "dto.transaction.batch.failed.description", example = "1")
+        int failed,
+
+        @Schema(description = "dto.transaction.batch.items.description")
+        List<TransactionBatchItemDto> items) {
+}
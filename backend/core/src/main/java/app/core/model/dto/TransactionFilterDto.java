@@ -0,0 +1,36 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Необязательные фильтры списков доходов и расходов из параметров запроса; незаданные поля не ограничивают выборку
+ */
+@Builder
+@Schema(description = "dto.transaction.filter.description")
+public record TransactionFilterDto(
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Schema(description = "dto.transaction.filter.from.description", example = "2025-03-01T00:00:00Z")
+        OffsetDateTime from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Schema(description = "dto.transaction.filter.to.description", example = "2025-04-01T00:00:00Z")
+        OffsetDateTime to,
+
+        @Schema(description = "dto.transaction.filter.category.description", example = "Продукты")
+        String category,
+
+        @Schema(description = "dto.transaction.filter.minAmount.description", example = "100.00")
+        BigDecimal minAmount,
+
+        @Schema(description = "dto.transaction.filter.maxAmount.description", example = "5000.00")
+        BigDecimal maxAmount) {
+
+    public boolean isEmpty() {
+        return from == null && to == null && category == null && minAmount == null && maxAmount == null;
+    }
+}
@@ -0,0 +1,31 @@
+package app.core.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Builder
+@Schema(description = "dto.transaction.history.item.description")
+public record TransactionHistoryItemDto(
+        @Schema(description = "dto.transaction.export.item.kind.description", example = "EXPENSE")
+        String kind,
+
+        @Schema(description = "dto.transaction.id.description", example = "123")
+        Long id,
+
+        @Schema(description = "dto.transaction.amount.description", example = "1500.00")
+        BigDecimal amount,
+
+        @Schema(description = "dto.transaction.category.description", example = "Продукты")
+        String category,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        @Schema(description = "dto.transaction.createDate.description", example = "2024-01-15T10:30:00Z")
+        OffsetDateTime createDate,
+
+        @Schema(description = "dto.transaction.description.description", example = "Покупка продуктов на неделю")
+        String description) {
+}
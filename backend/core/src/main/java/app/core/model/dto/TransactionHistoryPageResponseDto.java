@@ -0,0 +1,16 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "dto.transaction.history.page.response.description")
+public record TransactionHistoryPageResponseDto(
+        @Schema(description = "dto.transaction.history.page.items.description")
+        List<TransactionHistoryItemDto> items,
+
+        @Schema(description = "dto.transaction.page.nextCursor.description", example = "MjAyNC0wMS0xNVQwNzozMDowMFpfMTIzX0VYUEVOU0U")
+        String nextCursor) {
+}
@@ -0,0 +1,16 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+@Schema(description = "dto.transaction.import.error.description")
+public record TransactionImportErrorDto(
+        @Schema(description = "dto.transaction.import.error.line.description", example = "42")
+        long line,
+
+        @Schema(description = "dto.transaction.import.error.errors.description", example = "{\"amount\": \"must be a number\"}")
+        Map<String, String> errors) {
+}
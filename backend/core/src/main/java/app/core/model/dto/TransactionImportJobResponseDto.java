@@ -0,0 +1,42 @@
+package app.core.model.dto;
+
+import app.core.model.imports.ImportJobStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Builder
+@Schema(description = "dto.transaction.import.job.description")
+public record TransactionImportJobResponseDto(
+        @Schema(description = "dto.transaction.import.job.id.description", example = "3f1c2a9e-8d4b-4c5e-9a7f-2b6d1e0c4a11")
+        String jobId,
+
+        @Schema(description = "dto.transaction.import.job.status.description", example = "RUNNING")
+        ImportJobStatus status,
+
+        @Schema(description = "dto.transaction.import.job.format.description", example = "csv")
+        String format,
+
+        @Schema(description = "dto.transaction.import.job.imported.description", example = "12500")
+        long imported,
+
+        @Schema(description = "dto.transaction.import.job.failed.description", example = "3")
+        long failed,
+
+        @Schema(description = "dto.transaction.import.job.message.description", example = "CSV statement has no columns [amount]")
+        String message,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        @Schema(description = "dto.transaction.import.job.createdAt.description", example = "2024-01-15T10:30:00Z")
+        OffsetDateTime createdAt,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+        @Schema(description = "dto.transaction.import.job.finishedAt.description", example = "2024-01-15T10:31:12Z")
+        OffsetDateTime finishedAt,
+
+        @Schema(description = "dto.transaction.import.job.errors.description")
+        List<TransactionImportErrorDto> errors) {
+}
@@ -0,0 +1,16 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "dto.transaction.page.response.description")
+public record TransactionPageResponseDto(
+        @Schema(description = "dto.transaction.page.items.description")
+        List<TransactionBaseResponseDto> items,
+
+        @Schema(description = "dto.transaction.page.nextCursor.description", example = "MjAyNC0wMS0xNVQwNzozMDowMFpfMTIz")
+        String nextCursor) {
+}
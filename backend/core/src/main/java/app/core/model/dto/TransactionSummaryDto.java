@@ -0,0 +1,20 @@
+package app.core.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Builder
+@Schema(description = "dto.analytics.transaction.summary.description")
+public record TransactionSummaryDto(
+        @Schema(description = "dto.analytics.total.description", example = "42000.00")
+        BigDecimal total,
+
+        @Schema(description = "dto.analytics.byCategory.description")
+        List<CategoryAmountDto> byCategory,
+
+        @Schema(description = "dto.analytics.series.description")
+        List<BucketAmountDto> series) {
+}
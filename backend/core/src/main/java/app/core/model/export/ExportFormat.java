@@ -0,0 +1,40 @@
+package app.core.model.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * Формат выгрузки истории транзакций
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    ExportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "transactions." + value;
+    }
+
+    public static ExportFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown export format '" + value + "'"));
+    }
+}
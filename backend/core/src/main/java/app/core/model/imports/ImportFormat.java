@@ -0,0 +1,28 @@
+package app.core.model.imports;
+
+import java.util.Arrays;
+
+/**
+ * Формат импортируемой банковской выписки
+ */
+public enum ImportFormat {
+    CSV("csv"),
+    OFX("ofx");
+
+    private final String value;
+
+    ImportFormat(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ImportFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown import format '" + value + "'"));
+    }
+}
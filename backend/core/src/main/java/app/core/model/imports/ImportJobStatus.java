@@ -0,0 +1,15 @@
+package app.core.model.imports;
+
+/**
+ * Состояние задачи импорта выписки
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
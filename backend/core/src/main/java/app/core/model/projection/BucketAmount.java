@@ -0,0 +1,13 @@
+package app.core.model.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Проекция агрегата по временному интервалу (день или месяц), {@code bucket} - его первый день
+ */
+public interface BucketAmount {
+    LocalDate getBucket();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,14 @@
+package app.core.model.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Проекция агрегата по категории: сумма и количество транзакций
+ */
+public interface CategoryAmount {
+    String getCategory();
+
+    BigDecimal getTotal();
+
+    Long getCount();
+}
@@ -0,0 +1,26 @@
+package app.core.model.projection;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Проекция строки из {@code UPDATE/DELETE ... RETURNING}: значения после изменения
+ * и значения {@code old.*} до него, нужные для дельты агрегатов
+ */
+public interface TransactionChange {
+    Long getId();
+
+    BigDecimal getAmount();
+
+    String getCategory();
+
+    Instant getCreateDate();
+
+    String getDescription();
+
+    BigDecimal getOldAmount();
+
+    String getOldCategory();
+
+    Instant getOldCreateDate();
+}
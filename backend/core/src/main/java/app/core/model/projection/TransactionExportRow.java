@@ -0,0 +1,21 @@
+package app.core.model.projection;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Проекция строки общей истории доходов и расходов для выгрузки и постраничного просмотра
+ */
+public interface TransactionExportRow {
+    String getKind();
+
+    Long getId();
+
+    BigDecimal getAmount();
+
+    String getCategory();
+
+    Instant getCreateDate();
+
+    String getDescription();
+}
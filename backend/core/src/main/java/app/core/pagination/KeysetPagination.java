@@ -0,0 +1,54 @@
+package app.core.pagination;
+
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionHistoryItemDto;
+import app.core.model.dto.TransactionHistoryPageResponseDto;
+import app.core.model.dto.TransactionPageResponseDto;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * Общие правила keyset-пагинации списков транзакций.
+ * <p>
+ * Репозиторий запрашивает на одну строку больше лимита: по наличию лишней строки
+ * определяется, есть ли следующая страница, без отдельного count-запроса
+ */
+public final class KeysetPagination {
+
+    public static final int MAX_LIMIT = 500;
+
+    private KeysetPagination() {
+    }
+
+    public static Limit probeLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT);
+        }
+        return Limit.of(limit + 1);
+    }
+
+    public static TransactionPageResponseDto toPage(List<TransactionBaseResponseDto> rows, int limit) {
+        if (rows.size() <= limit) {
+            return TransactionPageResponseDto.builder().items(rows).build();
+        }
+        List<TransactionBaseResponseDto> items = rows.subList(0, limit);
+        TransactionBaseResponseDto last = items.get(limit - 1);
+        return TransactionPageResponseDto.builder()
+                .items(items)
+                .nextCursor(new TransactionCursor(last.createDate(), last.id()).encode())
+                .build();
+    }
+
+    public static TransactionHistoryPageResponseDto toHistoryPage(List<TransactionHistoryItemDto> rows, int limit) {
+        if (rows.size() <= limit) {
+            return TransactionHistoryPageResponseDto.builder().items(rows).build();
+        }
+        List<TransactionHistoryItemDto> items = rows.subList(0, limit);
+        TransactionHistoryItemDto last = items.get(limit - 1);
+        return TransactionHistoryPageResponseDto.builder()
+                .items(items)
+                .nextCursor(new TransactionHistoryCursor(last.createDate(), last.id(), last.kind()).encode())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package app.core.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Позиция keyset-пагинации по ключу сортировки {@code (create_date DESC, id DESC)}.
+ * <p>
+ * Для клиента курсор непрозрачен: это base64url от {@code <instant>_<id>}
+ */
+public record TransactionCursor(OffsetDateTime createDate, Long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = createDate.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            OffsetDateTime createDate = Instant.parse(raw.substring(0, separatorIndex)).atOffset(ZoneOffset.UTC);
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new TransactionCursor(createDate, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor '" + cursor + "' is malformed");
+        }
+    }
+}
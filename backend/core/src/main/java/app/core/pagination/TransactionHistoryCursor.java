@@ -0,0 +1,40 @@
+package app.core.pagination;
+
+import app.core.model.analytics.TransactionKind;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Позиция keyset-пагинации общей истории по ключу {@code (create_date DESC, id DESC, kind DESC)}.
+ * <p>
+ * У расходов и доходов свои последовательности идентификаторов, поэтому {@code id} уникален только вместе с {@code kind}.
+ * Для клиента курсор непрозрачен: это base64url от {@code <instant>_<id>_<kind>}
+ */
+public record TransactionHistoryCursor(OffsetDateTime createDate, Long id, String kind) {
+
+    private static final String SEPARATOR = "_";
+
+    public String encode() {
+        String raw = createDate.toInstant() + SEPARATOR + id + SEPARATOR + kind;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int kindIndex = raw.lastIndexOf(SEPARATOR);
+            int idIndex = raw.lastIndexOf(SEPARATOR, kindIndex - 1);
+            OffsetDateTime createDate = Instant.parse(raw.substring(0, idIndex)).atOffset(ZoneOffset.UTC);
+            Long id = Long.valueOf(raw.substring(idIndex + 1, kindIndex));
+            TransactionKind kind = TransactionKind.valueOf(raw.substring(kindIndex + 1));
+            return new TransactionHistoryCursor(createDate, id, kind.name());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor '" + cursor + "' is malformed");
+        }
+    }
+}
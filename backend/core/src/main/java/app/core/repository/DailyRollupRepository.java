@@ -0,0 +1,93 @@
+package app.core.repository;
+
+import app.core.model.DailyRollupEntity;
+import app.core.model.DailyRollupId;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Репозиторий суточных агрегатов транзакций.
+ * <p>
+ * Все запросы нативные: дельты применяются через {@code INSERT ... ON CONFLICT},
+ * чтобы параллельные записи в один день и категорию не теряли обновления
+ */
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollupEntity, DailyRollupId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}daily_rollups (user_id, kind, day, category, total, count) " +
+            "VALUES (:userId, :kind, :day, :category, :total, :count) " +
+            "ON CONFLICT (user_id, kind, day, category) DO UPDATE " +
+            "SET total = daily_rollups.total + EXCLUDED.total, count = daily_rollups.count + EXCLUDED.count",
+            nativeQuery = true)
+    void upsertDelta(@Param("userId") Long userId,
+                     @Param("kind") String kind,
+                     @Param("day") LocalDate day,
+                     @Param("category") String category,
+                     @Param("total") BigDecimal total,
+                     @Param("count") long count);
+
+    @Modifying
+    @Query(value = "DELETE FROM {h-schema}daily_rollups WHERE user_id = :userId AND kind = :kind " +
+            "AND day = :day AND category = :category AND count <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("userId") Long userId,
+                       @Param("kind") String kind,
+                       @Param("day") LocalDate day,
+                       @Param("category") String category);
+
+    @Query(value = "SELECT r.category AS category, SUM(r.total) AS total, CAST(SUM(r.count) AS bigint) AS count " +
+            "FROM {h-schema}daily_rollups r WHERE r.user_id = :userId AND r.kind = :kind AND r.day >= :from AND r.day < :to " +
+            "GROUP BY r.category ORDER BY total DESC", nativeQuery = true)
+    List<CategoryAmount> sumByCategory(@Param("userId") Long userId,
+                                       @Param("kind") String kind,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    @Query(value = "SELECT CAST(date_trunc(:unit, CAST(r.day AS timestamp)) AS date) AS bucket, SUM(r.total) AS total " +
+            "FROM {h-schema}daily_rollups r WHERE r.user_id = :userId AND r.kind = :kind AND r.day >= :from AND r.day < :to " +
+            "GROUP BY bucket ORDER BY bucket", nativeQuery = true)
+    List<BucketAmount> sumByBucket(@Param("userId") Long userId,
+                                   @Param("kind") String kind,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to,
+                                   @Param("unit") String unit);
+
+    @Modifying
+    @Query(value = "DELETE FROM {h-schema}daily_rollups", nativeQuery = true)
+    int deleteAllRollups();
+
+    /**
+     * Пересчитывает агрегаты по базовым таблицам; вызывать после {@link #deleteAllRollups()}
+     */
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}daily_rollups (user_id, kind, day, category, total, count) " +
+            "SELECT user_id, 'EXPENSE', CAST(create_date AT TIME ZONE 'UTC' AS date), category, SUM(amount), COUNT(*) " +
+            "FROM {h-schema}expenses GROUP BY 1, 2, 3, 4 " +
+            "UNION ALL " +
+            "SELECT user_id, 'INCOME', CAST(create_date AT TIME ZONE 'UTC' AS date), category, SUM(amount), COUNT(*) " +
+            "FROM {h-schema}incomes GROUP BY 1, 2, 3, 4", nativeQuery = true)
+    int insertFromTransactions();
+
+    /**
+     * Количество строк агрегатов, расходящихся с базовыми таблицами (лишние, недостающие и с другой суммой)
+     */
+    @Query(value = "WITH actual AS (" +
+            "SELECT user_id, 'EXPENSE' AS kind, CAST(create_date AT TIME ZONE 'UTC' AS date) AS day, category, " +
+            "SUM(amount) AS total, COUNT(*) AS count FROM {h-schema}expenses GROUP BY 1, 2, 3, 4 " +
+            "UNION ALL " +
+            "SELECT user_id, 'INCOME', CAST(create_date AT TIME ZONE 'UTC' AS date), category, " +
+            "SUM(amount), COUNT(*) FROM {h-schema}incomes GROUP BY 1, 2, 3, 4) " +
+            "SELECT COUNT(*) FROM actual a FULL JOIN {h-schema}daily_rollups r " +
+            "ON a.user_id = r.user_id AND a.kind = r.kind AND a.day = r.day AND a.category = r.category " +
+            "WHERE a.total IS DISTINCT FROM r.total OR a.count IS DISTINCT FROM r.count", nativeQuery = true)
+    long countMismatches();
+}
@@ -1,12 +1,21 @@
 package app.core.repository;
 
 import app.core.model.IncomeEntity;
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import app.core.model.projection.TransactionChange;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для работы с сущностью Income в базе данных.
@@ -15,7 +24,83 @@ import java.util.List;
  * а также возможность добавления собственных запросов
  */
 @Repository
-public interface IncomeRepository extends JpaRepository<IncomeEntity, Long> {
-    @Query("SELECT i FROM IncomeEntity i WHERE i.user.id = :userId ORDER BY i.createDate DESC")
+public interface IncomeRepository extends JpaRepository<IncomeEntity, Long>, JpaSpecificationExecutor<IncomeEntity> {
+    @Query("SELECT i FROM IncomeEntity i WHERE i.userId = :userId ORDER BY i.createDate DESC")
     List<IncomeEntity> findAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Списки только для чтения проецируются сразу в DTO: строки не попадают в контекст персистентности
+     * и не получают снимков для dirty checking
+     */
+    @Query("SELECT new app.core.model.dto.TransactionBaseResponseDto(i.id, i.amount, i.category, i.createDate, i.description) " +
+            "FROM IncomeEntity i WHERE i.userId = :userId ORDER BY i.createDate DESC")
+    List<TransactionBaseResponseDto> findAllResponsesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new app.core.model.dto.TransactionBaseResponseDto(i.id, i.amount, i.category, i.createDate, i.description) " +
+            "FROM IncomeEntity i WHERE i.userId = :userId ORDER BY i.createDate DESC, i.id DESC")
+    List<TransactionBaseResponseDto> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Страница после курсора {@code (createDate, id)}: избыточное условие {@code createDate <= :createDate}
+     * задает границу диапазона для индекса {@code (user_id, create_date DESC, id DESC)}
+     */
+    @Query("SELECT new app.core.model.dto.TransactionBaseResponseDto(i.id, i.amount, i.category, i.createDate, i.description) " +
+            "FROM IncomeEntity i WHERE i.userId = :userId " +
+            "AND i.createDate <= :createDate AND (i.createDate < :createDate OR i.id < :id) " +
+            "ORDER BY i.createDate DESC, i.id DESC")
+    List<TransactionBaseResponseDto> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                           @Param("createDate") OffsetDateTime createDate,
+                                                           @Param("id") Long id,
+                                                           Limit limit);
+
+    @Query("SELECT i.userId FROM IncomeEntity i WHERE i.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    /**
+     * Удаление с проверкой владельца одним запросом; пустой результат означает, что строки нет
+     * или она принадлежит другому пользователю
+     */
+    @Query(value = "DELETE FROM {h-schema}incomes t WHERE t.id = :id AND t.user_id = :userId " +
+            "RETURNING t.id AS id, t.amount AS oldAmount, t.category AS oldCategory, t.create_date AS oldCreateDate", nativeQuery = true)
+    List<TransactionChange> deleteOwned(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Частичное обновление с проверкой владельца одним запросом: {@code null} оставляет значение поля без изменений.
+     * {@code RETURNING old.*} (PostgreSQL 18+) отдает прежние значения для пересчета агрегатов
+     */
+    @Query(value = "UPDATE {h-schema}incomes t SET " +
+            "amount = COALESCE(CAST(:amount AS numeric), t.amount), " +
+            "category = COALESCE(CAST(:category AS varchar), t.category), " +
+            "create_date = COALESCE(CAST(:createDate AS timestamptz), t.create_date), " +
+            "description = COALESCE(CAST(:description AS varchar), t.description) " +
+            "WHERE t.id = :id AND t.user_id = :userId " +
+            "RETURNING new.id AS id, new.amount AS amount, new.category AS category, new.create_date AS createDate, " +
+            "new.description AS description, old.amount AS oldAmount, old.category AS oldCategory, " +
+            "old.create_date AS oldCreateDate", nativeQuery = true)
+    List<TransactionChange> updateOwned(@Param("id") Long id,
+                                        @Param("userId") Long userId,
+                                        @Param("amount") BigDecimal amount,
+                                        @Param("category") String category,
+                                        @Param("createDate") OffsetDateTime createDate,
+                                        @Param("description") String description);
+
+    @Query(value = "SELECT t.category AS category, SUM(t.amount) AS total, COUNT(*) AS count " +
+            "FROM {h-schema}incomes t WHERE t.user_id = :userId AND t.create_date >= :from AND t.create_date < :to " +
+            "GROUP BY t.category ORDER BY total DESC", nativeQuery = true)
+    List<CategoryAmount> sumByCategory(@Param("userId") Long userId,
+                                       @Param("from") OffsetDateTime from,
+                                       @Param("to") OffsetDateTime to);
+
+    /**
+     * Суммы по интервалам {@code date_trunc(:unit, ...)} в часовом поясе {@code :zone};
+     * интервалы без транзакций в результат не попадают
+     */
+    @Query(value = "SELECT CAST(date_trunc(:unit, t.create_date AT TIME ZONE :zone) AS date) AS bucket, SUM(t.amount) AS total " +
+            "FROM {h-schema}incomes t WHERE t.user_id = :userId AND t.create_date >= :from AND t.create_date < :to " +
+            "GROUP BY bucket ORDER BY bucket", nativeQuery = true)
+    List<BucketAmount> sumByBucket(@Param("userId") Long userId,
+                                   @Param("from") OffsetDateTime from,
+                                   @Param("to") OffsetDateTime to,
+                                   @Param("unit") String unit,
+                                   @Param("zone") String zone);
 }
\ No newline at end of file
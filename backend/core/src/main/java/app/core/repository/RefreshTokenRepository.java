@@ -0,0 +1,36 @@
+package app.core.repository;
+
+import app.core.model.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Репозиторий refresh-токенов, ключ — SHA-256 токена
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    /**
+     * Помечает токен использованным, если он еще не использован и не истек.
+     * Условие в самом UPDATE: из параллельных обменов одного токена успешен только первый
+     *
+     * @return 1, если токен обменян этим вызовом
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.usedAt = :now " +
+            "WHERE t.tokenHash = :tokenHash AND t.usedAt IS NULL AND t.expiresAt > :now")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < :now")
+    int deleteAllExpired(@Param("now") Instant now);
+}
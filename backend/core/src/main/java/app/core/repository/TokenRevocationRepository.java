@@ -0,0 +1,30 @@
+package app.core.repository;
+
+import app.core.model.TokenRevocationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Репозиторий отзывов access-токенов, по строке на пользователя
+ */
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocationEntity, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}token_revocations (user_id, revoked_at) VALUES (:userId, :revokedAt) " +
+            "ON CONFLICT (user_id) DO UPDATE " +
+            "SET revoked_at = GREATEST(token_revocations.revoked_at, EXCLUDED.revoked_at)", nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("revokedAt") Instant revokedAt);
+
+    List<TokenRevocationEntity> findAllByRevokedAtAfter(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocationEntity r WHERE r.revokedAt < :before")
+    int deleteAllRevokedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,20 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Годовые разделы таблиц {@code expenses} и {@code incomes} (секционирование по {@code create_date}, UTC).
+ * <p>
+ * Разделы создает функция БД {@code create_transaction_partitions} из миграции 1.0.12: она же переносит в новые разделы
+ * строки, попавшие в раздел по умолчанию. Функция выполняет DDL, поэтому вызывается только в транзакции записи
+ */
+public interface TransactionPartitionRepository extends org.springframework.data.repository.Repository<ExpenseEntity, Long> {
+
+    /**
+     * @return число созданных разделов
+     */
+    @Query(value = "SELECT {h-schema}create_transaction_partitions(:yearsAhead)", nativeQuery = true)
+    int createPartitions(@Param("yearsAhead") int yearsAhead);
+}
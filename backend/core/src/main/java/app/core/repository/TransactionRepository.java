@@ -0,0 +1,67 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.projection.TransactionExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Запросы по общей истории доходов и расходов пользователя.
+ * <p>
+ * Собственной сущности у истории нет, поэтому репозиторий не наследует CRUD-операции {@link org.springframework.data.jpa.repository.JpaRepository}
+ */
+public interface TransactionRepository extends org.springframework.data.repository.Repository<ExpenseEntity, Long> {
+
+    /**
+     * Расходы и доходы одним набором строк с признаком {@code kind}; фильтры и сортировка ставятся снаружи
+     */
+    String HISTORY = "SELECT t.kind AS kind, t.id AS id, t.amount AS amount, t.category AS category, " +
+            "t.create_date AS createDate, t.description AS description " +
+            "FROM (SELECT 'EXPENSE' AS kind, e.user_id, e.id, e.amount, e.category, e.create_date, e.description " +
+            "FROM {h-schema}expenses e " +
+            "UNION ALL " +
+            "SELECT 'INCOME', i.user_id, i.id, i.amount, i.category, i.create_date, i.description " +
+            "FROM {h-schema}incomes i) t ";
+
+    /**
+     * Вся история в порядке {@code create_date}, упорядочивает БД, а не приложение.
+     * Фильтр по {@code user_id} стоит снаружи {@code UNION ALL}: так планировщик может слить ветки обратным проходом
+     * по индексам {@code (user_id, create_date DESC, id DESC)} (Merge Append), а если выберет сортировку,
+     * она выполнится в БД с выгрузкой на диск сверх {@code work_mem}.
+     * Строки отдаются курсором порциями по {@code fetchSize}; поток нужно закрыть внутри транзакции
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = HISTORY + "WHERE t.user_id = :userId " +
+            "ORDER BY t.create_date, t.id", nativeQuery = true)
+    Stream<TransactionExportRow> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Первая страница истории: PostgreSQL сливает обратные проходы по индексам обеих таблиц (Merge Append)
+     * и останавливается после {@code limit} строк, {@code kind} только упорядочивает строки с одинаковыми датой и id
+     */
+    @Query(value = HISTORY + "WHERE t.user_id = :userId " +
+            "ORDER BY t.create_date DESC, t.id DESC, t.kind DESC", nativeQuery = true)
+    List<TransactionExportRow> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Страница истории после курсора {@code (createDate, id, kind)}; условия переносятся в обе ветки {@code UNION ALL},
+     * избыточное {@code create_date <= :createDate} задает границу диапазона для индексов
+     */
+    @Query(value = HISTORY + "WHERE t.user_id = :userId " +
+            "AND t.create_date <= :createDate " +
+            "AND (t.create_date < :createDate OR t.id < :id OR (t.id = :id AND t.kind < :kind)) " +
+            "ORDER BY t.create_date DESC, t.id DESC, t.kind DESC", nativeQuery = true)
+    List<TransactionExportRow> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                     @Param("createDate") OffsetDateTime createDate,
+                                                     @Param("id") Long id,
+                                                     @Param("kind") String kind,
+                                                     Limit limit);
+}
@@ -0,0 +1,51 @@
+package app.core.repository;
+
+import app.core.model.TransactionBaseEntity;
+import app.core.model.dto.TransactionBaseResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Списки доходов и расходов по {@link TransactionSpecifications}, спроецированные сразу в DTO.
+ * <p>
+ * {@code findBy(spec, q -> q.as(...))} Spring Data все равно читает сущности и преобразует их в памяти,
+ * поэтому запрос собирается через Criteria API с {@code construct}: выбираются только колонки ответа,
+ * а строки не попадают в контекст персистентности
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionResponseQueries {
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param limit {@link Limit#unlimited()} возвращает все подходящие строки
+     * @return строки в порядке {@link TransactionSpecifications#NEWEST_FIRST}
+     */
+    public <T extends TransactionBaseEntity> List<TransactionBaseResponseDto> findAll(Class<T> entityType,
+                                                                                     Specification<T> specification,
+                                                                                     Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionBaseResponseDto> query = cb.createQuery(TransactionBaseResponseDto.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.construct(TransactionBaseResponseDto.class,
+                        root.get("id"), root.get("amount"), root.get("category"), root.get("createDate"), root.get("description")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(TransactionSpecifications.NEWEST_FIRST, root, cb));
+        TypedQuery<TransactionBaseResponseDto> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery.getResultList();
+    }
+}
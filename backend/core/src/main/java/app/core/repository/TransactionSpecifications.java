@@ -0,0 +1,67 @@
+package app.core.repository;
+
+import app.core.model.TransactionBaseEntity;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.pagination.TransactionCursor;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Динамические условия списков доходов и расходов по {@link TransactionFilterDto}.
+ * <p>
+ * В запрос попадают только заданные фильтры, и каждый остается простым сравнением колонки с параметром:
+ * {@code user_id} и {@code category} на равенство, {@code create_date} диапазоном. Так условия ложатся
+ * на индексы {@code (user_id, category, create_date DESC, id DESC)} и {@code (user_id, create_date DESC, id DESC)},
+ * а сумма проверяется на найденных по индексу строках
+ */
+public final class TransactionSpecifications {
+
+    /**
+     * Порядок списков и keyset-пагинации, совпадает с порядком обоих индексов
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createDate", "id");
+
+    private TransactionSpecifications() {
+    }
+
+    /**
+     * @param to верхняя граница даты не включается, чтобы соседние периоды не пересекались
+     */
+    public static <T extends TransactionBaseEntity> Specification<T> filtered(Long userId, TransactionFilterDto filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("userId"), userId));
+            if (filter.category() != null) {
+                predicates.add(cb.equal(root.get("category"), filter.category()));
+            }
+            if (filter.from() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createDate"), filter.from()));
+            }
+            if (filter.to() != null) {
+                predicates.add(cb.lessThan(root.get("createDate"), filter.to()));
+            }
+            if (filter.minAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), filter.minAmount()));
+            }
+            if (filter.maxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), filter.maxAmount()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Строки после курсора в порядке {@link #NEWEST_FIRST}; как и в запросах страниц без фильтров,
+     * избыточное условие {@code createDate <= :createDate} задает границу диапазона для индекса
+     */
+    public static <T extends TransactionBaseEntity> Specification<T> after(TransactionCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createDate"), cursor.createDate()),
+                cb.or(cb.lessThan(root.get("createDate"), cursor.createDate()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+}
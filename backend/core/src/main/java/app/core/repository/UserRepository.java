@@ -2,6 +2,7 @@ package app.core.repository;
 
 import app.core.model.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +17,16 @@ import java.util.Optional;
  */
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
-    @Query("SELECT i FROM UserEntity i WHERE i.username = :username")
+    /**
+     * Поиск без учета регистра по уникальному индексу {@code uq_users_username_lower}
+     */
+    @Query("SELECT i FROM UserEntity i WHERE lower(i.username) = lower(:username)")
     Optional<UserEntity> findByUsername(@Param("username") String username);
+
+    /**
+     * Пишет только хеш пароля, без чтения и dirty checking остальных полей
+     */
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :passwordHash WHERE u.id = :id")
+    void updatePassword(@Param("id") Long id, @Param("passwordHash") String passwordHash);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package app.core.security;
+
+import app.core.model.UserEntity;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Собирает аутентификацию из claims проверенного access-токена без обращения к БД.
+ * <p>
+ * Principal — {@link UserEntity} только с id ({@value #USER_ID_CLAIM}) и username ({@code sub}):
+ * сервисам из контекста безопасности нужен лишь id владельца, полные данные пользователя читаются из БД по нему
+ */
+public class AccessTokenAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    public static final String USER_ID_CLAIM = "uid";
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        UserEntity user = new UserEntity();
+        user.setId(userId(jwt));
+        user.setUsername(jwt.getSubject());
+        return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+    }
+
+    public static Long userId(Jwt jwt) {
+        Number userId = jwt.getClaim(USER_ID_CLAIM);
+        return userId == null ? null : userId.longValue();
+    }
+}
@@ -0,0 +1,116 @@
+package app.core.security;
+
+import app.core.errorhandling.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Хеширует и проверяет пароли на отдельном ограниченном пуле.
+ * <p>
+ * BCrypt занимает процессор на десятки миллисекунд, и всплеск входов (например, после деплоя, сбросившего сессии)
+ * занял бы им все потоки Tomcat. Одновременно считается не больше {@code threads} хешей, еще {@code queueCapacity}
+ * ждут в очереди, остальные запросы сразу получают {@link PasswordHashingBusyException} (429 с {@code Retry-After}),
+ * а CRUD-запросам остается процессор.
+ * Пул собственный и не регистрируется бином {@code Executor}, как в {@link app.core.service.TransactionImportRunner}.
+ * <p>
+ * Время самого BCrypt пишется в таймер {@value #METRIC} с тегом {@code operation}, очередь пула —
+ * в метрики {@code executor.*} с тегом {@code name=password-hashing}
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    public static final String METRIC = "password.hashing";
+
+    /**
+     * Хеш считается десятки миллисекунд, так что очередь освобождается быстро
+     */
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return compute(timed(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return compute(timed(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Только разбирает хеш, поэтому выполняется в вызывающем потоке
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "password-hashing", Tags.empty()).bindTo(registry);
+        encodeTimer = Timer.builder(METRIC).tag("operation", "encode").register(registry);
+        matchesTimer = Timer.builder(METRIC).tag("operation", "matches").register(registry);
+    }
+
+    /**
+     * Вызывается контейнером при остановке как выведенный destroy-метод бина
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @param timer {@code null}, пока энкодер не привязан к реестру метрик
+     */
+    private static <T> Callable<T> timed(Timer timer, Supplier<T> task) {
+        return timer == null ? task::get : () -> timer.record(task);
+    }
+
+    /**
+     * @throws PasswordHashingBusyException если пул и очередь заняты
+     */
+    private <T> T compute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingBusyException("Password hashing queue is full, try again later", RETRY_AFTER, e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package app.core.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+
+/**
+ * Хранит в HTTP-сессии только username аутентифицированного пользователя вместо всего {@link SecurityContext}.
+ * <p>
+ * В JDBC-сессию сериализуется одна строка, а не {@link app.core.model.UserEntity} с хешем пароля; пользователь
+ * на каждом запросе берется из {@link UserDetailsService}, поэтому изменения профиля видны сразу,
+ * а удаленный пользователь перестает быть аутентифицированным. Общие JDBC-сессии читают пользователя мимо кэша,
+ * иначе другие экземпляры видели бы удаление с опозданием, см. {@link app.core.service.UserServiceImpl#isCacheEnabled()}. Имя атрибута совпадает с индексом
+ * Spring Session по пользователю, так что в JDBC-режиме заполняется {@code spring_session.principal_name}
+ */
+@RequiredArgsConstructor
+public class SessionUsernameSecurityContextRepository implements SecurityContextRepository {
+
+    public static final String USERNAME_ATTRIBUTE = FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME;
+
+    private final UserDetailsService userDetailsService;
+
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return new LazySecurityContext(request);
+    }
+
+    /**
+     * @deprecated Spring Security вызывает {@link #loadDeferredContext(HttpServletRequest)}
+     */
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return loadDeferredContext(requestResponseHolder.getRequest()).get();
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof UserDetails user)) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.removeAttribute(USERNAME_ATTRIBUTE);
+            }
+            return;
+        }
+        HttpSession session = request.getSession();
+        if (!user.getUsername().equals(session.getAttribute(USERNAME_ATTRIBUTE))) {
+            session.setAttribute(USERNAME_ATTRIBUTE, user.getUsername());
+        }
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null && session.getAttribute(USERNAME_ATTRIBUTE) != null;
+    }
+
+    /**
+     * @return контекст пользователя из сессии или {@code null}, если в сессии нет пользователя или он удален
+     */
+    private SecurityContext readContext(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null || !(session.getAttribute(USERNAME_ATTRIBUTE) instanceof String username)) {
+            return null;
+        }
+        try {
+            UserDetails user = userDetailsService.loadUserByUsername(username);
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+            return context;
+        } catch (UsernameNotFoundException e) {
+            session.removeAttribute(USERNAME_ATTRIBUTE);
+            return null;
+        }
+    }
+
+    private final class LazySecurityContext implements DeferredSecurityContext {
+        private final HttpServletRequest request;
+        private SecurityContext context;
+        private boolean generated;
+
+        private LazySecurityContext(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public SecurityContext get() {
+            if (context == null) {
+                context = readContext(request);
+                generated = context == null;
+                if (generated) {
+                    context = SecurityContextHolder.createEmptyContext();
+                }
+            }
+            return context;
+        }
+
+        @Override
+        public boolean isGenerated() {
+            get();
+            return generated;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package app.core.security;
+
+import app.core.repository.TokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Отзывы access-токенов для режима {@code authentication.mode=token}: токены пользователя, выпущенные раньше отзыва,
+ * недействительны.
+ * <p>
+ * Токен проверяется по копии в памяти, без БД. Отзыв пишется в {@code token_revocations}, другие экземпляры
+ * подтягивают его раз в {@code authentication.token.revocation-sync}. Отзывы старше срока жизни access-токена удаляются:
+ * отозванные ими токены уже истекли. {@code iat} в JWT хранится с точностью до секунды, поэтому отзываются и токены,
+ * выпущенные в одну секунду с отзывом, в том числе сразу после него: такой клиент просто входит заново
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+public class TokenRevocationList implements OAuth2TokenValidator<Jwt> {
+
+    /**
+     * Допуск на расхождение часов, как у проверки {@code exp} в {@link org.springframework.security.oauth2.jwt.JwtTimestampValidator}
+     */
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Token is revoked", null);
+
+    private final Map<Long, Instant> revocations = new ConcurrentHashMap<>();
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Duration accessTtl;
+
+    public TokenRevocationList(TokenRevocationRepository tokenRevocationRepository,
+                               @Value("${authentication.token.access-ttl}") Duration accessTtl) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.accessTtl = accessTtl;
+    }
+
+    /**
+     * Отзывает все выданные пользователю access-токены; запись в БД идет в текущей транзакции, а копия в памяти
+     * обновляется после ее коммита, чтобы откат не оставил отзыв только на этом экземпляре
+     */
+    public void revoke(Long userId) {
+        Instant now = Instant.now();
+        tokenRevocationRepository.upsert(userId, now);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revocations.merge(userId, now, TokenRevocationList::latest);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocations.merge(userId, now, TokenRevocationList::latest);
+            }
+        });
+    }
+
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        Instant revokedAt = revocations.get(userId);
+        return revokedAt != null
+                && !issuedAt.truncatedTo(ChronoUnit.SECONDS).isAfter(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        Long userId = AccessTokenAuthenticationConverter.userId(jwt);
+        if (userId == null || jwt.getIssuedAt() == null || isRevoked(userId, jwt.getIssuedAt())) {
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+
+    /**
+     * Подтягивает отзывы других экземпляров и удаляет те, что пережили срок жизни access-токена
+     */
+    @Scheduled(fixedDelayString = "${authentication.token.revocation-sync:10s}")
+    @Transactional
+    public void sync() {
+        Instant horizon = Instant.now().minus(accessTtl).minus(CLOCK_SKEW);
+        int purged = tokenRevocationRepository.deleteAllRevokedBefore(horizon);
+        tokenRevocationRepository.findAllByRevokedAtAfter(horizon)
+                .forEach(revocation -> revocations.merge(revocation.getUserId(), revocation.getRevokedAt(), TokenRevocationList::latest));
+        revocations.values().removeIf(revokedAt -> revokedAt.isBefore(horizon));
+        log.debug("Token revocations synced: {} active, {} purged", revocations.size(), purged);
+    }
+
+    private static Instant latest(Instant first, Instant second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
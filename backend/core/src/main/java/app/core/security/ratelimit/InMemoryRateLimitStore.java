@@ -0,0 +1,40 @@
+package app.core.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+/**
+ * Ведра в памяти экземпляра, лимиты у каждого экземпляра backend свои.
+ * <p>
+ * Число ведер ограничено {@code maxKeys}, лишние вытесняются Caffeine. Ведро, к которому не обращались
+ * {@code idleTimeout} (время полного наполнения самого медленного лимита), удаляется: оно уже полное,
+ * и удаление ничего не меняет. Вытесненное по размеру ведро при следующей попытке создается полным,
+ * то есть при переполнении лимитер пропускает лишние попытки, а не отклоняет
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+    private final Ticker ticker;
+
+    public InMemoryRateLimitStore(long maxKeys, Duration idleTimeout) {
+        this(maxKeys, idleTimeout, Ticker.systemTicker());
+    }
+
+    public InMemoryRateLimitStore(long maxKeys, Duration idleTimeout, Ticker ticker) {
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimit limit) {
+        long now = ticker.read();
+        return buckets.get(key, k -> new TokenBucket(now)).tryConsume(now, limit);
+    }
+}
@@ -0,0 +1,64 @@
+package app.core.security.ratelimit;
+
+import app.core.errorhandling.exceptions.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Ограничивает попытки входа и регистрации до обращения к БД и BCrypt.
+ * <p>
+ * Попытка берет токен из ведра адреса клиента, затем из ведра username (без учета регистра, как и уникальность
+ * username). Ведро адреса сдерживает перебор множества учетных записей с одного адреса, ведро username —
+ * подбор пароля к одной учетной записи с разных адресов. Отказы считаются в метрике {@value #REJECTED_METRIC}
+ */
+@Component
+public class LoginRateLimiter {
+
+    public static final String REJECTED_METRIC = "auth.rate.limit.rejected";
+
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final RateLimit usernameLimit;
+    private final RateLimit addressLimit;
+
+    public LoginRateLimiter(RateLimitStore rateLimitStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${authentication.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${authentication.rate-limit.username.capacity:10}") int usernameCapacity,
+                            @Value("${authentication.rate-limit.username.refill-period:30s}") Duration usernameRefillPeriod,
+                            @Value("${authentication.rate-limit.address.capacity:30}") int addressCapacity,
+                            @Value("${authentication.rate-limit.address.refill-period:2s}") Duration addressRefillPeriod) {
+        this.rateLimitStore = rateLimitStore;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.usernameLimit = new RateLimit(usernameCapacity, usernameRefillPeriod);
+        this.addressLimit = new RateLimit(addressCapacity, addressRefillPeriod);
+    }
+
+    /**
+     * @param endpoint      {@code login} или {@code signup}, тег метрики
+     * @param remoteAddress адрес клиента из {@code HttpServletRequest#getRemoteAddr()}
+     * @throws RateLimitExceededException если одно из ведер пусто
+     */
+    public void acquire(String endpoint, String username, String remoteAddress) {
+        if (!enabled) {
+            return;
+        }
+        consume(endpoint, "address", "address:" + remoteAddress, addressLimit);
+        consume(endpoint, "username", "username:" + username.toLowerCase(Locale.ROOT), usernameLimit);
+    }
+
+    private void consume(String endpoint, String keyType, String key, RateLimit limit) {
+        long waitNanos = rateLimitStore.tryConsume(key, limit);
+        if (waitNanos > 0) {
+            meterRegistry.counter(REJECTED_METRIC, "endpoint", endpoint, "key", keyType).increment();
+            throw new RateLimitExceededException("Too many attempts for this " + keyType + ", try again later",
+                    Duration.ofNanos(waitNanos));
+        }
+    }
+}
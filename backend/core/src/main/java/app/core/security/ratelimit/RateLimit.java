@@ -0,0 +1,22 @@
+package app.core.security.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Ведро токенов: до {@code capacity} попыток подряд, затем одна попытка каждые {@code refillPeriod}
+ */
+public record RateLimit(int capacity, Duration refillPeriod) {
+
+    public RateLimit {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs positive capacity and refill period");
+        }
+    }
+
+    /**
+     * @return за сколько пустое ведро наполняется целиком
+     */
+    public Duration fullRefill() {
+        return refillPeriod.multipliedBy(capacity);
+    }
+}
@@ -0,0 +1,17 @@
+package app.core.security.ratelimit;
+
+/**
+ * Хранилище ведер токенов.
+ * <p>
+ * Выбирается свойством {@code authentication.rate-limit.store}; сейчас есть только {@link InMemoryRateLimitStore},
+ * общее для нескольких экземпляров хранилище подключается отдельной реализацией
+ */
+public interface RateLimitStore {
+
+    /**
+     * Берет токен из ведра {@code key}, создавая полное ведро при первом обращении
+     *
+     * @return 0, если токен взят, иначе через сколько наносекунд появится следующий
+     */
+    long tryConsume(String key, RateLimit limit);
+}
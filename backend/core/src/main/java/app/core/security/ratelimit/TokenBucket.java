@@ -0,0 +1,40 @@
+package app.core.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ведро токенов без блокировок.
+ * <p>
+ * Вместо числа токенов и времени последнего пополнения хранится один момент, когда ведро снова станет полным
+ * (GCRA): каждая попытка сдвигает его на {@code refillPeriod}, а попытка отклоняется, если он ушел дальше
+ * {@code capacity * refillPeriod} от текущего времени. Состояние помещается в {@link AtomicLong}
+ * и обновляется через compare-and-set
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @param now время в наносекундах из того же источника, что и при создании ведра
+     * @return 0, если токен взят, иначе сколько наносекунд ждать следующего
+     */
+    long tryConsume(long now, RateLimit limit) {
+        long interval = limit.refillPeriod().toNanos();
+        long burst = limit.fullRefill().toNanos();
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            long ahead = next - now;
+            if (ahead > burst) {
+                return ahead - burst;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package app.core.service;
+
+import app.core.api.AnalyticsService;
+import app.core.mappers.AnalyticsMapper;
+import app.core.model.analytics.AnalyticsPeriod;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.dto.AnalyticsSummaryResponseDto;
+import app.core.model.dto.CategoryAmountDto;
+import app.core.model.dto.TransactionSummaryDto;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import app.core.repository.DailyRollupRepository;
+import app.core.repository.ExpenseRepository;
+import app.core.repository.IncomeRepository;
+import app.core.security.SecurityProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final AnalyticsMapper analyticsMapper;
+    private final SecurityProvider securityProvider;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AnalyticsSummaryResponseDto getSummary(String period, String zone) {
+        AnalyticsPeriod analyticsPeriod = AnalyticsPeriod.fromValue(period);
+        ZoneId zoneId = parseZone(zone);
+        LocalDate today = LocalDate.now(zoneId);
+        OffsetDateTime from = analyticsPeriod.startDate(today).atStartOfDay(zoneId).toOffsetDateTime();
+        OffsetDateTime to = analyticsPeriod.endDate(today).atStartOfDay(zoneId).toOffsetDateTime();
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        String unit = analyticsPeriod.getUnit();
+
+        TransactionSummaryDto expenses;
+        TransactionSummaryDto incomes;
+        if (isUtc(zoneId)) {
+            LocalDate fromDay = from.toLocalDate();
+            LocalDate toDay = to.toLocalDate();
+            expenses = summarize(
+                    dailyRollupRepository.sumByCategory(userId, TransactionKind.EXPENSE.name(), fromDay, toDay),
+                    dailyRollupRepository.sumByBucket(userId, TransactionKind.EXPENSE.name(), fromDay, toDay, unit));
+            incomes = summarize(
+                    dailyRollupRepository.sumByCategory(userId, TransactionKind.INCOME.name(), fromDay, toDay),
+                    dailyRollupRepository.sumByBucket(userId, TransactionKind.INCOME.name(), fromDay, toDay, unit));
+        } else {
+            expenses = summarize(
+                    expenseRepository.sumByCategory(userId, from, to),
+                    expenseRepository.sumByBucket(userId, from, to, unit, zoneId.getId()));
+            incomes = summarize(
+                    incomeRepository.sumByCategory(userId, from, to),
+                    incomeRepository.sumByBucket(userId, from, to, unit, zoneId.getId()));
+        }
+
+        return AnalyticsSummaryResponseDto.builder()
+                .period(analyticsPeriod.getValue())
+                .unit(analyticsPeriod.getUnit())
+                .from(from)
+                .to(to)
+                .expenses(expenses)
+                .incomes(incomes)
+                .build();
+    }
+
+    private TransactionSummaryDto summarize(List<CategoryAmount> byCategory, List<BucketAmount> series) {
+        List<CategoryAmountDto> categories = analyticsMapper.toCategoryAmounts(byCategory);
+        BigDecimal total = categories.stream()
+                .map(CategoryAmountDto::total)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return TransactionSummaryDto.builder()
+                .total(total)
+                .byCategory(categories)
+                .series(analyticsMapper.toBucketAmounts(series))
+                .build();
+    }
+
+    /**
+     * Суточные агрегаты хранятся по дням UTC, поэтому годятся только для зоны со смещением 0;
+     * для остальных зон границы дней считаются по базовым таблицам
+     */
+    private boolean isUtc(ZoneId zoneId) {
+        return zoneId.normalized().equals(ZoneOffset.UTC);
+    }
+
+    private ZoneId parseZone(String zone) {
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown time zone '" + zone + "'");
+        }
+    }
+}
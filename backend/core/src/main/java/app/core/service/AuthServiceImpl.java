@@ -24,7 +24,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final RememberMeServices rememberMeServices;
 
-    public void authenticate(AuthRequestDto authRequest, HttpServletRequest request, HttpServletResponse response) {
+    public Authentication authenticate(AuthRequestDto authRequest, HttpServletRequest request, HttpServletResponse response) {
         try {
             UsernamePasswordAuthenticationToken authToken = UsernamePasswordAuthenticationToken.unauthenticated(authRequest.username(), authRequest.password());
             log.debug("Authentication attempt for user w/ username={}", authRequest.username());
@@ -41,6 +41,7 @@ public class AuthServiceImpl implements AuthService {
 
                 log.debug("User w/ username={} successfully authenticated", authRequest.username());
             }
+            return authentication;
         } catch (Exception e) {
             rememberMeServices.loginFail(request, response);
             log.debug("Authentication failed for user w/ username={}", authRequest.username());
@@ -0,0 +1,146 @@
+package app.core.service;
+
+import app.core.api.AuthTokenService;
+import app.core.model.RefreshTokenEntity;
+import app.core.model.UserEntity;
+import app.core.model.dto.TokenResponseDto;
+import app.core.repository.RefreshTokenRepository;
+import app.core.repository.UserRepository;
+import app.core.security.AccessTokenAuthenticationConverter;
+import app.core.security.TokenRevocationList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Access-токен — JWT с подписью HS256, проверяется без БД; refresh-токен — случайная строка, в БД хранится ее SHA-256
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "authentication.mode", havingValue = "token")
+public class AuthTokenServiceImpl implements AuthTokenService {
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final JwtEncoder jwtEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public AuthTokenServiceImpl(JwtEncoder jwtEncoder,
+                                RefreshTokenRepository refreshTokenRepository,
+                                UserRepository userRepository,
+                                TokenRevocationList tokenRevocationList,
+                                @Value("${authentication.token.access-ttl}") Duration accessTtl,
+                                @Value("${authentication.token.refresh-ttl}") Duration refreshTtl) {
+        this.jwtEncoder = jwtEncoder;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+    }
+
+    @Override
+    @Transactional
+    public TokenResponseDto issue(UserEntity user) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(user.getUsername())
+                .claim(AccessTokenAuthenticationConverter.USER_ID_CLAIM, user.getId())
+                .issuedAt(now)
+                .expiresAt(now.plus(accessTtl))
+                .build();
+        String accessToken = jwtEncoder
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+
+        byte[] refreshBytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(refreshBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(refreshBytes);
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(hash(refreshToken))
+                .userId(user.getId())
+                .expiresAt(now.plus(refreshTtl))
+                .build());
+
+        log.debug("Tokens issued for user {}", user.getId());
+        return TokenResponseDto.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .tokenType(TOKEN_TYPE)
+                .expiresIn(accessTtl.toSeconds())
+                .build();
+    }
+
+    /**
+     * Отзыв при повторном предъявлении должен сохраниться, поэтому транзакция не откатывается на {@link BadCredentialsException}
+     */
+    @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenResponseDto refresh(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        RefreshTokenEntity token = refreshTokenRepository.findById(tokenHash)
+                .orElseThrow(() -> new BadCredentialsException("Refresh token is not valid"));
+
+        if (refreshTokenRepository.markUsed(tokenHash, Instant.now()) == 0) {
+            if (token.getUsedAt() != null) {
+                log.warn("Used refresh token presented again for user {}, revoking all tokens", token.getUserId());
+                revokeAll(token.getUserId());
+            }
+            throw new BadCredentialsException("Refresh token is not valid");
+        }
+
+        UserEntity user = userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new BadCredentialsException("Refresh token is not valid"));
+        return issue(user);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(Long userId) {
+        tokenRevocationList.revoke(userId);
+        refreshTokenRepository.deleteAllByUserId(userId);
+        log.debug("All tokens revoked for user {}", userId);
+    }
+
+    /**
+     * Использованные токены хранятся до истечения, чтобы распознать их повторное предъявление
+     */
+    @Scheduled(fixedDelayString = "${authentication.token.cleanup-interval:1h}")
+    @Transactional
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteAllExpired(Instant.now());
+        log.debug("Expired refresh tokens deleted: {}", deleted);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
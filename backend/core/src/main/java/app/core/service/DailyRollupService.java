@@ -0,0 +1,108 @@
+package app.core.service;
+
+import app.core.model.DailyRollupId;
+import app.core.model.TransactionBaseEntity;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.projection.TransactionChange;
+import app.core.repository.DailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Поддержка таблицы {@code daily_rollups}.
+ * <p>
+ * {@link #add}, {@link #subtract} и {@link #replace} вызываются в транзакции записи доходов и расходов,
+ * поэтому агрегаты меняются атомарно вместе с базовой строкой
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyRollupService {
+
+    private final DailyRollupRepository dailyRollupRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(TransactionKind kind, TransactionBaseEntity transaction) {
+        applyDelta(kind, transaction.getUser().getId(), dayOf(transaction), transaction.getCategory(), transaction.getAmount(), 1);
+    }
+
+    /**
+     * Снимает вклад строки по ее значениям до изменения ({@code old.*} из {@code DELETE ... RETURNING})
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(TransactionKind kind, Long userId, TransactionChange change) {
+        applyDelta(kind, userId, dayOf(change.getOldCreateDate()), change.getOldCategory(), change.getOldAmount().negate(), -1);
+    }
+
+    /**
+     * Переносит вклад обновленной строки; если день и категория не изменились, хватает одного upsert разницы сумм
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(TransactionKind kind, Long userId, TransactionChange change) {
+        LocalDate oldDay = dayOf(change.getOldCreateDate());
+        LocalDate newDay = dayOf(change.getCreateDate());
+        if (oldDay.equals(newDay) && change.getOldCategory().equals(change.getCategory())) {
+            if (change.getAmount().compareTo(change.getOldAmount()) != 0) {
+                applyDelta(kind, userId, newDay, change.getCategory(), change.getAmount().subtract(change.getOldAmount()), 0);
+            }
+            return;
+        }
+        subtract(kind, userId, change);
+        applyDelta(kind, userId, newDay, change.getCategory(), change.getAmount(), 1);
+    }
+
+    /**
+     * Дельты пакета сворачиваются по ключу агрегата, чтобы на пакет приходился один upsert на день и категорию
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(TransactionKind kind, List<? extends TransactionBaseEntity> transactions) {
+        Map<DailyRollupId, BigDecimal> totals = new LinkedHashMap<>();
+        Map<DailyRollupId, Long> counts = new HashMap<>();
+        for (TransactionBaseEntity transaction : transactions) {
+            DailyRollupId key = new DailyRollupId(transaction.getUser().getId(), kind, dayOf(transaction), transaction.getCategory());
+            totals.merge(key, transaction.getAmount(), BigDecimal::add);
+            counts.merge(key, 1L, Long::sum);
+        }
+        totals.forEach((key, total) -> dailyRollupRepository.upsertDelta(
+                key.getUserId(), kind.name(), key.getDay(), key.getCategory(), total, counts.get(key)));
+    }
+
+    @Transactional
+    public void rebuild() {
+        int deleted = dailyRollupRepository.deleteAllRollups();
+        int inserted = dailyRollupRepository.insertFromTransactions();
+        log.info("Daily rollups rebuilt: {} rows removed, {} rows inserted", deleted, inserted);
+    }
+
+    @Transactional(readOnly = true)
+    public long countMismatches() {
+        return dailyRollupRepository.countMismatches();
+    }
+
+    public static LocalDate dayOf(TransactionBaseEntity transaction) {
+        return dayOf(transaction.getCreateDate().toInstant());
+    }
+
+    public static LocalDate dayOf(Instant createDate) {
+        return LocalDate.ofInstant(createDate, ZoneOffset.UTC);
+    }
+
+    private void applyDelta(TransactionKind kind, Long userId, LocalDate day, String category, BigDecimal total, long count) {
+        dailyRollupRepository.upsertDelta(userId, kind.name(), day, category, total, count);
+        if (count < 0) {
+            dailyRollupRepository.deleteIfEmpty(userId, kind.name(), day, category);
+        }
+    }
+}
@@ -2,19 +2,35 @@ package app.core.service;
 
 import app.core.security.SecurityProvider;
 import app.core.api.ExpenseService;
+import app.core.batch.TransactionBatchValidator;
+import app.core.batch.TransactionBatches;
 import app.core.mappers.ExpenseMapper;
 import app.core.model.ExpenseEntity;
 import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
+import app.core.pagination.KeysetPagination;
+import app.core.pagination.TransactionCursor;
 import app.core.repository.ExpenseRepository;
+import app.core.repository.TransactionResponseQueries;
+import app.core.repository.TransactionSpecifications;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -22,47 +38,119 @@ import java.util.List;
 public class ExpenseServiceImpl implements ExpenseService {
 
     private final ExpenseRepository expenseRepository;
+    private final TransactionResponseQueries transactionResponseQueries;
+    private final TransactionBatchValidator transactionBatchValidator;
+    private final DailyRollupService dailyRollupService;
     private final ExpenseMapper expenseMapper;
     private final SecurityProvider securityProvider;
 
     @Override
+    @Transactional(readOnly = true)
     public TransactionBaseResponseDto get(Long id) {
         ExpenseEntity expense = expenseRepository
                 .findById(id).orElseThrow(() -> new EntityNotFoundException("Expense with id: " + id + " is not found!"));
-        securityProvider.checkAccess(expense.getUser().getId(), securityProvider.getUserFromSecurityContext().getId());
+        securityProvider.checkAccess(expense.getUserId(), securityProvider.getUserFromSecurityContext().getId());
         return expenseMapper.toResponse(expense);
     }
 
     @Override
+    @Transactional
     public TransactionBaseResponseDto create(CreateTransactionBaseRequestDto expenseEntity) {
         ExpenseEntity expense = expenseMapper.createExpenseFromRequest(expenseEntity);
         expense.setUser(securityProvider.getUserFromSecurityContext());
         ExpenseEntity savedExpense = expenseRepository.save(expense);
+        dailyRollupService.add(TransactionKind.EXPENSE, savedExpense);
         return expenseMapper.toResponse(savedExpense);
     }
 
     @Override
+    @Transactional
+    public TransactionBatchResponseDto createAll(List<CreateTransactionBaseRequestDto> expenseRequests, boolean atomic) {
+        Map<Integer, Map<String, String>> errors = transactionBatchValidator.validate(expenseRequests);
+        if (atomic && !errors.isEmpty()) {
+            return TransactionBatches.rejected(errors);
+        }
+        UserEntity user = securityProvider.getUserFromSecurityContext();
+        List<ExpenseEntity> expenses = new ArrayList<>();
+        for (CreateTransactionBaseRequestDto expenseRequest : TransactionBatches.validItems(expenseRequests, errors)) {
+            ExpenseEntity expense = expenseMapper.createExpenseFromRequest(expenseRequest);
+            expense.setUser(user);
+            expenses.add(expense);
+        }
+        List<ExpenseEntity> savedExpenses = expenseRepository.saveAll(expenses);
+        dailyRollupService.addAll(TransactionKind.EXPENSE, savedExpenses);
+        return TransactionBatches.toResponse(expenseRequests.size(), errors,
+                savedExpenses.stream().map(expenseMapper::toResponse).toList());
+    }
+
+    @Override
+    @Transactional
     public void delete(Long id) {
-        ExpenseEntity expense = expenseRepository
-                .findById(id).orElseThrow(() -> new EntityNotFoundException("Expense with id: " + id + " is not found!"));
-        securityProvider.checkAccess(expense.getUser().getId(), securityProvider.getUserFromSecurityContext().getId());
-        expenseRepository.delete(expense);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        TransactionChange deleted = requireAffected(expenseRepository.deleteOwned(id, userId), id, userId);
+        dailyRollupService.subtract(TransactionKind.EXPENSE, userId, deleted);
     }
 
     @Override
+    @Transactional
     public TransactionBaseResponseDto update(Long id, UpdateTransactionBaseRequestDto newExpenseEntity) {
-        ExpenseEntity expense = expenseRepository
-                .findById(id).orElseThrow(() -> new EntityNotFoundException("Income with id: " + id +  " is not found!"));
-        securityProvider.checkAccess(expense.getUser().getId(), securityProvider.getUserFromSecurityContext().getId());
-
-        expenseMapper.updateExpenseFromRequest(newExpenseEntity, expense);
-        ExpenseEntity updatedExpense = expenseRepository.save(expense);
-        return expenseMapper.toResponse(updatedExpense);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        TransactionChange updated = requireAffected(expenseRepository.updateOwned(id, userId,
+                newExpenseEntity.amount(), newExpenseEntity.category(), newExpenseEntity.createDate(), newExpenseEntity.description()), id, userId);
+        dailyRollupService.replace(TransactionKind.EXPENSE, userId, updated);
+        return expenseMapper.toResponse(updated);
     }
 
     @Override
-    public List<TransactionBaseResponseDto> getAllUserExpenses() {
+    @Transactional(readOnly = true)
+    public List<TransactionBaseResponseDto> getAllUserExpenses(TransactionFilterDto filter) {
         UserEntity user = securityProvider.getUserFromSecurityContext();
-        return expenseRepository.findAllByUserId(user.getId()).stream().map(expenseMapper::toResponse).toList();
+        if (filter.isEmpty()) {
+            return expenseRepository.findAllResponsesByUserId(user.getId());
+        }
+        return transactionResponseQueries.findAll(ExpenseEntity.class,
+                TransactionSpecifications.filtered(user.getId(), filter), Limit.unlimited());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageResponseDto getUserExpensesPage(int limit, String after, TransactionFilterDto filter) {
+        Limit probeLimit = KeysetPagination.probeLimit(limit);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        List<TransactionBaseResponseDto> rows;
+        if (!filter.isEmpty()) {
+            rows = findFilteredPage(userId, filter, after, probeLimit);
+        } else if (after == null) {
+            rows = expenseRepository.findFirstPageByUserId(userId, probeLimit);
+        } else {
+            TransactionCursor cursor = TransactionCursor.decode(after);
+            rows = expenseRepository.findPageByUserIdAfter(userId, cursor.createDate(), cursor.id(), probeLimit);
+        }
+        return KeysetPagination.toPage(rows, limit);
+    }
+
+    /**
+     * Страница с фильтрами собирается из {@link TransactionSpecifications} и проецируется сразу в DTO
+     */
+    private List<TransactionBaseResponseDto> findFilteredPage(Long userId, TransactionFilterDto filter, String after, Limit probeLimit) {
+        Specification<ExpenseEntity> specification = TransactionSpecifications.filtered(userId, filter);
+        if (after != null) {
+            specification = specification.and(TransactionSpecifications.after(TransactionCursor.decode(after)));
+        }
+        return transactionResponseQueries.findAll(ExpenseEntity.class, specification, probeLimit);
+    }
+
+    /**
+     * Пустой результат запроса с условием по владельцу разбирается отдельным чтением только в случае ошибки:
+     * строки нет — 404, строка чужая — 403
+     */
+    private TransactionChange requireAffected(List<TransactionChange> affected, Long id, Long userId) {
+        if (!affected.isEmpty()) {
+            return affected.get(0);
+        }
+        Long ownerId = expenseRepository.findUserIdById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Expense with id: " + id + " is not found!"));
+        securityProvider.checkAccess(ownerId, userId);
+        throw new EntityNotFoundException("Expense with id: " + id + " is not found!");
     }
 }
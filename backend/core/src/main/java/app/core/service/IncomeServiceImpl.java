@@ -2,19 +2,35 @@ package app.core.service;
 
 import app.core.security.SecurityProvider;
 import app.core.api.IncomeService;
+import app.core.batch.TransactionBatchValidator;
+import app.core.batch.TransactionBatches;
 import app.core.mappers.IncomeMapper;
 import app.core.model.IncomeEntity;
 import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
+import app.core.pagination.KeysetPagination;
+import app.core.pagination.TransactionCursor;
 import app.core.repository.IncomeRepository;
+import app.core.repository.TransactionResponseQueries;
+import app.core.repository.TransactionSpecifications;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -22,47 +38,119 @@ import java.util.List;
 public class IncomeServiceImpl implements IncomeService {
 
     private final IncomeRepository incomeRepository;
+    private final TransactionResponseQueries transactionResponseQueries;
+    private final TransactionBatchValidator transactionBatchValidator;
+    private final DailyRollupService dailyRollupService;
     private final IncomeMapper incomeMapper;
     private final SecurityProvider securityProvider;
 
     @Override
+    @Transactional(readOnly = true)
     public TransactionBaseResponseDto get(Long id) {
         IncomeEntity income = incomeRepository
                 .findById(id).orElseThrow(() -> new EntityNotFoundException("Income with id: " + id + " is not found!"));
-        securityProvider.checkAccess(income.getUser().getId(), securityProvider.getUserFromSecurityContext().getId());
+        securityProvider.checkAccess(income.getUserId(), securityProvider.getUserFromSecurityContext().getId());
         return incomeMapper.toResponse(income);
     }
 
     @Override
+    @Transactional
     public TransactionBaseResponseDto create(CreateTransactionBaseRequestDto incomeRequest) {
         IncomeEntity income = incomeMapper.createIncomeFromRequest(incomeRequest);
         income.setUser(securityProvider.getUserFromSecurityContext());
         IncomeEntity savedIncome = incomeRepository.save(income);
+        dailyRollupService.add(TransactionKind.INCOME, savedIncome);
         return incomeMapper.toResponse(savedIncome);
     }
 
     @Override
+    @Transactional
+    public TransactionBatchResponseDto createAll(List<CreateTransactionBaseRequestDto> incomeRequests, boolean atomic) {
+        Map<Integer, Map<String, String>> errors = transactionBatchValidator.validate(incomeRequests);
+        if (atomic && !errors.isEmpty()) {
+            return TransactionBatches.rejected(errors);
+        }
+        UserEntity user = securityProvider.getUserFromSecurityContext();
+        List<IncomeEntity> incomes = new ArrayList<>();
+        for (CreateTransactionBaseRequestDto incomeRequest : TransactionBatches.validItems(incomeRequests, errors)) {
+            IncomeEntity income = incomeMapper.createIncomeFromRequest(incomeRequest);
+            income.setUser(user);
+            incomes.add(income);
+        }
+        List<IncomeEntity> savedIncomes = incomeRepository.saveAll(incomes);
+        dailyRollupService.addAll(TransactionKind.INCOME, savedIncomes);
+        return TransactionBatches.toResponse(incomeRequests.size(), errors,
+                savedIncomes.stream().map(incomeMapper::toResponse).toList());
+    }
+
+    @Override
+    @Transactional
     public void delete(Long id) {
-        IncomeEntity income = incomeRepository
-                .findById(id).orElseThrow(() -> new EntityNotFoundException("Income with id: " + id +  " is not found!"));
-        securityProvider.checkAccess(income.getUser().getId(), securityProvider.getUserFromSecurityContext().getId());
-        incomeRepository.delete(income);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        TransactionChange deleted = requireAffected(incomeRepository.deleteOwned(id, userId), id, userId);
+        dailyRollupService.subtract(TransactionKind.INCOME, userId, deleted);
     }
 
     @Override
+    @Transactional
     public TransactionBaseResponseDto update(Long id, UpdateTransactionBaseRequestDto incomeRequest) {
-        IncomeEntity income = incomeRepository
-                .findById(id).orElseThrow(() -> new EntityNotFoundException("Income with id: " + id +  " is not found!"));
-        securityProvider.checkAccess(income.getUser().getId(), securityProvider.getUserFromSecurityContext().getId());
-        incomeMapper.updateIncomeFromRequest(incomeRequest, income);
-        IncomeEntity updatedIncome = incomeRepository.save(income);
-
-        return incomeMapper.toResponse(updatedIncome);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        TransactionChange updated = requireAffected(incomeRepository.updateOwned(id, userId,
+                incomeRequest.amount(), incomeRequest.category(), incomeRequest.createDate(), incomeRequest.description()), id, userId);
+        dailyRollupService.replace(TransactionKind.INCOME, userId, updated);
+        return incomeMapper.toResponse(updated);
     }
 
     @Override
-    public List<TransactionBaseResponseDto> getAllUserIncomes() {
+    @Transactional(readOnly = true)
+    public List<TransactionBaseResponseDto> getAllUserIncomes(TransactionFilterDto filter) {
         UserEntity user = securityProvider.getUserFromSecurityContext();
-        return incomeRepository.findAllByUserId(user.getId()).stream().map(incomeMapper::toResponse).toList();
+        if (filter.isEmpty()) {
+            return incomeRepository.findAllResponsesByUserId(user.getId());
+        }
+        return transactionResponseQueries.findAll(IncomeEntity.class,
+                TransactionSpecifications.filtered(user.getId(), filter), Limit.unlimited());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageResponseDto getUserIncomesPage(int limit, String after, TransactionFilterDto filter) {
+        Limit probeLimit = KeysetPagination.probeLimit(limit);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        List<TransactionBaseResponseDto> rows;
+        if (!filter.isEmpty()) {
+            rows = findFilteredPage(userId, filter, after, probeLimit);
+        } else if (after == null) {
+            rows = incomeRepository.findFirstPageByUserId(userId, probeLimit);
+        } else {
+            TransactionCursor cursor = TransactionCursor.decode(after);
+            rows = incomeRepository.findPageByUserIdAfter(userId, cursor.createDate(), cursor.id(), probeLimit);
+        }
+        return KeysetPagination.toPage(rows, limit);
+    }
+
+    /**
+     * Страница с фильтрами собирается из {@link TransactionSpecifications} и проецируется сразу в DTO
+     */
+    private List<TransactionBaseResponseDto> findFilteredPage(Long userId, TransactionFilterDto filter, String after, Limit probeLimit) {
+        Specification<IncomeEntity> specification = TransactionSpecifications.filtered(userId, filter);
+        if (after != null) {
+            specification = specification.and(TransactionSpecifications.after(TransactionCursor.decode(after)));
+        }
+        return transactionResponseQueries.findAll(IncomeEntity.class, specification, probeLimit);
+    }
+
+    /**
+     * Пустой результат запроса с условием по владельцу разбирается отдельным чтением только в случае ошибки:
+     * строки нет — 404, строка чужая — 403
+     */
+    private TransactionChange requireAffected(List<TransactionChange> affected, Long id, Long userId) {
+        if (!affected.isEmpty()) {
+            return affected.get(0);
+        }
+        Long ownerId = incomeRepository.findUserIdById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Income with id: " + id + " is not found!"));
+        securityProvider.checkAccess(ownerId, userId);
+        throw new EntityNotFoundException("Income with id: " + id + " is not found!");
     }
 }
@@ -0,0 +1,22 @@
+package app.core.service;
+
+import app.core.api.TransactionExportService;
+import app.core.model.export.ExportFormat;
+import app.core.security.SecurityProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private final TransactionExportWriter transactionExportWriter;
+    private final SecurityProvider securityProvider;
+
+    @Override
+    public StreamingResponseBody export(ExportFormat format) {
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        return out -> transactionExportWriter.write(userId, format, out);
+    }
+}
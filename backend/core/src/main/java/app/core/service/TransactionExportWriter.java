@@ -0,0 +1,88 @@
+package app.core.service;
+
+import app.core.mappers.TransactionMapper;
+import app.core.model.dto.TransactionExportItemDto;
+import app.core.model.export.ExportFormat;
+import app.core.model.projection.TransactionExportRow;
+import app.core.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Пишет историю транзакций в поток ответа.
+ * <p>
+ * Строки читаются курсором и сразу сериализуются по одной, поэтому расход памяти не зависит от размера истории.
+ * Отдельный бин нужен, чтобы {@link Transactional} срабатывал при вызове из тела {@code StreamingResponseBody}
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionExportWriter {
+
+    static final String CSV_HEADER = "kind,id,amount,category,createDate,description";
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void write(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamAllByUserId(userId)) {
+            Iterator<TransactionExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TransactionExportItemDto item = transactionMapper.toExportItem(iterator.next());
+                switch (format) {
+                    case NDJSON -> writer.write(objectMapper.writeValueAsString(item));
+                    case CSV -> writeCsvRow(writer, item);
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, TransactionExportItemDto item) throws IOException {
+        writer.write(item.kind());
+        writer.write(',');
+        writer.write(item.id().toString());
+        writer.write(',');
+        writer.write(item.amount().toPlainString());
+        writer.write(',');
+        writer.write(csvField(item.category()));
+        writer.write(',');
+        writer.write(CSV_DATE_FORMAT.format(item.createDate()));
+        writer.write(',');
+        writer.write(csvField(item.description()));
+    }
+
+    /**
+     * Экранирование по RFC 4180; значения, которые табличный редактор принял бы за формулу, получают префикс {@code '}
+     */
+    static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safe = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+}
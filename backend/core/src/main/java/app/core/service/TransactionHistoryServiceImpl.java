@@ -0,0 +1,40 @@
+package app.core.service;
+
+import app.core.api.TransactionHistoryService;
+import app.core.mappers.TransactionMapper;
+import app.core.model.dto.TransactionHistoryPageResponseDto;
+import app.core.model.projection.TransactionExportRow;
+import app.core.pagination.KeysetPagination;
+import app.core.pagination.TransactionHistoryCursor;
+import app.core.repository.TransactionRepository;
+import app.core.security.SecurityProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryServiceImpl implements TransactionHistoryService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+    private final SecurityProvider securityProvider;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionHistoryPageResponseDto getPage(int limit, String after) {
+        Limit probeLimit = KeysetPagination.probeLimit(limit);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        List<TransactionExportRow> rows;
+        if (after == null) {
+            rows = transactionRepository.findFirstPageByUserId(userId, probeLimit);
+        } else {
+            TransactionHistoryCursor cursor = TransactionHistoryCursor.decode(after);
+            rows = transactionRepository.findPageByUserIdAfter(userId, cursor.createDate(), cursor.id(), cursor.kind(), probeLimit);
+        }
+        return KeysetPagination.toHistoryPage(transactionMapper.toHistoryItems(rows), limit);
+    }
+}
@@ -0,0 +1,113 @@
+package app.core.service;
+
+import app.core.imports.ImportJob;
+import app.core.imports.ImportJobRegistry;
+import app.core.imports.StatementReader;
+import app.core.imports.StatementRecord;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Фоновая обработка выписок: файл читается построчно и записывается порциями по {@link #CHUNK_SIZE}.
+ * <p>
+ * Пул собственный и не регистрируется бином {@code Executor}, чтобы не заменить
+ * {@code applicationTaskExecutor}, на котором выполняются асинхронные ответы MVC
+ */
+@Slf4j
+@Component
+public class TransactionImportRunner {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private final TransactionImportWriter transactionImportWriter;
+    private final ImportJobRegistry importJobRegistry;
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    public TransactionImportRunner(TransactionImportWriter transactionImportWriter,
+                                   ImportJobRegistry importJobRegistry,
+                                   @Value("${transactions.import.threads:2}") int threads,
+                                   @Value("${transactions.import.queue-capacity:10}") int queueCapacity) {
+        this.transactionImportWriter = transactionImportWriter;
+        this.importJobRegistry = importJobRegistry;
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * Ставит выписку в очередь; файл удаляется после обработки
+     *
+     * @throws TaskRejectedException если пул и очередь заняты
+     */
+    public void submit(ImportJob job, Path file, ZoneId zone) {
+        executor.execute(() -> run(job, file, zone));
+    }
+
+    public void run(ImportJob job, Path file, ZoneId zone) {
+        job.start();
+        try (StatementReader reader = StatementReader.open(job.getFormat(),
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), zone)) {
+            List<StatementRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            StatementRecord record;
+            while ((record = reader.read()) != null) {
+                if (record.isRejected()) {
+                    job.reject(record.line(), record.errors());
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    write(job, chunk);
+                }
+            }
+            write(job, chunk);
+            job.complete(importJobRegistry.now());
+            log.info("Import {} completed: {} imported, {} failed", job.getId(), job.getImported(), job.getFailed());
+        } catch (Exception e) {
+            log.warn("Import {} failed after {} imported rows: {}", job.getId(), job.getImported(), e.getMessage());
+            job.fail(e.getMessage(), importJobRegistry.now());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void write(ImportJob job, List<StatementRecord> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<String, String>> rejected = transactionImportWriter.write(job.getUserId(), chunk);
+        job.addImported(chunk.size() - rejected.size());
+        rejected.forEach(job::reject);
+        chunk.clear();
+    }
+
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+}
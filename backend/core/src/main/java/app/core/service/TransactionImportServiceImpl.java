@@ -0,0 +1,113 @@
+package app.core.service;
+
+import app.core.api.TransactionImportService;
+import app.core.imports.ImportJob;
+import app.core.imports.ImportJobRegistry;
+import app.core.mappers.TransactionMapper;
+import app.core.model.dto.TransactionImportJobResponseDto;
+import app.core.model.imports.ImportFormat;
+import app.core.security.SecurityProvider;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+@Service
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private final TransactionImportRunner transactionImportRunner;
+    private final ImportJobRegistry importJobRegistry;
+    private final TransactionMapper transactionMapper;
+    private final SecurityProvider securityProvider;
+    private final DataSize maxFileSize;
+
+    public TransactionImportServiceImpl(TransactionImportRunner transactionImportRunner,
+                                        ImportJobRegistry importJobRegistry,
+                                        TransactionMapper transactionMapper,
+                                        SecurityProvider securityProvider,
+                                        @Value("${transactions.import.max-file-size:50MB}") DataSize maxFileSize) {
+        this.transactionImportRunner = transactionImportRunner;
+        this.importJobRegistry = importJobRegistry;
+        this.transactionMapper = transactionMapper;
+        this.securityProvider = securityProvider;
+        this.maxFileSize = maxFileSize;
+    }
+
+    @Override
+    public TransactionImportJobResponseDto start(ImportFormat format, String zone, InputStream statement) {
+        ZoneId zoneId = parseZone(zone);
+        Long userId = securityProvider.getUserFromSecurityContext().getId();
+        Path file = spool(statement);
+        ImportJob job = importJobRegistry.register(userId, format);
+        try {
+            transactionImportRunner.submit(job, file, zoneId);
+        } catch (TaskRejectedException e) {
+            importJobRegistry.remove(job);
+            TransactionImportRunner.deleteQuietly(file);
+            throw new TaskRejectedException("Import queue is full, try again later", e);
+        }
+        return transactionMapper.toImportJobResponse(job);
+    }
+
+    @Override
+    public TransactionImportJobResponseDto getJob(String jobId) {
+        ImportJob job = importJobRegistry.find(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("Import job with id: " + jobId + " is not found!"));
+        securityProvider.checkAccess(job.getUserId(), securityProvider.getUserFromSecurityContext().getId());
+        return transactionMapper.toImportJobResponse(job);
+    }
+
+    /**
+     * Копирует тело запроса на диск блоками, не держа выписку в памяти; превышение лимита прерывает загрузку
+     */
+    private Path spool(InputStream statement) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("statement-", ".import");
+            long limit = maxFileSize.toBytes();
+            long written = 0;
+            byte[] buffer = new byte[8192];
+            try (OutputStream out = Files.newOutputStream(file)) {
+                int read;
+                while ((read = statement.read(buffer)) != -1) {
+                    written += read;
+                    if (written > limit) {
+                        throw new IllegalArgumentException("Statement is larger than " + limit + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            deleteOnError(file);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteOnError(file);
+            throw e;
+        }
+    }
+
+    private void deleteOnError(Path file) {
+        if (file != null) {
+            TransactionImportRunner.deleteQuietly(file);
+        }
+    }
+
+    private ZoneId parseZone(String zone) {
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown time zone '" + zone + "'");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package app.core.service;
+
+import app.core.batch.TransactionBatchValidator;
+import app.core.imports.StatementRecord;
+import app.core.mappers.ExpenseMapper;
+import app.core.mappers.IncomeMapper;
+import app.core.model.ExpenseEntity;
+import app.core.model.IncomeEntity;
+import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+import app.core.repository.ExpenseRepository;
+import app.core.repository.IncomeRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Запись порции импортируемой выписки в отдельной транзакции.
+ * <p>
+ * Вставки уходят JDBC-батчами ({@code hibernate.jdbc.batch_size}), после порции контекст персистентности
+ * сбрасывается и очищается, поэтому память и время транзакции не зависят от размера выписки
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionImportWriter {
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final TransactionBatchValidator transactionBatchValidator;
+    private final DailyRollupService dailyRollupService;
+    private final ExpenseMapper expenseMapper;
+    private final IncomeMapper incomeMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * @param records разобранные строки выписки, не больше {@link TransactionBatchValidator#MAX_BATCH_SIZE}
+     * @return ошибки валидации по номерам строк файла; остальные строки сохранены
+     */
+    @Transactional
+    public Map<Long, Map<String, String>> write(Long userId, List<StatementRecord> records) {
+        List<CreateTransactionBaseRequestDto> requests = records.stream().map(StatementRecord::request).toList();
+        Map<Integer, Map<String, String>> errors = transactionBatchValidator.validate(requests);
+        UserEntity user = entityManager.getReference(UserEntity.class, userId);
+        List<ExpenseEntity> expenses = new ArrayList<>();
+        List<IncomeEntity> incomes = new ArrayList<>();
+        Map<Long, Map<String, String>> rejected = new TreeMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            StatementRecord record = records.get(i);
+            if (errors.containsKey(i)) {
+                rejected.put(record.line(), errors.get(i));
+            } else if (record.kind() == TransactionKind.EXPENSE) {
+                ExpenseEntity expense = expenseMapper.createExpenseFromRequest(record.request());
+                expense.setUser(user);
+                expenses.add(expense);
+            } else {
+                IncomeEntity income = incomeMapper.createIncomeFromRequest(record.request());
+                income.setUser(user);
+                incomes.add(income);
+            }
+        }
+        expenseRepository.saveAll(expenses);
+        incomeRepository.saveAll(incomes);
+        entityManager.flush();
+        entityManager.clear();
+        dailyRollupService.addAll(TransactionKind.EXPENSE, expenses);
+        dailyRollupService.addAll(TransactionKind.INCOME, incomes);
+        return rejected;
+    }
+}
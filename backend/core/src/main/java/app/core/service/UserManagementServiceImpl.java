@@ -12,35 +12,50 @@ import app.core.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
 //TODO: че как много transactional?
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserManagementServiceImpl implements UserManagementService {
+    private static final String USERNAME_UNIQUE_INDEX = "uq_users_username_lower";
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final SecurityProvider securityProvider;
+    private final UserServiceImpl userService;
+    /**
+     * Есть только при {@code authentication.mode=token}
+     */
+    private final ObjectProvider<AuthTokenServiceImpl> authTokenService;
 
 
+    /**
+     * Занятость username проверяет уникальный индекс при вставке: отдельный SELECT перед ней не защищал от параллельной регистрации
+     */
     @Override
     @Transactional
     public UserResponseDto createUser(CreateUserRequestDto newUser) throws UserAlreadyExistsException {
-        Optional<UserEntity> user = userRepository.findByUsername(newUser.username());
-        if (user.isPresent()) {
+        UserEntity userEntity = userMapper.createUserFromRequest(newUser, passwordEncoder);
+        UserEntity savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUsernameViolation(e)) {
+                throw e;
+            }
             throw new UserAlreadyExistsException("User with username '" + newUser.username() + "' already exists");
         }
 
-        UserEntity userEntity = userMapper.createUserFromRequest(newUser, passwordEncoder);
-        UserEntity savedUser = userRepository.save(userEntity);
-
         log.debug("User {} successfully created", newUser.username());
         return userMapper.toResponse(savedUser);
     }
@@ -58,13 +73,13 @@ public class UserManagementServiceImpl implements UserManagementService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserResponseDto getCurrentUser() {
         return getUser(securityProvider.getUserFromSecurityContext().getId());
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserResponseDto getUser(Long userId) {
         UserEntity user = userRepository
                 .findById(userId).orElseThrow(() -> new EntityNotFoundException("User with id: " + userId + " is not found!"));
@@ -81,9 +96,11 @@ public class UserManagementServiceImpl implements UserManagementService {
 
         userMapper.updateUserFromRequest(userToUpdate, userEntity, passwordEncoder);
         UserEntity savedUser = userRepository.save(userEntity);
+        userService.evictUser(userEntity.getUsername());
 
         if (userToUpdate.password() != null) {
             securityProvider.updateAuthenticationInSecurityContext(userEntity);
+            authTokenService.ifAvailable(tokenService -> tokenService.revokeAll(userId));
             log.debug("Password changed for user {}", userEntity.getUsername());
         }
 
@@ -99,9 +116,15 @@ public class UserManagementServiceImpl implements UserManagementService {
         securityProvider.checkAccess(userId, securityProvider.getUserFromSecurityContext().getId());
 
         userRepository.deleteById(userId);
+        userService.evictUser(user.getUsername());
+        authTokenService.ifAvailable(tokenService -> tokenService.revokeAll(userId));
         SecurityContextHolder.clearContext();
 
         log.debug("User {} successfully deleted", userId);
     }
-}
 
+    private boolean isUsernameViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && USERNAME_UNIQUE_INDEX.equalsIgnoreCase(violation.getConstraintName());
+    }
+}
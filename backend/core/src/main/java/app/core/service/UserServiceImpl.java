@@ -1,25 +1,79 @@
 package app.core.service;
 
+import app.core.config.CacheConfig;
 import app.core.model.UserEntity;
 import app.core.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserServiceImpl implements UserDetailsService {
+public class UserServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
+    @Value("${session.store:memory}")
+    private String sessionStore;
+
+    /**
+     * Найденный пользователь кэшируется по username в нижнем регистре, как и поиск в БД; отсутствие пользователя не кэшируется.
+     * С общими JDBC-сессиями кэш не используется, см. {@link #isCacheEnabled()}
+     */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#username.toLowerCase(T(java.util.Locale).ROOT)",
+            condition = "#root.target.cacheEnabled")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Optional<UserEntity> user = userRepository.findByUsername(username);
         return user.orElseThrow(() -> new UsernameNotFoundException("User with username '" + username + "' is not found in the system"));
     }
+
+    /**
+     * Перехеширование при успешном входе, если хеш устарел (см. {@link app.core.config.PasswordEncoderConfig}).
+     * Пользователь приходит из кэша, поэтому возвращается копия с новым хешем, а запись в кэше убирается после коммита
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity userEntity = (UserEntity) user;
+        userRepository.updatePassword(userEntity.getId(), newPassword);
+        evictUser(userEntity.getUsername());
+        log.debug("Password hash of user {} upgraded", userEntity.getId());
+        return new UserEntity(userEntity.getId(), userEntity.getDisplayName(), userEntity.getUsername(),
+                newPassword, userEntity.getEmail());
+    }
+
+    /**
+     * Кэш и его очистка локальны для экземпляра. При {@code session.store=jdbc} сессию, открытую на одном экземпляре,
+     * обслуживают все, и удаление пользователя или смена пароля на одном из них не дошли бы до кэшей остальных,
+     * поэтому пользователь читается из БД на каждом запросе
+     */
+    public boolean isCacheEnabled() {
+        return !"jdbc".equals(sessionStore);
+    }
+
+    /**
+     * Убирает пользователя из кэша после коммита текущей транзакции, без транзакции сразу.
+     * Раньше коммита нельзя: параллельный запрос успел бы закэшировать старую строку
+     */
+    public void evictUser(String username) {
+        Cache users = cacheManager.getCache(CacheConfig.USERS);
+        if (users != null) {
+            new TransactionAwareCacheDecorator(users).evict(username.toLowerCase(Locale.ROOT));
+        }
+    }
 }
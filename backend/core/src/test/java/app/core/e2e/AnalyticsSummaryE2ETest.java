@@ -0,0 +1,80 @@
+package app.core.e2e;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Границы периода в ответе {@code AnalyticsController} совпадают с границами, по которым считаются суммы
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("e2e")
+@DisplayName("Analytics Summary E2E Tests")
+class AnalyticsSummaryE2ETest {
+
+    private static final DateTimeFormatter RESPONSE_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should return inclusive from and exclusive to bounds of the summarized period")
+    void shouldReturnPeriodBounds() throws Exception {
+        // Given
+        ZoneId zone = ZoneId.of("Europe/Moscow");
+        LocalDate today = LocalDate.now(zone);
+        ZonedDateTime start = today.minusDays(7).atStartOfDay(zone);
+        String from = start.format(RESPONSE_DATE);
+        String to = today.plusDays(1).atStartOfDay(zone).format(RESPONSE_DATE);
+        MockHttpSession session = signUp();
+        createExpense(session, "100.00", from);
+        createExpense(session, "50.00", start.minusSeconds(1).format(RESPONSE_DATE));
+
+        // When & Then
+        mockMvc.perform(get("/api/analytics/summary").param("period", "week").param("zone", zone.getId()).session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value(from))
+                .andExpect(jsonPath("$.to").value(to))
+                .andExpect(jsonPath("$.expenses.total").value(100.00));
+    }
+
+    private void createExpense(MockHttpSession session, String amount, String createDate) throws Exception {
+        mockMvc.perform(post("/api/expenses").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount":%s,"category":"Food","createDate":"%s"}
+                                """.formatted(amount, createDate)))
+                .andExpect(status().isCreated());
+    }
+
+    private MockHttpSession signUp() throws Exception {
+        String username = "analytics" + UUID.randomUUID().toString().substring(0, 8);
+        MvcResult result = mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username":"%s","password":"secret123","confirmPassword":"secret123","email":"analytics@example.com"}
+                                """.formatted(username)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return (MockHttpSession) result.getRequest().getSession(false);
+    }
+}
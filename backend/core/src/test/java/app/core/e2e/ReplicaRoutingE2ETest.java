@@ -0,0 +1,117 @@
+package app.core.e2e;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.jdbc.ContainerDatabaseDriver;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Основная БД и реплика в двух контейнерах PostgreSQL. Реплика — отдельная БД с той же схемой без репликации,
+ * то есть реплика с бесконечным отставанием: записи приложения в нее не попадают, и по ответу видно, откуда прочитано
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.hikari.jdbc-url=" + ReplicaRoutingE2ETest.REPLICA_URL,
+        "datasource.replica.hikari.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver",
+        "datasource.replica.read-your-writes.window=" + ReplicaRoutingE2ETest.WINDOW_MILLIS + "ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles({"e2e", "replica"})
+@DisplayName("Replica Routing E2E Tests")
+class ReplicaRoutingE2ETest {
+
+    static final String REPLICA_URL = "jdbc:tc:postgresql:18:///test_replica_db";
+    static final long WINDOW_MILLIS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private MockHttpSession session;
+
+    /**
+     * Схема на реплику накатывается напрямую: пул реплики только для чтения
+     */
+    @BeforeAll
+    static void migrateReplica() throws Exception {
+        SimpleDriverDataSource replica = new SimpleDriverDataSource(new ContainerDatabaseDriver(), REPLICA_URL);
+        new JdbcTemplate(replica).execute("CREATE SCHEMA IF NOT EXISTS liquibase; CREATE SCHEMA IF NOT EXISTS test_e2e_schema");
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(replica);
+        liquibase.setChangeLog("classpath:/db/master.xml");
+        liquibase.setDefaultSchema("test_e2e_schema");
+        liquibase.setLiquibaseSchema("liquibase");
+        liquibase.setChangeLogParameters(Map.of("idAllocationSize", "50"));
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @BeforeEach
+    void signup() throws Exception {
+        String username = "rep" + UUID.randomUUID().toString().substring(0, 8);
+        MvcResult result = mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username":"%s","password":"secret123","confirmPassword":"secret123","email":"rep@example.com"}
+                                """.formatted(username)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        session = (MockHttpSession) result.getRequest().getSession(false);
+    }
+
+    @Test
+    @DisplayName("Should read own writes from primary and other reads from replica")
+    void shouldRouteReadOnlyTransactionsToReplicaAfterWindow() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/expenses").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount":125.50,"category":"Food","createDate":"2025-01-15T10:00:00Z"}
+                                """))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(get("/api/expenses").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        Thread.sleep(WINDOW_MILLIS * 2);
+        mockMvc.perform(get("/api/expenses").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/users/me").session(session))
+                .andExpect(status().isNotFound());
+
+        // запись идет на основную БД и снова открывает окно
+        mockMvc.perform(patch("/api/users/me").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"displayName":"Replica"}
+                                """))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/me").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.displayName", equalTo("Replica")));
+    }
+}
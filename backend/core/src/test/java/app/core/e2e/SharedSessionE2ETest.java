@@ -0,0 +1,150 @@
+package app.core.e2e;
+
+import app.core.FinancialControlStarter;
+import app.core.api.UserManagementService;
+import app.core.model.UserEntity;
+import app.core.repository.UserRepository;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Два экземпляра backend с {@code session.store=jdbc} на одной PostgreSQL: сессия, открытая на одном,
+ * действует на другом, а logout на любом или удаление пользователя завершает ее для обоих
+ */
+@DisplayName("Shared JDBC Session E2E Tests")
+class SharedSessionE2ETest {
+
+    private static final String SESSION_COOKIE = "JSESSIONID";
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = startInstance();
+        second = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept session created by another instance until logout")
+    void shouldShareSessionBetweenInstances() {
+        // Given
+        String username = "e2e" + UUID.randomUUID().toString().substring(0, 8);
+        String session = signUp(username);
+
+        // When & Then
+        given()
+                .port(port(second))
+                .cookie(SESSION_COOKIE, session)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(200)
+                .body("username", equalTo(username));
+
+        given()
+                .port(port(second))
+                .cookie(SESSION_COOKIE, session)
+                .when()
+                .post("/api/auth/logout")
+                .then()
+                .statusCode(200);
+
+        given()
+                .port(port(first))
+                .cookie(SESSION_COOKIE, session)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(401);
+    }
+
+    @Test
+    @DisplayName("Should stop accepting session on another instance once user is deleted")
+    void shouldRejectSessionOfDeletedUserOnAnotherInstance() {
+        // Given
+        String username = "e2e" + UUID.randomUUID().toString().substring(0, 8);
+        String session = signUp(username);
+        // второй экземпляр уже загрузил пользователя: с локальным кэшем он продолжил бы его аутентифицировать
+        given()
+                .port(port(second))
+                .cookie(SESSION_COOKIE, session)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(200);
+
+        // When
+        deleteUser(first, username);
+
+        // Then
+        given()
+                .port(port(second))
+                .cookie(SESSION_COOKIE, session)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(401);
+    }
+
+    /**
+     * Удаление пользователя через API пока не поддерживается, поэтому вызывается сервис экземпляра от имени пользователя
+     */
+    private static void deleteUser(ConfigurableApplicationContext context, String username) {
+        UserEntity user = context.getBean(UserRepository.class).findByUsername(username).orElseThrow();
+        SecurityContextHolder.getContext()
+                .setAuthentication(UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+        try {
+            context.getBean(UserManagementService.class).deleteUser(user.getId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static String signUp(String username) {
+        return given()
+                .port(port(first))
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"username":"%s","password":"secret123","confirmPassword":"secret123","email":"e2e@example.com"}
+                        """.formatted(username))
+                .when()
+                .post("/api/auth/signup")
+                .then()
+                .statusCode(201)
+                .extract()
+                .cookie(SESSION_COOKIE);
+    }
+
+    private static ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(FinancialControlStarter.class)
+                .profiles("e2e")
+                .run("--server.port=0", "--session.store=jdbc");
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+}
@@ -0,0 +1,29 @@
+package app.core.e2e;
+
+import app.core.metrics.RequestSqlStatistics;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверки числа SQL-операторов запроса MockMvc по {@link RequestSqlStatistics}, которую оставляет
+ * {@link app.core.metrics.SqlStatementBudgetFilter} в атрибутах запроса
+ */
+final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * {@code mockMvc.perform(...).andExpect(statementsAtMost(2))}
+     */
+    static ResultMatcher statementsAtMost(int max) {
+        return result -> {
+            RequestSqlStatistics statistics = (RequestSqlStatistics) result.getRequest().getAttribute(RequestSqlStatistics.ATTRIBUTE);
+            assertThat(statistics).as("SQL statistics of the request").isNotNull();
+            assertThat(statistics.statements())
+                    .as("SQL statements of %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+}
@@ -0,0 +1,161 @@
+package app.core.e2e;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static app.core.e2e.SqlStatementAssertions.statementsAtMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Бюджет SQL-операторов на каждый метод {@code ExpenseController}, {@code IncomeController}, {@code UserController}
+ * и на страницы общей истории {@code TransactionController}
+ * с сессионной аутентификацией, включая загрузку пользователя из сессии. Рост числа операторов (N+1, лишний
+ * SELECT перед UPDATE) валит тест; бюджет поднимается осознанно вместе с изменением
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("e2e")
+@DisplayName("SQL Statement Budget E2E Tests")
+class StatementBudgetE2ETest {
+
+    private static final String TRANSACTION = """
+            {"amount":125.50,"category":"Food","createDate":"2025-01-15T10:00:00+03:00","description":"Lunch"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void signup() throws Exception {
+        String username = "sql" + UUID.randomUUID().toString().substring(0, 8);
+        MvcResult result = mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username":"%s","password":"secret123","confirmPassword":"secret123","email":"sql@example.com"}
+                                """.formatted(username)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        session = (MockHttpSession) result.getRequest().getSession(false);
+    }
+
+    @Test
+    @DisplayName("Should keep ExpenseController methods within SQL statement budget")
+    void shouldKeepExpenseEndpointsWithinBudget() throws Exception {
+        assertTransactionEndpointsWithinBudget("/api/expenses");
+    }
+
+    @Test
+    @DisplayName("Should keep IncomeController methods within SQL statement budget")
+    void shouldKeepIncomeEndpointsWithinBudget() throws Exception {
+        assertTransactionEndpointsWithinBudget("/api/incomes");
+    }
+
+    @Test
+    @DisplayName("Should read merged history page with one SQL statement")
+    void shouldKeepTransactionHistoryWithinBudget() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/expenses/batch").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + TRANSACTION + "," + TRANSACTION + "]"))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(post("/api/incomes/batch").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + TRANSACTION + "," + TRANSACTION + "]"))
+                .andExpect(status().is2xxSuccessful());
+
+        // When & Then
+        MvcResult firstPage = mockMvc.perform(get("/api/transactions").param("limit", "3").session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1))
+                .andReturn();
+        String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+        mockMvc.perform(get("/api/transactions").param("limit", "3").param("after", nextCursor).session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @DisplayName("Should keep UserController methods within SQL statement budget")
+    void shouldKeepUserEndpointsWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/users/me").session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(patch("/api/users/me").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"displayName":"Budget"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(2));
+        mockMvc.perform(post("/api/users").session(session))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(delete("/api/users/me").session(session))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(statementsAtMost(1));
+    }
+
+    /**
+     * Создание и батч могут дополнительно выбрать диапазон идентификаторов из последовательности (раз в 50 записей)
+     */
+    private void assertTransactionEndpointsWithinBudget(String path) throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post(path).session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TRANSACTION))
+                .andExpect(status().isCreated())
+                .andExpect(statementsAtMost(3))
+                .andReturn();
+        Number id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+
+        // When & Then
+        mockMvc.perform(post(path + "/batch").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + TRANSACTION + "," + TRANSACTION + "," + TRANSACTION + "]"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(statementsAtMost(3));
+        mockMvc.perform(get(path + "/{id}", id).session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(get(path).session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(get(path).param("limit", "2").session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(get(path).param("category", "Food").param("from", "2025-01-01T00:00:00Z").session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(get(path).param("limit", "2").param("minAmount", "100").session(session))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1));
+        mockMvc.perform(patch(path + "/{id}", id).session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount":99.90}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(2));
+        mockMvc.perform(delete(path + "/{id}", id).session(session))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(statementsAtMost(3));
+    }
+}
@@ -0,0 +1,160 @@
+package app.core.e2e;
+
+import app.core.FinancialControlStarter;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Два экземпляра backend с {@code authentication.mode=token}: access-токен одного принимается другим без сессии,
+ * refresh-токен одноразовый, а смена пароля отзывает выданные токены на обоих экземплярах
+ */
+@DisplayName("Token Authentication E2E Tests")
+class TokenAuthE2ETest {
+
+    private static final long REVOCATION_SYNC_MILLIS = 200;
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = startInstance();
+        second = startInstance();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept access token on another instance and rotate refresh token once")
+    void shouldAcceptAccessTokenAndRotateRefreshToken() {
+        // Given
+        String username = uniqueUsername();
+        JsonPath tokens = signUp(username);
+
+        // When & Then
+        given()
+                .port(port(second))
+                .auth().oauth2(tokens.getString("accessToken"))
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(200)
+                .body("username", equalTo(username));
+
+        JsonPath rotated = refresh(port(second), tokens.getString("refreshToken"), 200);
+        assertThat(rotated.getString("refreshToken")).isNotEqualTo(tokens.getString("refreshToken"));
+
+        // повторное предъявление обменянного токена отзывает и выданную по нему пару
+        refresh(port(first), tokens.getString("refreshToken"), 401);
+        refresh(port(first), rotated.getString("refreshToken"), 401);
+    }
+
+    @Test
+    @DisplayName("Should reject access token on both instances after password change")
+    void shouldRevokeTokensOnPasswordChange() throws InterruptedException {
+        // Given
+        String username = uniqueUsername();
+        JsonPath tokens = signUp(username);
+        String accessToken = tokens.getString("accessToken");
+
+        // When
+        given()
+                .port(port(first))
+                .auth().oauth2(accessToken)
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"password":"changed123","confirmPassword":"changed123"}
+                        """)
+                .when()
+                .patch("/api/users/me")
+                .then()
+                .statusCode(200);
+        Thread.sleep(REVOCATION_SYNC_MILLIS * 5);
+
+        // Then
+        given()
+                .port(port(first))
+                .auth().oauth2(accessToken)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(401);
+
+        given()
+                .port(port(second))
+                .auth().oauth2(accessToken)
+                .when()
+                .get("/api/users/me")
+                .then()
+                .statusCode(401);
+
+        refresh(port(second), tokens.getString("refreshToken"), 401);
+    }
+
+    private static JsonPath signUp(String username) {
+        return given()
+                .port(port(first))
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"username":"%s","password":"secret123","confirmPassword":"secret123","email":"e2e@example.com"}
+                        """.formatted(username))
+                .when()
+                .post("/api/auth/signup")
+                .then()
+                .statusCode(201)
+                .header("Set-Cookie", (String) null)
+                .body("tokenType", equalTo("Bearer"))
+                .extract()
+                .jsonPath();
+    }
+
+    private static JsonPath refresh(int port, String refreshToken, int expectedStatus) {
+        return given()
+                .port(port)
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"refreshToken":"%s"}
+                        """.formatted(refreshToken))
+                .when()
+                .post("/api/auth/refresh")
+                .then()
+                .statusCode(expectedStatus)
+                .extract()
+                .jsonPath();
+    }
+
+    private static String uniqueUsername() {
+        return "e2e" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static ConfigurableApplicationContext startInstance() {
+        return new SpringApplicationBuilder(FinancialControlStarter.class)
+                .profiles("e2e")
+                .run("--server.port=0", "--authentication.mode=token",
+                        "--authentication.token.revocation-sync=" + REVOCATION_SYNC_MILLIS + "ms");
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+}
@@ -0,0 +1,138 @@
+package app.core.repository;
+
+import app.core.model.DailyRollupEntity;
+import app.core.model.DailyRollupId;
+import app.core.model.ExpenseEntity;
+import app.core.model.IncomeEntity;
+import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@DisplayName("DailyRollupRepository Tests")
+@ActiveProfiles("integration")
+class DailyRollupRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DailyRollupRepository dailyRollupRepository;
+
+    private final LocalDate day = LocalDate.of(2024, 1, 15);
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserEntity();
+        user.setDisplayName("Test User");
+        user.setUsername("testuser");
+        user.setPassword("password");
+        user.setEmail("test@example.com");
+        entityManager.persistAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Should accumulate deltas and remove row when count drops to zero")
+    void shouldAccumulateDeltasAndRemoveEmptyRow() {
+        // Given
+        dailyRollupRepository.upsertDelta(user.getId(), "EXPENSE", day, "Food", BigDecimal.valueOf(100.50), 1);
+        dailyRollupRepository.upsertDelta(user.getId(), "EXPENSE", day, "Food", BigDecimal.valueOf(50.25), 1);
+        entityManager.clear();
+
+        // When
+        DailyRollupEntity rollup = dailyRollupRepository
+                .findById(new DailyRollupId(user.getId(), TransactionKind.EXPENSE, day, "Food")).orElseThrow();
+
+        // Then
+        assertThat(rollup.getTotal()).isEqualByComparingTo("150.75");
+        assertThat(rollup.getCount()).isEqualTo(2L);
+
+        // When
+        dailyRollupRepository.upsertDelta(user.getId(), "EXPENSE", day, "Food", BigDecimal.valueOf(-100.50), -1);
+        dailyRollupRepository.deleteIfEmpty(user.getId(), "EXPENSE", day, "Food");
+        dailyRollupRepository.upsertDelta(user.getId(), "EXPENSE", day, "Food", BigDecimal.valueOf(-50.25), -1);
+        dailyRollupRepository.deleteIfEmpty(user.getId(), "EXPENSE", day, "Food");
+        entityManager.clear();
+
+        // Then
+        assertThat(dailyRollupRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should aggregate rollups within the period by category and by month")
+    void shouldAggregateRollupsByCategoryAndByMonth() {
+        // Given
+        dailyRollupRepository.upsertDelta(user.getId(), "INCOME", day, "Salary", BigDecimal.valueOf(1000), 1);
+        dailyRollupRepository.upsertDelta(user.getId(), "INCOME", day.plusMonths(1), "Salary", BigDecimal.valueOf(1000), 2);
+        dailyRollupRepository.upsertDelta(user.getId(), "INCOME", day.plusMonths(1), "Freelance", BigDecimal.valueOf(500), 1);
+        dailyRollupRepository.upsertDelta(user.getId(), "INCOME", day.plusMonths(2), "Salary", BigDecimal.valueOf(1000), 1);
+        dailyRollupRepository.upsertDelta(user.getId(), "EXPENSE", day, "Food", BigDecimal.valueOf(70), 1);
+        LocalDate to = LocalDate.of(2024, 3, 1);
+
+        // When
+        List<CategoryAmount> byCategory = dailyRollupRepository.sumByCategory(user.getId(), "INCOME", day, to);
+        List<BucketAmount> byMonth = dailyRollupRepository.sumByBucket(user.getId(), "INCOME", day, to, "month");
+
+        // Then
+        assertThat(byCategory).extracting(CategoryAmount::getCategory).containsExactly("Salary", "Freelance");
+        assertThat(byCategory.get(0).getTotal()).isEqualByComparingTo("2000");
+        assertThat(byCategory.get(0).getCount()).isEqualTo(3L);
+        assertThat(byMonth).extracting(BucketAmount::getBucket)
+                .containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1));
+        assertThat(byMonth.get(1).getTotal()).isEqualByComparingTo("1500");
+    }
+
+    @Test
+    @DisplayName("Should detect drift against transactions and fix it on rebuild")
+    void shouldDetectDriftAndFixItOnRebuild() {
+        // Given
+        entityManager.persist(ExpenseEntity.builder()
+                .amount(BigDecimal.valueOf(100))
+                .category("Food")
+                .createDate(OffsetDateTime.parse("2024-01-15T22:30:00-05:00"))
+                .user(user)
+                .build());
+        entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(1000))
+                .category("Salary")
+                .createDate(OffsetDateTime.parse("2024-01-15T10:00:00Z"))
+                .user(user)
+                .build());
+        entityManager.flush();
+        dailyRollupRepository.upsertDelta(user.getId(), "EXPENSE", day, "Food", BigDecimal.valueOf(100), 1);
+
+        // When
+        long before = dailyRollupRepository.countMismatches();
+        dailyRollupRepository.deleteAllRollups();
+        dailyRollupRepository.insertFromTransactions();
+        long after = dailyRollupRepository.countMismatches();
+        entityManager.clear();
+
+        // Then
+        assertThat(before).isEqualTo(3L);
+        assertThat(after).isZero();
+        assertThat(dailyRollupRepository.findAll())
+                .extracting(rollup -> rollup.getId().getKind(), rollup -> rollup.getId().getDay())
+                .containsExactlyInAnyOrder(
+                        tuple(TransactionKind.EXPENSE, day.plusDays(1)),
+                        tuple(TransactionKind.INCOME, day));
+    }
+}
@@ -0,0 +1,132 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Вставка расходов при выделении идентификаторов по одному (как до 1.0.7) и блоками по 50.
+ * <p>
+ * Каждый вариант поднимает свою БД, поэтому запускается только явно:
+ * {@code mvn test -pl core -am -Dtest=IdAllocationBenchmarkTest -Dbenchmark=true}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Id allocation benchmark")
+class IdAllocationBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 500;
+    private static final int MEASURED_ROWS = 5000;
+    private static final int FLUSH_EVERY = 100;
+    /**
+     * С JDBC-батчингом каждый flush готовит один INSERT на все строки
+     */
+    private static final long INSERT_STATEMENTS = MEASURED_ROWS / FLUSH_EVERY;
+
+    @Nested
+    @DataJpaTest
+    @ActiveProfiles("integration")
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:tc:postgresql:18:///bench_step_1_db",
+            "spring.liquibase.parameters.idAllocationSize=1",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+    @DisplayName("allocationSize = 1")
+    class SingleStep extends InsertBenchmark {
+
+        @Test
+        @DisplayName("Should fetch an id from the sequence for every insert")
+        void shouldFetchIdForEveryInsert() {
+            assertThat(measure("allocationSize = 1")).isEqualTo(MEASURED_ROWS + INSERT_STATEMENTS);
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    @ActiveProfiles("integration")
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:tc:postgresql:18:///bench_pooled_db",
+            "spring.liquibase.parameters.idAllocationSize=50",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+    @DisplayName("allocationSize = 50 (pooled-lo)")
+    class Pooled extends InsertBenchmark {
+
+        @Test
+        @DisplayName("Should fetch an id from the sequence once per 50 inserts")
+        void shouldFetchIdOncePerBlock() {
+            assertThat(measure("allocationSize = 50")).isEqualTo(MEASURED_ROWS / 50 + INSERT_STATEMENTS);
+        }
+    }
+
+    abstract static class InsertBenchmark {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        /**
+         * @return количество подготовленных JDBC-запросов на замеряемых вставках
+         */
+        long measure(String label) {
+            UserEntity user = new UserEntity();
+            user.setDisplayName("Bench User");
+            user.setUsername("bench");
+            user.setPassword("password");
+            user.setEmail("bench@example.com");
+            entityManager.persistAndFlush(user);
+
+            insert(user.getId(), WARMUP_ROWS);
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            long start = System.nanoTime();
+            insert(user.getId(), MEASURED_ROWS);
+            long elapsedNanos = System.nanoTime() - start;
+
+            long statements = statistics.getPrepareStatementCount();
+            log.info("{}: {} inserts in {} ms ({} rows/s, {} statements)", label, MEASURED_ROWS, elapsedNanos / 1_000_000,
+                    MEASURED_ROWS * 1_000_000_000L / elapsedNanos, statements);
+            return statements;
+        }
+
+        private void insert(Long userId, int rows) {
+            OffsetDateTime createDate = OffsetDateTime.now();
+            UserEntity user = entityManager.getEntityManager().getReference(UserEntity.class, userId);
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(ExpenseEntity.builder()
+                        .amount(BigDecimal.valueOf(100))
+                        .category("Bench")
+                        .createDate(createDate)
+                        .user(user)
+                        .build());
+                if (i % FLUSH_EVERY == FLUSH_EVERY - 1) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    user = entityManager.getEntityManager().getReference(UserEntity.class, userId);
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
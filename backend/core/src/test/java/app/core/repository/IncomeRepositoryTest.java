@@ -2,17 +2,26 @@ package app.core.repository;
 
 import app.core.model.IncomeEntity;
 import app.core.model.UserEntity;
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import app.core.model.projection.TransactionChange;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -159,4 +168,207 @@ class IncomeRepositoryTest {
         assertThat(result.get(0).getCategory()).isEqualTo("New Income");
         assertThat(result.get(1).getCategory()).isEqualTo("Old Income");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should project user incomes into response DTOs without managing entities")
+    void shouldProjectIncomesIntoResponsesWithoutManagingEntities() {
+        // Given
+        UserEntity user = persistUser("owner");
+        OffsetDateTime createDate = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+        IncomeEntity older = entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(100))
+                .category("Older")
+                .createDate(createDate.minusDays(1))
+                .user(user)
+                .build());
+        IncomeEntity newer = entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(200))
+                .category("Newer")
+                .createDate(createDate)
+                .description("Description")
+                .user(user)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TransactionBaseResponseDto> result = incomeRepository.findAllResponsesByUserId(user.getId());
+
+        // Then
+        assertThat(result).extracting(TransactionBaseResponseDto::id).containsExactly(newer.getId(), older.getId());
+        assertThat(result.get(0).description()).isEqualTo("Description");
+        assertThat(result.get(0).createDate()).isEqualTo(createDate);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should page incomes by create date and id using keyset cursor")
+    void shouldPageIncomesByCreateDateAndIdUsingKeysetCursor() {
+        // Given
+        UserEntity user = new UserEntity();
+        user.setDisplayName("Test User");
+        user.setUsername("testuser");
+        user.setPassword("password");
+        user.setEmail("test@example.com");
+        entityManager.persistAndFlush(user);
+
+        OffsetDateTime sameDate = currentDate.withNano(0);
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(IncomeEntity.builder()
+                    .amount(BigDecimal.valueOf(100 + i))
+                    .category("Same date " + i)
+                    .createDate(sameDate)
+                    .user(user)
+                    .build());
+        }
+        entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(50))
+                .category("Older")
+                .createDate(sameDate.minusDays(1))
+                .user(user)
+                .build());
+        entityManager.flush();
+
+        // When
+        List<TransactionBaseResponseDto> firstPage = incomeRepository.findFirstPageByUserId(user.getId(), Limit.of(2));
+        TransactionBaseResponseDto last = firstPage.get(1);
+        List<TransactionBaseResponseDto> secondPage = incomeRepository.findPageByUserIdAfter(user.getId(), last.createDate(), last.id(), Limit.of(2));
+
+        // Then
+        assertThat(firstPage).extracting(TransactionBaseResponseDto::id)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.get(0).id()).isLessThan(last.id());
+        assertThat(secondPage.get(1).category()).isEqualTo("Older");
+        assertThat(firstPage).extracting(TransactionBaseResponseDto::id)
+                .doesNotContainAnyElementsOf(secondPage.stream().map(TransactionBaseResponseDto::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should aggregate incomes within the period by category and by day in the requested time zone")
+    void shouldAggregateIncomesByCategoryAndByDay() {
+        // Given
+        UserEntity user = new UserEntity();
+        user.setDisplayName("Test User");
+        user.setUsername("testuser");
+        user.setPassword("password");
+        user.setEmail("test@example.com");
+        entityManager.persistAndFlush(user);
+
+        OffsetDateTime lateEvening = OffsetDateTime.parse("2024-01-15T22:30:00Z");
+        entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(100.50))
+                .category("Salary")
+                .createDate(lateEvening)
+                .user(user)
+                .build());
+        entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(200.25))
+                .category("Salary")
+                .createDate(lateEvening.minusDays(1))
+                .user(user)
+                .build());
+        entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(50))
+                .category("Freelance")
+                .createDate(lateEvening.minusDays(40))
+                .user(user)
+                .build());
+        entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(400))
+                .category("Salary")
+                .createDate(lateEvening.plusDays(1))
+                .user(user)
+                .build());
+        entityManager.flush();
+        OffsetDateTime from = lateEvening.minusDays(30);
+        OffsetDateTime to = OffsetDateTime.parse("2024-01-17T00:00:00+03:00");
+
+        // When
+        List<CategoryAmount> byCategory = incomeRepository.sumByCategory(user.getId(), from, to);
+        List<BucketAmount> byDay = incomeRepository.sumByBucket(user.getId(), from, to, "day", "Europe/Moscow");
+
+        // Then
+        assertThat(byCategory).hasSize(1);
+        assertThat(byCategory.get(0).getCategory()).isEqualTo("Salary");
+        assertThat(byCategory.get(0).getTotal()).isEqualByComparingTo("300.75");
+        assertThat(byCategory.get(0).getCount()).isEqualTo(2L);
+        assertThat(byDay).extracting(BucketAmount::getBucket)
+                .containsExactly(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 16));
+    }
+
+    @Test
+    @DisplayName("Should update only the owner's income and return values before and after the update")
+    void shouldUpdateOwnedIncomeAndReturnOldAndNewValues() {
+        // Given
+        UserEntity owner = persistUser("owner");
+        UserEntity stranger = persistUser("stranger");
+        OffsetDateTime createDate = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+        IncomeEntity income = entityManager.persistFlushFind(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(100))
+                .category("Old")
+                .createDate(createDate)
+                .description("Description")
+                .user(owner)
+                .build());
+        entityManager.clear();
+
+        // When
+        List<TransactionChange> foreign = incomeRepository.updateOwned(income.getId(), stranger.getId(),
+                BigDecimal.valueOf(1), "Foreign", null, null);
+        List<TransactionChange> updated = incomeRepository.updateOwned(income.getId(), owner.getId(),
+                BigDecimal.valueOf(250.5), "New", null, null);
+
+        // Then
+        assertThat(foreign).isEmpty();
+        assertThat(updated).hasSize(1);
+        TransactionChange change = updated.get(0);
+        assertThat(change.getId()).isEqualTo(income.getId());
+        assertThat(change.getAmount()).isEqualByComparingTo("250.5");
+        assertThat(change.getCategory()).isEqualTo("New");
+        assertThat(change.getCreateDate()).isEqualTo(createDate.toInstant());
+        assertThat(change.getDescription()).isEqualTo("Description");
+        assertThat(change.getOldAmount()).isEqualByComparingTo("100");
+        assertThat(change.getOldCategory()).isEqualTo("Old");
+        assertThat(change.getOldCreateDate()).isEqualTo(createDate.toInstant());
+    }
+
+    @Test
+    @DisplayName("Should delete only the owner's income and resolve the owner of a missed row")
+    void shouldDeleteOwnedIncomeAndResolveOwner() {
+        // Given
+        UserEntity owner = persistUser("owner");
+        UserEntity stranger = persistUser("stranger");
+        IncomeEntity income = entityManager.persistFlushFind(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(100))
+                .category("Category")
+                .createDate(OffsetDateTime.parse("2024-01-15T10:00:00Z"))
+                .user(owner)
+                .build());
+        entityManager.clear();
+
+        // When
+        List<TransactionChange> foreign = incomeRepository.deleteOwned(income.getId(), stranger.getId());
+        Optional<Long> ownerId = incomeRepository.findUserIdById(income.getId());
+        List<TransactionChange> deleted = incomeRepository.deleteOwned(income.getId(), owner.getId());
+
+        // Then
+        assertThat(foreign).isEmpty();
+        assertThat(ownerId).contains(owner.getId());
+        assertThat(deleted).singleElement().satisfies(change -> {
+            assertThat(change.getOldAmount()).isEqualByComparingTo("100");
+            assertThat(change.getOldCategory()).isEqualTo("Category");
+        });
+        assertThat(incomeRepository.findById(income.getId())).isEmpty();
+        assertThat(incomeRepository.findUserIdById(income.getId())).isEmpty();
+    }
+
+    private UserEntity persistUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setDisplayName(username);
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(username + "@example.com");
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,102 @@
+package app.core.repository;
+
+import app.core.mappers.ExpenseMapper;
+import app.core.model.UserEntity;
+import app.core.model.dto.TransactionBaseResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Память, выделяемая на чтение 10 000 расходов: сущности с последующим маппингом в DTO
+ * против проекции сразу в {@link TransactionBaseResponseDto}.
+ * <p>
+ * Замер привязан к потоку теста ({@code ThreadMXBean#getCurrentThreadAllocatedBytes}), поэтому запускается только явно:
+ * {@code mvn test -pl core -am -Dtest=ListingAllocationBenchmarkTest -Dbenchmark=true}
+ */
+@Slf4j
+@DataJpaTest
+@ActiveProfiles("integration")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Listing allocation benchmark")
+class ListingAllocationBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ExpenseMapper expenseMapper = Mappers.getMapper(ExpenseMapper.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Test
+    @DisplayName("Should allocate less heap per 10k rows when projecting into DTOs")
+    void shouldAllocateLessWhenProjectingIntoDtos() {
+        // Given
+        UserEntity user = new UserEntity();
+        user.setDisplayName("Bench User");
+        user.setUsername("bench");
+        user.setPassword("password");
+        user.setEmail("bench@example.com");
+        entityManager.persistAndFlush(user);
+        entityManager.getEntityManager().createNativeQuery("INSERT INTO {h-schema}expenses (id, amount, category, create_date, user_id) " +
+                        "SELECT nextval('expenses_seq'), 100 + g % 100, 'Bench', now() - g * interval '1 minute', :userId " +
+                        "FROM generate_series(1, :rows) g")
+                .setParameter("userId", user.getId())
+                .setParameter("rows", ROWS)
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        long entityBytes = measure(() -> {
+            List<TransactionBaseResponseDto> responses = expenseRepository.findAllByUserId(user.getId()).stream()
+                    .map(expenseMapper::toResponse).toList();
+            // flush проходит dirty checking по снимкам всех загруженных сущностей
+            entityManager.flush();
+            return responses;
+        });
+        long dtoBytes = measure(() -> expenseRepository.findAllResponsesByUserId(user.getId()));
+
+        // Then
+        log.info("Entities + mapper: {} KB per {} rows; DTO projection: {} KB per {} rows",
+                entityBytes / 1024, ROWS, dtoBytes / 1024, ROWS);
+        assertThat(dtoBytes).isLessThan(entityBytes);
+    }
+
+    /**
+     * @return минимум выделенных байт за замеряемые прогоны; контекст персистентности очищается после каждого
+     */
+    private long measure(Supplier<List<TransactionBaseResponseDto>> listing) {
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            List<TransactionBaseResponseDto> responses = listing.get();
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            assertThat(responses).hasSize(ROWS);
+            entityManager.clear();
+            if (round >= WARMUP_ROUNDS) {
+                min = Math.min(min, allocated);
+            }
+        }
+        return min;
+    }
+}
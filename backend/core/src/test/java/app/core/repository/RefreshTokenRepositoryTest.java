@@ -0,0 +1,103 @@
+package app.core.repository;
+
+import app.core.model.RefreshTokenEntity;
+import app.core.model.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("RefreshTokenRepository Tests")
+@ActiveProfiles("integration")
+class RefreshTokenRepositoryTest {
+
+    private static final String TOKEN_HASH = "a".repeat(64);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void init() {
+        user = new UserEntity();
+        user.setDisplayName("Token User");
+        user.setUsername("tokenuser");
+        user.setPassword("hashedPassword");
+        user.setEmail("token@example.com");
+        entityManager.persistAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Should mark refresh token used only once")
+    void shouldMarkRefreshTokenUsedOnlyOnce() {
+        // Given
+        Instant now = Instant.now();
+        entityManager.persistAndFlush(token(TOKEN_HASH, now.plus(Duration.ofDays(1))));
+
+        // When
+        int first = refreshTokenRepository.markUsed(TOKEN_HASH, now);
+        int second = refreshTokenRepository.markUsed(TOKEN_HASH, now);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not mark expired refresh token used and delete it on cleanup")
+    void shouldNotMarkExpiredRefreshTokenUsed() {
+        // Given
+        Instant now = Instant.now();
+        entityManager.persistAndFlush(token(TOKEN_HASH, now.minusSeconds(1)));
+
+        // When
+        int marked = refreshTokenRepository.markUsed(TOKEN_HASH, now);
+        int deleted = refreshTokenRepository.deleteAllExpired(now);
+
+        // Then
+        assertThat(marked).isZero();
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep latest revocation time on repeated revocation")
+    void shouldKeepLatestRevocationTime() {
+        // Given
+        Instant earlier = Instant.parse("2024-01-15T10:30:00Z");
+        Instant later = Instant.parse("2024-01-15T10:35:00Z");
+
+        // When
+        tokenRevocationRepository.upsert(user.getId(), later);
+        tokenRevocationRepository.upsert(user.getId(), earlier);
+        entityManager.clear();
+
+        // Then
+        assertThat(tokenRevocationRepository.findAllByRevokedAtAfter(earlier))
+                .singleElement()
+                .satisfies(revocation -> assertThat(revocation.getRevokedAt()).isEqualTo(later));
+    }
+
+    private RefreshTokenEntity token(String tokenHash, Instant expiresAt) {
+        return RefreshTokenEntity.builder()
+                .tokenHash(tokenHash)
+                .userId(user.getId())
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
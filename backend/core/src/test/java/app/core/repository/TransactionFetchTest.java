@@ -0,0 +1,144 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.IncomeEntity;
+import app.core.model.UserEntity;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Чтение транзакций не должно подтягивать строку {@code users}: один SELECT без JOIN и без N+1
+ */
+@DataJpaTest
+@DisplayName("Transaction Fetch Tests")
+@ActiveProfiles("integration")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=app.core.repository.TransactionFetchTest$RecordingStatementInspector"
+})
+class TransactionFetchTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    private Statistics statistics;
+
+    private UserEntity user;
+
+    private Long expenseId;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        user = new UserEntity();
+        user.setDisplayName("Test User");
+        user.setUsername("testuser");
+        user.setPassword("password");
+        user.setEmail("test@example.com");
+        entityManager.persist(user);
+
+        OffsetDateTime createDate = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+        for (int i = 0; i < ROWS; i++) {
+            expenseId = entityManager.persist(ExpenseEntity.builder()
+                    .amount(BigDecimal.valueOf(100 + i))
+                    .category("Food")
+                    .createDate(createDate.minusHours(i))
+                    .user(user)
+                    .build()).getId();
+            entityManager.persist(IncomeEntity.builder()
+                    .amount(BigDecimal.valueOf(1000 + i))
+                    .category("Salary")
+                    .createDate(createDate.minusHours(i))
+                    .user(user)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should list expenses with a single select that does not join users")
+    void shouldListExpensesWithSingleSelectWithoutUserJoin() {
+        // When
+        List<ExpenseEntity> expenses = expenseRepository.findAllByUserId(user.getId());
+
+        // Then
+        assertThat(expenses).hasSize(ROWS).allSatisfy(expense -> {
+            assertThat(expense.getUserId()).isEqualTo(user.getId());
+            assertThat(Hibernate.isInitialized(expense.getUser())).isFalse();
+        });
+        assertSingleSelectWithoutUsers();
+    }
+
+    @Test
+    @DisplayName("Should list incomes with a single select that does not join users")
+    void shouldListIncomesWithSingleSelectWithoutUserJoin() {
+        // When
+        List<IncomeEntity> incomes = incomeRepository.findAllByUserId(user.getId());
+
+        // Then
+        assertThat(incomes).hasSize(ROWS).allSatisfy(income -> {
+            assertThat(income.getUserId()).isEqualTo(user.getId());
+            assertThat(Hibernate.isInitialized(income.getUser())).isFalse();
+        });
+        assertSingleSelectWithoutUsers();
+    }
+
+    @Test
+    @DisplayName("Should find expense by id without loading its owner")
+    void shouldFindExpenseByIdWithoutLoadingOwner() {
+        // When
+        ExpenseEntity expense = expenseRepository.findById(expenseId).orElseThrow();
+
+        // Then
+        assertThat(expense.getUserId()).isEqualTo(user.getId());
+        assertThat(Hibernate.isInitialized(expense.getUser())).isFalse();
+        assertSingleSelectWithoutUsers();
+    }
+
+    private void assertSingleSelectWithoutUsers() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(UserEntity.class.getName()).getLoadCount()).isZero();
+        assertThat(RecordingStatementInspector.STATEMENTS).singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).doesNotContain("join").doesNotContain("users"));
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.IncomeEntity;
+import app.core.model.UserEntity;
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.pagination.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Запросы списков с фильтрами и страницы общей истории должны читать строки пользователя по индексу, а не полным проходом таблицы.
+ * <p>
+ * SQL, который сгенерировал Hibernate, перехватывается и разбирается через {@code EXPLAIN (GENERIC_PLAN)}: проверяется общий
+ * план подготовленного запроса, то есть для любых значений параметров. Там же закреплен план поиска по одному {@code id}.
+ * В общем плане нет отсечения разделов, поэтому в нем
+ * перечислены все годовые разделы; проверяется раздел {@code y2025}, в котором лежат данные, пустые разделы планировщик
+ * вправе читать полным проходом
+ */
+@DataJpaTest
+@DisplayName("Transaction Filter Explain Tests")
+@ActiveProfiles("integration")
+@Import(TransactionResponseQueries.class)
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=app.core.repository.TransactionFilterExplainTest$RecordingStatementInspector")
+class TransactionFilterExplainTest {
+
+    private static final int USERS = 20;
+    private static final int ROWS_PER_USER = 1_000;
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionResponseQueries transactionResponseQueries;
+
+    @Autowired
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void init() {
+        for (int i = 0; i < USERS; i++) {
+            user = new UserEntity();
+            user.setDisplayName("Explain User " + i);
+            user.setUsername("explain" + i);
+            user.setPassword("password");
+            user.setEmail("explain" + i + "@example.com");
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        seed("expenses");
+        seed("incomes");
+        transactionPartitionRepository.createPartitions(0);
+        analyze("expenses");
+        analyze("incomes");
+        entityManager.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should read expenses filtered by category and period through category index")
+    void shouldUseCategoryIndexForCategoryAndPeriod() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder()
+                .category("Food")
+                .from(OffsetDateTime.parse("2025-03-01T00:00:00Z"))
+                .to(OffsetDateTime.parse("2025-04-01T00:00:00Z"))
+                .build();
+        Specification<ExpenseEntity> specification = TransactionSpecifications.<ExpenseEntity>filtered(user.getId(), filter)
+                .and(TransactionSpecifications.after(new TransactionCursor(OffsetDateTime.parse("2025-03-20T00:00:00Z"), Long.MAX_VALUE)));
+
+        // When
+        transactionResponseQueries.findAll(ExpenseEntity.class, specification, Limit.of(51));
+
+        // Then
+        assertThat(explainLastStatement())
+                .contains("expenses_y2025_user_id_category_create_date_id_idx")
+                .doesNotContain("Seq Scan on expenses_y2025");
+    }
+
+    @Test
+    @DisplayName("Should read expenses filtered by period through keyset index")
+    void shouldUseKeysetIndexForPeriod() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder()
+                .from(OffsetDateTime.parse("2025-03-01T00:00:00Z"))
+                .to(OffsetDateTime.parse("2025-04-01T00:00:00Z"))
+                .build();
+
+        // When
+        transactionResponseQueries.findAll(ExpenseEntity.class, TransactionSpecifications.filtered(user.getId(), filter), Limit.unlimited());
+
+        // Then
+        assertThat(explainLastStatement())
+                .contains("expenses_y2025_user_id_create_date_id_idx")
+                .doesNotContain("Seq Scan on expenses_y2025");
+    }
+
+    @Test
+    @DisplayName("Should check amount range on incomes found through category index")
+    void shouldUseCategoryIndexForCategoryAndAmount() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder()
+                .category("Food")
+                .minAmount(BigDecimal.valueOf(150))
+                .maxAmount(BigDecimal.valueOf(180))
+                .build();
+
+        // When
+        List<TransactionBaseResponseDto> incomes = transactionResponseQueries.findAll(IncomeEntity.class,
+                TransactionSpecifications.filtered(user.getId(), filter), Limit.unlimited());
+
+        // Then
+        assertThat(incomes).isNotEmpty().allSatisfy(income -> {
+            assertThat(income.category()).isEqualTo("Food");
+            assertThat(income.amount()).isBetween(BigDecimal.valueOf(150), BigDecimal.valueOf(180));
+        });
+        assertThat(explainLastStatement())
+                .contains("incomes_y2025_user_id_category_create_date_id_idx")
+                .doesNotContain("Seq Scan on incomes_y2025");
+    }
+
+    @Test
+    @DisplayName("Should merge expense and income keyset indexes for history page after cursor")
+    void shouldMergeKeysetIndexesForHistoryPage() {
+        // When
+        transactionRepository.findPageByUserIdAfter(user.getId(), OffsetDateTime.parse("2025-03-20T00:00:00Z"),
+                Long.MAX_VALUE, "INCOME", Limit.of(51));
+
+        // Then
+        assertThat(explainLastStatement())
+                .contains("Merge Append", "expenses_y2025_user_id_create_date_id_idx", "incomes_y2025_user_id_create_date_id_idx")
+                .doesNotContain("Seq Scan on expenses_y2025", "Seq Scan on incomes_y2025");
+    }
+
+    @Test
+    @DisplayName("Should probe primary key of each partition for lookups by id alone")
+    void shouldUsePartitionPrimaryKeysForIdLookups() {
+        // Given
+        Long id = user.getId() * ROWS_PER_USER + 1;
+
+        // When & Then
+        expenseRepository.findById(id);
+        assertIdLookupPlan(explainLastStatement());
+        expenseRepository.findUserIdById(id);
+        assertIdLookupPlan(explainLastStatement());
+        expenseRepository.updateOwned(id, user.getId(), BigDecimal.TEN, null, null, null);
+        assertIdLookupPlan(explainLastStatement());
+        expenseRepository.deleteOwned(id, user.getId());
+        assertIdLookupPlan(explainLastStatement());
+    }
+
+    /**
+     * Ключ раздела в условии не задан, поэтому отсечения нет и запрос обходит все разделы. Заполненный раздел читается
+     * по первичному ключу, пустые планировщик может просканировать целиком
+     */
+    private static void assertIdLookupPlan(String plan) {
+        assertThat(plan)
+                .contains("Index Scan using expenses_y2025_pkey on expenses_y2025")
+                .contains("on expenses_default")
+                .doesNotContain("Seq Scan on expenses_y2025");
+    }
+
+    /**
+     * {@code ROWS_PER_USER} строк на каждого пользователя за 2025 год, 10 категорий; идентификаторы вычисляются без последовательности.
+     * Строки попадают в раздел по умолчанию, пока {@link TransactionPartitionRepository#createPartitions} не создаст раздел года
+     */
+    private void seed(String table) {
+        entityManager.getEntityManager().createNativeQuery("INSERT INTO {h-schema}" + table + " (id, amount, category, create_date, user_id) " +
+                        "SELECT u.id * :rows + g, 100 + g % 100, " +
+                        "(ARRAY['Food','Transport','Rent','Health','Fun','Gifts','Travel','Education','Pets','Other'])[1 + g % 10], " +
+                        "TIMESTAMPTZ '2025-01-01 00:00:00+00' + (g * 31536) * interval '1 second', u.id " +
+                        "FROM {h-schema}users u CROSS JOIN generate_series(1, :rows) g")
+                .setParameter("rows", ROWS_PER_USER)
+                .executeUpdate();
+    }
+
+    /**
+     * Статистика обновляется сразу, чтобы планировщик видел реальный размер разделов
+     */
+    private void analyze(String table) {
+        entityManager.getEntityManager().createNativeQuery("ANALYZE {h-schema}" + table).executeUpdate();
+    }
+
+    /**
+     * Последний перехваченный запрос с параметрами {@code $n} разбирается через {@code EXPLAIN (GENERIC_PLAN)}.
+     * JDBC-драйвер не передает {@code $n} в тексте оператора, поэтому {@code EXPLAIN} выполняется временной функцией
+     */
+    private String explainLastStatement() {
+        List<String> statements = RecordingStatementInspector.STATEMENTS;
+        Matcher matcher = PARAMETER.matcher(statements.get(statements.size() - 1));
+        StringBuilder numbered = new StringBuilder();
+        int parameters = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++parameters);
+        }
+        matcher.appendTail(numbered);
+        EntityManager em = entityManager.getEntityManager();
+        em.createNativeQuery("CREATE OR REPLACE FUNCTION pg_temp.explain_generic_plan(statement text) RETURNS SETOF text " +
+                        "LANGUAGE plpgsql AS $$ BEGIN RETURN QUERY EXECUTE 'EXPLAIN (GENERIC_PLAN) ' || statement; END $$")
+                .executeUpdate();
+        List<?> plan = em.createNativeQuery("SELECT pg_temp.explain_generic_plan(:statement)")
+                .setParameter("statement", numbered.toString())
+                .getResultList();
+        return plan.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
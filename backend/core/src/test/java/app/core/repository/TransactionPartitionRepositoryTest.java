@@ -0,0 +1,75 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("TransactionPartitionRepository Tests")
+@ActiveProfiles("integration")
+class TransactionPartitionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserEntity();
+        user.setDisplayName("Test User");
+        user.setUsername("testuser");
+        user.setPassword("password");
+        user.setEmail("test@example.com");
+        entityManager.persistAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Should move rows from default partition into created year partition")
+    void shouldCreatePartitionForRowsInDefaultPartition() {
+        // Given
+        ExpenseEntity expense = ExpenseEntity.builder()
+                .amount(BigDecimal.valueOf(100.50))
+                .category("Food")
+                .createDate(OffsetDateTime.parse("2019-06-15T10:00:00Z"))
+                .user(user)
+                .build();
+        entityManager.persistAndFlush(expense);
+        assertThat(partitionOf(expense.getId())).isEqualTo("expenses_default");
+
+        // When
+        int created = transactionPartitionRepository.createPartitions(1);
+
+        // Then
+        assertThat(created).isPositive();
+        assertThat(partitionOf(expense.getId())).isEqualTo("expenses_y2019");
+        entityManager.clear();
+        assertThat(expenseRepository.findById(expense.getId())).isPresent();
+        assertThat(transactionPartitionRepository.createPartitions(1)).isZero();
+    }
+
+    private String partitionOf(Long id) {
+        return (String) entityManager.getEntityManager()
+                .createNativeQuery("SELECT relname::text FROM pg_class WHERE oid = " +
+                        "(SELECT tableoid FROM {h-schema}expenses WHERE id = :id)")
+                .setParameter("id", id)
+                .getSingleResult();
+    }
+}
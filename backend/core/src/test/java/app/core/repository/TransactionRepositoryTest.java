@@ -0,0 +1,149 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.IncomeEntity;
+import app.core.model.UserEntity;
+import app.core.model.projection.TransactionExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@DisplayName("TransactionRepository Tests")
+@ActiveProfiles("integration")
+class TransactionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final OffsetDateTime baseDate = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    @Test
+    @DisplayName("Should stream expenses and incomes of the user merged by create date")
+    void shouldStreamUserTransactionsMergedByCreateDate() {
+        // Given
+        UserEntity user = persistUser("testuser");
+        UserEntity otherUser = persistUser("otheruser");
+
+        ExpenseEntity lunch = persistExpense(user, "Food", baseDate.plusHours(1));
+        IncomeEntity salary = persistIncome(user, "Salary", baseDate);
+        ExpenseEntity taxi = persistExpense(user, "Transport", baseDate.plusHours(3));
+        IncomeEntity bonus = persistIncome(user, "Bonus", baseDate.plusHours(2));
+        persistExpense(otherUser, "Food", baseDate.plusMinutes(30));
+        persistIncome(otherUser, "Salary", baseDate.plusMinutes(90));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TransactionExportRow> result;
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamAllByUserId(user.getId())) {
+            result = rows.toList();
+        }
+
+        // Then
+        assertThat(result)
+                .extracting(TransactionExportRow::getKind, TransactionExportRow::getId, TransactionExportRow::getCategory)
+                .containsExactly(
+                        tuple("INCOME", salary.getId(), "Salary"),
+                        tuple("EXPENSE", lunch.getId(), "Food"),
+                        tuple("INCOME", bonus.getId(), "Bonus"),
+                        tuple("EXPENSE", taxi.getId(), "Transport"));
+        assertThat(result.get(0).getCreateDate()).isEqualTo(baseDate.toInstant());
+        assertThat(result.get(0).getAmount()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(result.get(0).getDescription()).isEqualTo("Salary note");
+    }
+
+    @Test
+    @DisplayName("Should stream nothing when user has no transactions")
+    void shouldStreamNothingWhenUserHasNoTransactions() {
+        // Given
+        UserEntity user = persistUser("testuser");
+        persistExpense(persistUser("otheruser"), "Food", baseDate);
+        entityManager.flush();
+
+        // When & Then
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamAllByUserId(user.getId())) {
+            assertThat(rows).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should page merged history newest first and continue after cursor")
+    void shouldPageMergedHistoryNewestFirst() {
+        // Given
+        UserEntity user = persistUser("testuser");
+        UserEntity otherUser = persistUser("otheruser");
+
+        IncomeEntity salary = persistIncome(user, "Salary", baseDate);
+        ExpenseEntity lunch = persistExpense(user, "Food", baseDate.plusHours(1));
+        IncomeEntity bonus = persistIncome(user, "Bonus", baseDate.plusHours(1));
+        ExpenseEntity taxi = persistExpense(user, "Transport", baseDate.plusHours(2));
+        persistExpense(otherUser, "Food", baseDate.plusHours(3));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TransactionExportRow> firstPage = transactionRepository.findFirstPageByUserId(user.getId(), Limit.of(2));
+        TransactionExportRow last = firstPage.get(1);
+        List<TransactionExportRow> nextPage = transactionRepository.findPageByUserIdAfter(user.getId(),
+                last.getCreateDate().atOffset(ZoneOffset.UTC), last.getId(), last.getKind(), Limit.of(10));
+
+        // Then
+        assertThat(firstPage).hasSize(2);
+        assertThat(nextPage).hasSize(2);
+        assertThat(Stream.concat(firstPage.stream(), nextPage.stream()).toList())
+                .extracting(TransactionExportRow::getKind, TransactionExportRow::getId)
+                .containsExactlyInAnyOrder(
+                        tuple("EXPENSE", taxi.getId()),
+                        tuple("EXPENSE", lunch.getId()),
+                        tuple("INCOME", bonus.getId()),
+                        tuple("INCOME", salary.getId()))
+                .startsWith(tuple("EXPENSE", taxi.getId()))
+                .endsWith(tuple("INCOME", salary.getId()));
+    }
+
+    private UserEntity persistUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setDisplayName("Test User");
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(username + "@example.com");
+        return entityManager.persist(user);
+    }
+
+    private ExpenseEntity persistExpense(UserEntity user, String category, OffsetDateTime createDate) {
+        return entityManager.persist(ExpenseEntity.builder()
+                .amount(BigDecimal.valueOf(100))
+                .category(category)
+                .description(category + " note")
+                .createDate(createDate)
+                .user(user)
+                .build());
+    }
+
+    private IncomeEntity persistIncome(UserEntity user, String category, OffsetDateTime createDate) {
+        return entityManager.persist(IncomeEntity.builder()
+                .amount(BigDecimal.valueOf(1000))
+                .category(category)
+                .description(category + " note")
+                .createDate(createDate)
+                .user(user)
+                .build());
+    }
+}
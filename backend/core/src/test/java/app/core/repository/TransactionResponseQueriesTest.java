@@ -0,0 +1,108 @@
+package app.core.repository;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.UserEntity;
+import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.pagination.TransactionCursor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("TransactionResponseQueries Tests")
+@ActiveProfiles("integration")
+@Import(TransactionResponseQueries.class)
+class TransactionResponseQueriesTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionResponseQueries transactionResponseQueries;
+
+    private final OffsetDateTime createDate = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = persistUser("owner");
+    }
+
+    @Test
+    @DisplayName("Should project filtered expenses into response DTOs newest first without managing entities")
+    void shouldProjectFilteredExpensesWithoutManagingEntities() {
+        // Given
+        ExpenseEntity older = persistExpense(user, "Food", createDate.minusDays(1), null);
+        ExpenseEntity newer = persistExpense(user, "Food", createDate, "Description");
+        persistExpense(user, "Travel", createDate, null);
+        persistExpense(persistUser("stranger"), "Food", createDate, null);
+        entityManager.flush();
+        entityManager.clear();
+        TransactionFilterDto filter = TransactionFilterDto.builder().category("Food").build();
+
+        // When
+        List<TransactionBaseResponseDto> result = transactionResponseQueries.findAll(ExpenseEntity.class,
+                TransactionSpecifications.filtered(user.getId(), filter), Limit.unlimited());
+
+        // Then
+        assertThat(result).extracting(TransactionBaseResponseDto::id).containsExactly(newer.getId(), older.getId());
+        assertThat(result.get(0).description()).isEqualTo("Description");
+        assertThat(result.get(0).createDate()).isEqualTo(createDate);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should limit filtered page after cursor")
+    void shouldLimitFilteredPageAfterCursor() {
+        // Given
+        ExpenseEntity first = persistExpense(user, "Food", createDate, null);
+        ExpenseEntity second = persistExpense(user, "Food", createDate.minusDays(1), null);
+        persistExpense(user, "Food", createDate.minusDays(2), null);
+        entityManager.flush();
+        entityManager.clear();
+        TransactionFilterDto filter = TransactionFilterDto.builder().from(createDate.minusDays(10)).build();
+
+        // When
+        List<TransactionBaseResponseDto> page = transactionResponseQueries.findAll(ExpenseEntity.class,
+                TransactionSpecifications.<ExpenseEntity>filtered(user.getId(), filter)
+                        .and(TransactionSpecifications.after(new TransactionCursor(first.getCreateDate(), first.getId()))),
+                Limit.of(1));
+
+        // Then
+        assertThat(page).extracting(TransactionBaseResponseDto::id).containsExactly(second.getId());
+    }
+
+    private ExpenseEntity persistExpense(UserEntity owner, String category, OffsetDateTime date, String description) {
+        return entityManager.persist(ExpenseEntity.builder()
+                .amount(BigDecimal.valueOf(100))
+                .category(category)
+                .createDate(date)
+                .description(description)
+                .user(owner)
+                .build());
+    }
+
+    private UserEntity persistUser(String username) {
+        UserEntity user = new UserEntity();
+        user.setDisplayName(username);
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(username + "@example.com");
+        return entityManager.persistAndFlush(user);
+    }
+}
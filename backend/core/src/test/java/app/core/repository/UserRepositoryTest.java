@@ -1,16 +1,19 @@
 package app.core.repository;
 
 import app.core.model.UserEntity;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
@@ -80,4 +83,68 @@ class UserRepositoryTest {
             entityManager.flush();
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should find user by username ignoring case")
+    void shouldFindUserByUsernameIgnoringCase() {
+        // Given
+        UserEntity user = new UserEntity();
+        user.setDisplayName("Mixed Case");
+        user.setUsername("MixedCase");
+        user.setPassword("hashedPassword");
+        user.setEmail("mixed@example.com");
+        entityManager.persistAndFlush(user);
+
+        // When
+        Optional<UserEntity> result = userRepository.findByUsername("mixedcase");
+
+        // Then
+        assertThat(result).get().extracting(UserEntity::getId).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject username differing only in case with unique index violation")
+    void shouldRejectUsernameDifferingOnlyInCase() {
+        // Given
+        UserEntity user1 = new UserEntity();
+        user1.setDisplayName("User One");
+        user1.setUsername("sameuser");
+        user1.setPassword("password1");
+        user1.setEmail("user1@example.com");
+        userRepository.saveAndFlush(user1);
+
+        UserEntity user2 = new UserEntity();
+        user2.setDisplayName("User Two");
+        user2.setUsername("SameUser");
+        user2.setPassword("password2");
+        user2.setEmail("user2@example.com");
+
+        // When & Then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(user2))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .cause()
+                .isInstanceOfSatisfying(ConstraintViolationException.class,
+                        violation -> assertThat(violation.getConstraintName()).isEqualTo("uq_users_username_lower"));
+    }
+
+    @Test
+    @DisplayName("Should update only password hash")
+    void shouldUpdateOnlyPasswordHash() {
+        // Given
+        UserEntity user = new UserEntity();
+        user.setDisplayName("Rehash User");
+        user.setUsername("rehashuser");
+        user.setPassword("$2a$04$legacyHash");
+        user.setEmail("rehash@example.com");
+        entityManager.persistAndFlush(user);
+
+        // When
+        userRepository.updatePassword(user.getId(), "{bcrypt}$2a$10$upgradedHash");
+        entityManager.clear();
+
+        // Then
+        UserEntity result = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(result.getPassword()).isEqualTo("{bcrypt}$2a$10$upgradedHash");
+        assertThat(result.getDisplayName()).isEqualTo("Rehash User");
+    }
+}
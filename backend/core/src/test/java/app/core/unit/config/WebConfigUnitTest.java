@@ -0,0 +1,51 @@
+package app.core.unit.config;
+
+import app.core.config.WebConfig;
+import app.core.model.dto.CreateTransactionBaseRequestDto;
+import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Уникальность {@code id} в разделенных таблицах держится только на последовательности, поэтому идентификатор
+ * из тела запроса должен отклоняться, а не молча игнорироваться
+ */
+@DisplayName("WebConfig Unit Tests")
+@ActiveProfiles("unit")
+class WebConfigUnitTest {
+
+    private final ObjectMapper objectMapper = new WebConfig().jackson2ObjectMapperBuilder().build();
+
+    @Test
+    @DisplayName("Should reject client supplied id on transaction create")
+    void shouldRejectIdOnCreate() {
+        // Given
+        String body = """
+                {"id": 42, "amount": 1500.00, "category": "Продукты", "createDate": "2024-01-15T10:30:00+03:00"}
+                """;
+
+        // When & Then
+        assertThatThrownBy(() -> objectMapper.readValue(body, CreateTransactionBaseRequestDto.class))
+                .isInstanceOf(UnrecognizedPropertyException.class)
+                .hasMessageContaining("\"id\"");
+    }
+
+    @Test
+    @DisplayName("Should reject client supplied id on transaction update")
+    void shouldRejectIdOnUpdate() {
+        // Given
+        String body = """
+                {"id": 42, "amount": 1500.00}
+                """;
+
+        // When & Then
+        assertThatThrownBy(() -> objectMapper.readValue(body, UpdateTransactionBaseRequestDto.class))
+                .isInstanceOf(UnrecognizedPropertyException.class)
+                .hasMessageContaining("\"id\"");
+    }
+}
@@ -0,0 +1,99 @@
+package app.core.unit.datasource;
+
+import app.core.datasource.ReadYourWritesTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesTracker Unit Tests")
+@ActiveProfiles("unit")
+class ReadYourWritesTrackerUnitTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 1000, nanos::get);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should route writer to primary until window expires")
+    void shouldRequirePrimaryWithinWindow() {
+        // Given
+        authenticate("alex");
+        tracker.recordWrite();
+
+        // When & Then
+        assertThat(tracker.isPrimaryRequired()).isTrue();
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(tracker.isPrimaryRequired()).isTrue();
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(tracker.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep other users and anonymous reads on replica")
+    void shouldNotRequirePrimaryForOtherUsers() {
+        // Given
+        authenticate("alex");
+        tracker.recordWrite();
+
+        // When & Then
+        authenticate("bob");
+        assertThat(tracker.isPrimaryRequired()).isFalse();
+        SecurityContextHolder.clearContext();
+        assertThat(tracker.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should route rest of request to primary and open window after sign in")
+    void shouldOpenWindowForUserAuthenticatedAfterWrite() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        tracker.recordWrite();
+
+        // When
+        boolean primaryBeforeSignIn = tracker.isPrimaryRequired();
+        authenticate("alex");
+        tracker.recordAuthenticationAfterWrite();
+        RequestContextHolder.resetRequestAttributes();
+
+        // Then
+        assertThat(primaryBeforeSignIn).isTrue();
+        assertThat(tracker.isPrimaryRequired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not open window on sign in without write in request")
+    void shouldNotOpenWindowOnSignInWithoutWrite() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        authenticate("alex");
+
+        // When
+        tracker.recordAuthenticationAfterWrite();
+
+        // Then
+        assertThat(tracker.isPrimaryRequired()).isFalse();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
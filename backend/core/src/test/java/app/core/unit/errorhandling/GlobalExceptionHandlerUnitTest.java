@@ -0,0 +1,52 @@
+package app.core.unit.errorhandling;
+
+import app.core.errorhandling.GlobalExceptionHandler;
+import app.core.errorhandling.exceptions.PasswordHashingBusyException;
+import app.core.errorhandling.exceptions.RateLimitExceededException;
+import app.core.errorhandling.model.CommonExceptionJson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalExceptionHandler Unit Tests")
+@ActiveProfiles("unit")
+class GlobalExceptionHandlerUnitTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should send Retry-After rounded up to seconds when login attempts are limited")
+    void shouldSendRetryAfterForRateLimit() {
+        // When
+        ResponseEntity<CommonExceptionJson> response = handler.rateLimitExceededExceptionHandler(
+                new RateLimitExceededException("Too many attempts for this username, try again later", Duration.ofMillis(1500)));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody().msg()).isEqualTo("Too many login attempts");
+    }
+
+    @Test
+    @DisplayName("Should send Retry-After and own message when password hashing queue is full")
+    void shouldSendRetryAfterForPasswordHashing() {
+        // When
+        ResponseEntity<CommonExceptionJson> response = handler.passwordHashingBusyExceptionHandler(
+                new PasswordHashingBusyException("Password hashing queue is full, try again later", Duration.ofSeconds(1),
+                        new TaskRejectedException("full")));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().msg()).isEqualTo("Too many password checks");
+        assertThat(response.getBody().cause()).isEqualTo("Password hashing queue is full, try again later");
+    }
+}
@@ -0,0 +1,127 @@
+package app.core.unit.imports;
+
+import app.core.imports.StatementReader;
+import app.core.imports.StatementRecord;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.imports.ImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CsvStatementReader Unit Tests")
+@ActiveProfiles("unit")
+class CsvStatementReaderUnitTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+
+    @Test
+    @DisplayName("Should read export format with explicit kind and quoted values")
+    void shouldReadExportFormat() throws IOException {
+        // Given
+        String csv = """
+                kind,id,amount,category,createDate,description
+                INCOME,7,50000.21,Salary,2025-01-10T09:00:00Z,Monthly salary
+                EXPENSE,12,1500.50,"Food, drinks",2025-01-15T10:30:00+03:00,"Said ""hi"" and
+                left"
+                EXPENSE,13,10,'=SUM(A1),2025-01-16T00:00:00Z,
+                """;
+
+        // When
+        List<StatementRecord> records = readAll(csv, MOSCOW);
+
+        // Then
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).line()).isEqualTo(2);
+        assertThat(records.get(0).kind()).isEqualTo(TransactionKind.INCOME);
+        assertThat(records.get(0).request().amount()).isEqualTo(new BigDecimal("50000.21"));
+        assertThat(records.get(0).request().createDate()).isEqualTo(OffsetDateTime.parse("2025-01-10T09:00:00Z"));
+        assertThat(records.get(1).line()).isEqualTo(3);
+        assertThat(records.get(1).request().category()).isEqualTo("Food, drinks");
+        assertThat(records.get(1).request().description()).isEqualTo("Said \"hi\" and\nleft");
+        assertThat(records.get(2).line()).isEqualTo(5);
+        assertThat(records.get(2).request().category()).isEqualTo("=SUM(A1)");
+        assertThat(records.get(2).request().description()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should detect semicolon delimiter and derive kind from amount sign")
+    void shouldDeriveKindFromAmountSign() throws IOException {
+        // Given
+        String csv = """
+                Date;Amount;Category;Memo
+                2025-01-15;-1 500,50;Food;Lunch
+                2025-01-16T08:00:00;2000;Salary;
+                """;
+
+        // When
+        List<StatementRecord> records = readAll(csv, MOSCOW);
+
+        // Then
+        assertThat(records).extracting(StatementRecord::kind)
+                .containsExactly(TransactionKind.EXPENSE, TransactionKind.INCOME);
+        assertThat(records.get(0).request().amount()).isEqualTo(new BigDecimal("1500.50"));
+        assertThat(records.get(0).request().createDate()).isEqualTo(OffsetDateTime.parse("2025-01-15T00:00:00+03:00"));
+        assertThat(records.get(0).request().description()).isEqualTo("Lunch");
+        assertThat(records.get(1).request().createDate()).isEqualTo(OffsetDateTime.parse("2025-01-16T08:00:00+03:00"));
+    }
+
+    @Test
+    @DisplayName("Should reject rows with unparsable values and skip blank lines")
+    void shouldRejectUnparsableRows() throws IOException {
+        // Given
+        String csv = """
+                amount,category,createDate,kind
+                abc,Food,yesterday,TRANSFER
+
+                10,Food,2025-01-15,
+                """;
+
+        // When
+        List<StatementRecord> records = readAll(csv, ZoneId.of("UTC"));
+
+        // Then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).isRejected()).isTrue();
+        assertThat(records.get(0).errors()).isEqualTo(Map.of(
+                "amount", "must be a number",
+                "createDate", "must be an ISO-8601 date",
+                "kind", "must be EXPENSE or INCOME"));
+        assertThat(records.get(1).line()).isEqualTo(4);
+        assertThat(records.get(1).kind()).isEqualTo(TransactionKind.INCOME);
+    }
+
+    @Test
+    @DisplayName("Should fail when required columns are missing")
+    void shouldFailWhenRequiredColumnsAreMissing() {
+        // When & Then
+        assertThatThrownBy(() -> readAll("amount,description\n10,x\n", MOSCOW))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV statement has no columns [category, createDate]");
+    }
+
+    private List<StatementRecord> readAll(String csv, ZoneId zone) throws IOException {
+        List<StatementRecord> records = new ArrayList<>();
+        try (StatementReader reader = StatementReader.open(ImportFormat.CSV, new StringReader(csv), zone)) {
+            StatementRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
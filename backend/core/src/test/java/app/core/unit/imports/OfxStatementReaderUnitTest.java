@@ -0,0 +1,107 @@
+package app.core.unit.imports;
+
+import app.core.imports.StatementReader;
+import app.core.imports.StatementRecord;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.imports.ImportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfxStatementReader Unit Tests")
+@ActiveProfiles("unit")
+class OfxStatementReaderUnitTest {
+
+    @Test
+    @DisplayName("Should read SGML statement transactions")
+    void shouldReadSgmlStatement() throws IOException {
+        // Given
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20250115103000.000[-5:EST]
+                <TRNAMT>-42.50
+                <NAME>Coffee &amp; Co
+                <MEMO>Latte
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20250116
+                <TRNAMT>1500.00
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """;
+
+        // When
+        List<StatementRecord> records = readAll(ofx);
+
+        // Then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).line()).isEqualTo(6);
+        assertThat(records.get(0).kind()).isEqualTo(TransactionKind.EXPENSE);
+        assertThat(records.get(0).request().amount()).isEqualTo(new BigDecimal("42.50"));
+        assertThat(records.get(0).request().category()).isEqualTo("Coffee & Co");
+        assertThat(records.get(0).request().description()).isEqualTo("Latte");
+        assertThat(records.get(0).request().createDate()).isEqualTo(OffsetDateTime.parse("2025-01-15T10:30:00-05:00"));
+        assertThat(records.get(1).kind()).isEqualTo(TransactionKind.INCOME);
+        assertThat(records.get(1).request().category()).isEqualTo("CREDIT");
+        assertThat(records.get(1).request().createDate()).isEqualTo(OffsetDateTime.parse("2025-01-16T00:00:00+03:00"));
+    }
+
+    @Test
+    @DisplayName("Should read XML statement and reject transactions without required fields")
+    void shouldReadXmlStatementAndRejectIncompleteTransactions() throws IOException {
+        // Given
+        String ofx = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?OFX OFXHEADER="200" VERSION="220"?>
+                <OFX><BANKTRANLIST>
+                <STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20250120120000[+3:MSK]</DTPOSTED><TRNAMT>-10</TRNAMT><NAME>Taxi</NAME></STMTTRN>
+                <STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>2025-01-20</DTPOSTED></STMTTRN>
+                </BANKTRANLIST></OFX>
+                """;
+
+        // When
+        List<StatementRecord> records = readAll(ofx);
+
+        // Then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).request().category()).isEqualTo("Taxi");
+        assertThat(records.get(0).request().createDate()).isEqualTo(OffsetDateTime.parse("2025-01-20T12:00:00+03:00"));
+        assertThat(records.get(1).line()).isEqualTo(5);
+        assertThat(records.get(1).errors()).isEqualTo(Map.of(
+                "amount", "must not be null",
+                "createDate", "must be an OFX date"));
+    }
+
+    private List<StatementRecord> readAll(String ofx) throws IOException {
+        List<StatementRecord> records = new ArrayList<>();
+        try (StatementReader reader = StatementReader.open(ImportFormat.OFX, new StringReader(ofx), ZoneId.of("Europe/Moscow"))) {
+            StatementRecord record;
+            while ((record = reader.read()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,74 @@
+package app.core.unit.mappers;
+
+import app.core.mappers.AnalyticsMapper;
+import app.core.model.dto.BucketAmountDto;
+import app.core.model.dto.CategoryAmountDto;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsMapper Unit Tests")
+@ActiveProfiles("unit")
+class AnalyticsMapperUnitTest {
+
+    private AnalyticsMapper analyticsMapper;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @BeforeEach
+    void setUp() {
+        analyticsMapper = Mappers.getMapper(AnalyticsMapper.class);
+    }
+
+    @Test
+    @DisplayName("Should map category aggregates preserving order")
+    void shouldMapCategoryAggregates() {
+        // Given
+        List<CategoryAmount> rows = List.of(
+                projectionFactory.createProjection(CategoryAmount.class,
+                        Map.of("category", "Food", "total", BigDecimal.valueOf(300.75), "count", 2L)),
+                projectionFactory.createProjection(CategoryAmount.class,
+                        Map.of("category", "Transport", "total", BigDecimal.valueOf(50), "count", 1L))
+        );
+
+        // When
+        List<CategoryAmountDto> result = analyticsMapper.toCategoryAmounts(rows);
+
+        // Then
+        assertThat(result).containsExactly(
+                new CategoryAmountDto("Food", BigDecimal.valueOf(300.75), 2L),
+                new CategoryAmountDto("Transport", BigDecimal.valueOf(50), 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("Should map bucket aggregates")
+    void shouldMapBucketAggregates() {
+        // Given
+        LocalDate bucket = LocalDate.of(2024, 1, 1);
+        BucketAmount row = projectionFactory.createProjection(BucketAmount.class,
+                Map.of("bucket", bucket, "total", BigDecimal.TEN));
+
+        // When
+        BucketAmountDto result = analyticsMapper.toBucketAmount(row);
+
+        // Then
+        assertThat(result.bucket()).isEqualTo(bucket);
+        assertThat(result.total()).isEqualTo(BigDecimal.TEN);
+    }
+}
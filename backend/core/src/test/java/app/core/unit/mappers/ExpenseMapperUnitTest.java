@@ -4,20 +4,22 @@ import app.core.mappers.ExpenseMapper;
 import app.core.model.ExpenseEntity;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
-import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.InstanceOfAssertFactories.BIG_DECIMAL;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ExpenseMapper Unit Tests")
@@ -27,6 +29,8 @@ class ExpenseMapperUnitTest {
 
     private ExpenseMapper expenseMapper;
 
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     @BeforeEach
     public void init() {
         expenseMapper = Mappers.getMapper(ExpenseMapper.class);
@@ -75,84 +79,6 @@ class ExpenseMapperUnitTest {
         assertThat(result.getUser()).isNull();
     }
 
-    @Test
-    @DisplayName("Should update expense from request with all fields")
-    void shouldUpdateExpenseFromRequestWithAllFields() {
-        // Given
-        ExpenseEntity expense = ExpenseEntity.builder()
-                .id(1L)
-                .amount(BigDecimal.valueOf(50000.21))
-                .category("Old Category")
-                .description("Old Description")
-                .createDate(oldDate)
-                .build();
-
-        UpdateTransactionBaseRequestDto request = new UpdateTransactionBaseRequestDto(
-                BigDecimal.valueOf(10000.21), "New Category", currentDate, "New Description"
-        );
-
-        // When
-        expenseMapper.updateExpenseFromRequest(request, expense);
-
-        // Then
-        assertThat(expense.getId()).isEqualTo(1L);
-        assertThat(expense.getAmount()).isEqualTo(BigDecimal.valueOf(10000.21));
-        assertThat(expense.getCategory()).isEqualTo("New Category");
-        assertThat(expense.getDescription()).isEqualTo("New Description");
-        assertThat(expense.getCreateDate()).isEqualTo(currentDate);
-        assertThat(expense.getUser()).isNull();
-    }
-
-    @Test
-    @DisplayName("Should partially update expense (ignore null values)")
-    void shouldPartiallyUpdateExpenseIgnoreNullValues() {
-        // Given
-        ExpenseEntity expense = ExpenseEntity.builder()
-                .amount(BigDecimal.valueOf(5000.21))
-                .category("Original Category")
-                .description("Original Description")
-                .createDate(oldDate)
-                .build();
-
-        UpdateTransactionBaseRequestDto request = new UpdateTransactionBaseRequestDto(
-                null, "Updated Category", null, null
-        );
-
-        // When
-        expenseMapper.updateExpenseFromRequest(request, expense);
-
-        // Then
-        assertThat(expense.getAmount()).isEqualTo(BigDecimal.valueOf(5000.21));
-        assertThat(expense.getCategory()).isEqualTo("Updated Category");
-        assertThat(expense.getDescription()).isEqualTo("Original Description");
-        assertThat(expense.getCreateDate()).isEqualTo(oldDate);
-    }
-
-    @Test
-    @DisplayName("Should update expense with zero/empty values")
-    void shouldUpdateExpenseWithZeroEmptyValues() {
-        // Given
-        ExpenseEntity expense = ExpenseEntity.builder()
-                .amount(BigDecimal.valueOf(5000.21))
-                .category("Original Category")
-                .description("Original Description")
-                .createDate(oldDate)
-                .build();
-
-        UpdateTransactionBaseRequestDto request = new UpdateTransactionBaseRequestDto(
-                BigDecimal.ZERO, "", currentDate, ""
-        );
-
-        // When
-        expenseMapper.updateExpenseFromRequest(request, expense);
-
-        // Then
-        assertThat(expense.getAmount()).isEqualTo(BigDecimal.ZERO);
-        assertThat(expense.getCategory()).isEqualTo("");
-        assertThat(expense.getDescription()).isEqualTo("");
-        assertThat(expense.getCreateDate()).isEqualTo(currentDate);
-    }
-
     @Test
     @DisplayName("Should convert expense to response")
     void shouldConvertExpenseToResponse() {
@@ -198,4 +124,29 @@ class ExpenseMapperUnitTest {
         assertThat(result.description()).isNull();
         assertThat(result.createDate()).isEqualTo(currentDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should convert updated row to response with UTC create date")
+    void shouldConvertTransactionChangeToResponse() {
+        // Given
+        Instant createDate = Instant.parse("2024-01-15T10:00:00Z");
+        TransactionChange change = projectionFactory.createProjection(TransactionChange.class, Map.of(
+                "id", 1L,
+                "amount", BigDecimal.valueOf(250.5),
+                "category", "New",
+                "createDate", createDate,
+                "oldAmount", BigDecimal.valueOf(100),
+                "oldCategory", "Old",
+                "oldCreateDate", createDate));
+
+        // When
+        TransactionBaseResponseDto result = expenseMapper.toResponse(change);
+
+        // Then
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.amount()).isEqualTo(BigDecimal.valueOf(250.5));
+        assertThat(result.category()).isEqualTo("New");
+        assertThat(result.description()).isNull();
+        assertThat(result.createDate()).isEqualTo(OffsetDateTime.parse("2024-01-15T10:00:00Z"));
+    }
+}
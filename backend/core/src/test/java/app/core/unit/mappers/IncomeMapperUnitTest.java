@@ -4,17 +4,20 @@ import app.core.mappers.IncomeMapper;
 import app.core.model.IncomeEntity;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
-import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +28,8 @@ class IncomeMapperUnitTest {
 
     private IncomeMapper incomeMapper;
 
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     private final OffsetDateTime currentDate = OffsetDateTime.now();
     private final OffsetDateTime oldDate = OffsetDateTime.now().minusDays(1);
 
@@ -73,84 +78,6 @@ class IncomeMapperUnitTest {
         assertThat(result.getUser()).isNull();
     }
 
-    @Test
-    @DisplayName("Should update income from request with all fields")
-    void shouldUpdateIncomeFromRequestWithAllFields() {
-        // Given
-        IncomeEntity income = IncomeEntity.builder()
-                .id(1L)
-                .amount(BigDecimal.valueOf(30000.21))
-                .category("Old Income")
-                .description("Old Description")
-                .createDate(oldDate)
-                .build();
-
-        UpdateTransactionBaseRequestDto request = new UpdateTransactionBaseRequestDto(
-                BigDecimal.valueOf(50000.21), "New Income", currentDate, "New Description"
-        );
-
-        // When
-        incomeMapper.updateIncomeFromRequest(request, income);
-
-        // Then
-        assertThat(income.getId()).isEqualTo(1L);
-        assertThat(income.getAmount()).isEqualTo(BigDecimal.valueOf(50000.21));
-        assertThat(income.getCategory()).isEqualTo("New Income");
-        assertThat(income.getDescription()).isEqualTo("New Description");
-        assertThat(income.getCreateDate()).isEqualTo(currentDate);
-        assertThat(income.getUser()).isNull();
-    }
-
-    @Test
-    @DisplayName("Should partially update income (ignore null values)")
-    void shouldPartiallyUpdateIncomeIgnoreNullValues() {
-        // Given
-        IncomeEntity income = IncomeEntity.builder()
-                .amount(BigDecimal.valueOf(30000.21))
-                .category("Original Income")
-                .description("Original Description")
-                .createDate(oldDate)
-                .build();
-
-        UpdateTransactionBaseRequestDto request = new UpdateTransactionBaseRequestDto(
-                null, "Updated Income", null, null
-        );
-
-        // When
-        incomeMapper.updateIncomeFromRequest(request, income);
-
-        // Then
-        assertThat(income.getAmount()).isEqualTo(BigDecimal.valueOf(30000.21));
-        assertThat(income.getCategory()).isEqualTo("Updated Income");
-        assertThat(income.getDescription()).isEqualTo("Original Description");
-        assertThat(income.getCreateDate()).isEqualTo(oldDate);
-    }
-
-    @Test
-    @DisplayName("Should update income with zero/empty values")
-    void shouldUpdateIncomeWithZeroEmptyValues() {
-        // Given
-        IncomeEntity income = IncomeEntity.builder()
-                .amount(BigDecimal.valueOf(30000.21))
-                .category("Original Income")
-                .description("Original Description")
-                .createDate(oldDate)
-                .build();
-
-        UpdateTransactionBaseRequestDto request = new UpdateTransactionBaseRequestDto(
-                BigDecimal.ZERO, "", currentDate, ""
-        );
-
-        // When
-        incomeMapper.updateIncomeFromRequest(request, income);
-
-        // Then
-        assertThat(income.getAmount()).isEqualTo(BigDecimal.ZERO);
-        assertThat(income.getCategory()).isEqualTo("");
-        assertThat(income.getDescription()).isEqualTo("");
-        assertThat(income.getCreateDate()).isEqualTo(currentDate);
-    }
-
     @Test
     @DisplayName("Should convert income to response")
     void shouldConvertIncomeToResponse() {
@@ -196,4 +123,29 @@ class IncomeMapperUnitTest {
         assertThat(result.description()).isNull();
         assertThat(result.createDate()).isEqualTo(currentDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should convert updated row to response with UTC create date")
+    void shouldConvertTransactionChangeToResponse() {
+        // Given
+        Instant createDate = Instant.parse("2024-01-15T10:00:00Z");
+        TransactionChange change = projectionFactory.createProjection(TransactionChange.class, Map.of(
+                "id", 1L,
+                "amount", BigDecimal.valueOf(250.5),
+                "category", "New",
+                "createDate", createDate,
+                "oldAmount", BigDecimal.valueOf(100),
+                "oldCategory", "Old",
+                "oldCreateDate", createDate));
+
+        // When
+        TransactionBaseResponseDto result = incomeMapper.toResponse(change);
+
+        // Then
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.amount()).isEqualTo(BigDecimal.valueOf(250.5));
+        assertThat(result.category()).isEqualTo("New");
+        assertThat(result.description()).isNull();
+        assertThat(result.createDate()).isEqualTo(OffsetDateTime.parse("2024-01-15T10:00:00Z"));
+    }
+}
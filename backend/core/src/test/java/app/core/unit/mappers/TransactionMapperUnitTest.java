@@ -0,0 +1,149 @@
+package app.core.unit.mappers;
+
+import app.core.imports.ImportJob;
+import app.core.mappers.TransactionMapper;
+import app.core.model.dto.TransactionExportItemDto;
+import app.core.model.dto.TransactionHistoryItemDto;
+import app.core.model.dto.TransactionImportJobResponseDto;
+import app.core.model.imports.ImportFormat;
+import app.core.model.imports.ImportJobStatus;
+import app.core.model.projection.TransactionExportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionMapper Unit Tests")
+@ActiveProfiles("unit")
+class TransactionMapperUnitTest {
+
+    private TransactionMapper transactionMapper;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @BeforeEach
+    public void init() {
+        transactionMapper = Mappers.getMapper(TransactionMapper.class);
+    }
+
+    @Test
+    @DisplayName("Should map export row to item with UTC create date")
+    void shouldMapExportRowToItem() {
+        // Given
+        Instant createDate = Instant.parse("2024-01-15T10:30:00Z");
+        TransactionExportRow row = projectionFactory.createProjection(TransactionExportRow.class, Map.of(
+                "kind", "INCOME",
+                "id", 7L,
+                "amount", BigDecimal.valueOf(50000.21),
+                "category", "Salary",
+                "createDate", createDate,
+                "description", "Monthly salary"
+        ));
+
+        // When
+        TransactionExportItemDto result = transactionMapper.toExportItem(row);
+
+        // Then
+        assertThat(result.kind()).isEqualTo("INCOME");
+        assertThat(result.id()).isEqualTo(7L);
+        assertThat(result.amount()).isEqualTo(BigDecimal.valueOf(50000.21));
+        assertThat(result.category()).isEqualTo("Salary");
+        assertThat(result.createDate()).isEqualTo(OffsetDateTime.of(2024, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC));
+        assertThat(result.description()).isEqualTo("Monthly salary");
+    }
+
+    @Test
+    @DisplayName("Should keep missing description and create date as null")
+    void shouldKeepMissingFieldsAsNull() {
+        // Given
+        Map<String, Object> values = new HashMap<>();
+        values.put("kind", "EXPENSE");
+        values.put("id", 1L);
+        values.put("amount", BigDecimal.TEN);
+        values.put("category", "Food");
+        values.put("createDate", null);
+        values.put("description", null);
+        TransactionExportRow row = projectionFactory.createProjection(TransactionExportRow.class, values);
+
+        // When
+        TransactionExportItemDto result = transactionMapper.toExportItem(row);
+
+        // Then
+        assertThat(result.createDate()).isNull();
+        assertThat(result.description()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map history rows to items keeping order and kind")
+    void shouldMapHistoryRowsToItems() {
+        // Given
+        TransactionExportRow expense = projectionFactory.createProjection(TransactionExportRow.class, Map.of(
+                "kind", "EXPENSE",
+                "id", 3L,
+                "amount", BigDecimal.TEN,
+                "category", "Food",
+                "createDate", Instant.parse("2024-01-15T12:00:00Z"),
+                "description", "Lunch"
+        ));
+        TransactionExportRow income = projectionFactory.createProjection(TransactionExportRow.class, Map.of(
+                "kind", "INCOME",
+                "id", 3L,
+                "amount", BigDecimal.valueOf(1000),
+                "category", "Salary",
+                "createDate", Instant.parse("2024-01-15T10:30:00Z"),
+                "description", "Monthly salary"
+        ));
+
+        // When
+        List<TransactionHistoryItemDto> result = transactionMapper.toHistoryItems(List.of(expense, income));
+
+        // Then
+        assertThat(result).extracting(TransactionHistoryItemDto::kind).containsExactly("EXPENSE", "INCOME");
+        assertThat(result.get(1).id()).isEqualTo(3L);
+        assertThat(result.get(1).amount()).isEqualTo(BigDecimal.valueOf(1000));
+        assertThat(result.get(1).category()).isEqualTo("Salary");
+        assertThat(result.get(1).createDate()).isEqualTo(OffsetDateTime.of(2024, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC));
+        assertThat(result.get(1).description()).isEqualTo("Monthly salary");
+    }
+
+    @Test
+    @DisplayName("Should map import job progress with errors ordered by line")
+    void shouldMapImportJobProgress() {
+        // Given
+        ImportJob job = new ImportJob("job-1", 1L, ImportFormat.OFX, Instant.parse("2024-01-15T10:30:00Z"));
+        job.start();
+        job.addImported(42);
+        job.reject(17, Map.of("amount", "must be a number"));
+        job.reject(5, Map.of("createDate", "must be an OFX date"));
+        job.complete(Instant.parse("2024-01-15T10:31:00Z"));
+
+        // When
+        TransactionImportJobResponseDto result = transactionMapper.toImportJobResponse(job);
+
+        // Then
+        assertThat(result.jobId()).isEqualTo("job-1");
+        assertThat(result.status()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(result.format()).isEqualTo("ofx");
+        assertThat(result.imported()).isEqualTo(42);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.createdAt()).isEqualTo(OffsetDateTime.of(2024, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC));
+        assertThat(result.finishedAt()).isEqualTo(OffsetDateTime.of(2024, 1, 15, 10, 31, 0, 0, ZoneOffset.UTC));
+        assertThat(result.errors()).extracting(error -> error.line()).containsExactly(5L, 17L);
+        assertThat(result.errors().get(0).errors()).containsEntry("createDate", "must be an OFX date");
+    }
+}
@@ -0,0 +1,72 @@
+package app.core.unit.metrics;
+
+import app.core.api.AuthService;
+import app.core.metrics.ServiceMetricsAspect;
+import app.core.model.dto.AuthRequestDto;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ServiceMetricsAspect Unit Tests")
+@ActiveProfiles("unit")
+class ServiceMetricsAspectUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuthService authService;
+
+    @BeforeEach
+    void init() {
+        AuthService target = (authRequest, request, response) -> {
+            if ("intruder".equals(authRequest.username())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return null;
+        };
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        authService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time successful call tagged with service interface and operation")
+    void shouldTimeSuccessfulCall() {
+        // When
+        authService.authenticate(request("alex"), null, null);
+        authService.authenticate(request("alex"), null, null);
+
+        // Then
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.METRIC)
+                .tag("service", "AuthService")
+                .tag("operation", "authenticate")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should time failed call with exception tag and rethrow it")
+    void shouldTimeFailedCall() {
+        // When & Then
+        assertThatThrownBy(() -> authService.authenticate(request("intruder"), null, null))
+                .isInstanceOf(BadCredentialsException.class);
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.METRIC)
+                .tag("outcome", "error")
+                .tag("exception", "BadCredentialsException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    private static AuthRequestDto request(String username) {
+        return AuthRequestDto.builder().username(username).password("password123").build();
+    }
+}
@@ -0,0 +1,68 @@
+package app.core.unit.metrics;
+
+import app.core.metrics.RequestSqlStatistics;
+import app.core.metrics.SqlStatementBudgetFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementBudgetFilter Unit Tests")
+@ActiveProfiles("unit")
+class SqlStatementBudgetFilterUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(meterRegistry, 2, Duration.ofMillis(500));
+
+    @Test
+    @DisplayName("Should record statements and DB time tagged with matched path pattern")
+    void shouldRecordStatementsPerEndpoint() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/expenses/42");
+        FilterChain chain = (req, res) -> {
+            RequestSqlStatistics.current().record(TimeUnit.MILLISECONDS.toNanos(3));
+            RequestSqlStatistics.current().record(TimeUnit.MILLISECONDS.toNanos(4));
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/expenses/{id}");
+        };
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        DistributionSummary statements = meterRegistry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tag("method", "GET")
+                .tag("uri", "/api/expenses/{id}")
+                .summary();
+        Timer dbTime = meterRegistry.get(SqlStatementBudgetFilter.DB_TIME_METRIC)
+                .tag("uri", "/api/expenses/{id}")
+                .timer();
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(dbTime.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(7);
+        RequestSqlStatistics statistics = (RequestSqlStatistics) request.getAttribute(RequestSqlStatistics.ATTRIBUTE);
+        assertThat(statistics.statements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should detach statistics from thread after request")
+    void shouldDetachStatisticsAfterRequest() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // Then
+        assertThat(RequestSqlStatistics.current()).isNull();
+        assertThat(meterRegistry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC).tag("uri", "UNKNOWN").summary().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,135 @@
+package app.core.unit.security;
+
+import app.core.config.PasswordEncoderConfig;
+import app.core.errorhandling.exceptions.PasswordHashingBusyException;
+import app.core.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Unit Tests")
+@ActiveProfiles("unit")
+class BoundedPasswordEncoderUnitTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void shutdown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should match legacy unprefixed hash and request its upgrade only for lower cost")
+    void shouldMatchAndUpgradeLegacyHash() {
+        // Given
+        passwordEncoder = encoder(5);
+        String cheaperLegacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        String currentLegacyHash = new BCryptPasswordEncoder(5).encode("password123");
+
+        // When & Then
+        assertThat(passwordEncoder.matches("password123", cheaperLegacyHash)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", cheaperLegacyHash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(cheaperLegacyHash)).isTrue();
+        assertThat(passwordEncoder.matches("password123", currentLegacyHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(currentLegacyHash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should request upgrade only for hashes with lower cost")
+    void shouldUpgradeOnlyLowerCostHashes() {
+        // Given
+        passwordEncoder = encoder(5);
+        String currentHash = passwordEncoder.encode("password123");
+        String cheaperHash = encoder(4).encode("password123");
+
+        // When & Then
+        assertThat(currentHash).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches("password123", currentHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(currentHash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(cheaperHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject hashing when pool and queue are busy")
+    void shouldRejectWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 0);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> passwordEncoder.encode("second"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .hasMessage("Password hashing queue is full, try again later")
+                .extracting("retryAfter").isEqualTo(Duration.ofSeconds(1));
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("Should time hashing by operation and expose pool queue once bound to registry")
+    void shouldRecordHashingMetrics() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = encoder(4);
+        passwordEncoder.bindTo(meterRegistry);
+
+        // When
+        String hash = passwordEncoder.encode("password123");
+        passwordEncoder.matches("password123", hash);
+        passwordEncoder.matches("wrong", hash);
+
+        // Then
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.METRIC).tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.METRIC).tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value()).isZero();
+    }
+
+    private static BoundedPasswordEncoder encoder(int strength) {
+        return new PasswordEncoderConfig().passwordEncoder(strength, 1, 1);
+    }
+
+    /**
+     * Держит поток пула до {@code release}
+     */
+    private static final class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package app.core.unit.security;
+
+import app.core.security.ratelimit.InMemoryRateLimitStore;
+import app.core.security.ratelimit.RateLimit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryRateLimitStore Unit Tests")
+@ActiveProfiles("unit")
+class InMemoryRateLimitStoreUnitTest {
+
+    private static final RateLimit LIMIT = new RateLimit(3, Duration.ofSeconds(10));
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(1000, LIMIT.fullRefill(), nanos::get);
+
+    @Test
+    @DisplayName("Should allow a burst of capacity and report wait until next token")
+    void shouldAllowBurstThenReject() {
+        // When & Then
+        assertThat(store.tryConsume("username:alex", LIMIT)).isZero();
+        assertThat(store.tryConsume("username:alex", LIMIT)).isZero();
+        assertThat(store.tryConsume("username:alex", LIMIT)).isZero();
+        assertThat(store.tryConsume("username:alex", LIMIT)).isEqualTo(Duration.ofSeconds(10).toNanos());
+        assertThat(store.tryConsume("username:bob", LIMIT)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refill one token per refill period up to capacity")
+    void shouldRefillOverTime() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("address:10.0.0.1", LIMIT);
+        }
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        long waitAfterFourSeconds = store.tryConsume("address:10.0.0.1", LIMIT);
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        long waitAfterTenSeconds = store.tryConsume("address:10.0.0.1", LIMIT);
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+        int burstAfterIdle = 0;
+        while (store.tryConsume("address:10.0.0.1", LIMIT) == 0) {
+            burstAfterIdle++;
+        }
+
+        // Then
+        assertThat(waitAfterFourSeconds).isEqualTo(Duration.ofSeconds(6).toNanos());
+        assertThat(waitAfterTenSeconds).isZero();
+        assertThat(burstAfterIdle).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens to concurrent callers")
+    void shouldNotOverspendUnderContention() throws InterruptedException {
+        // Given
+        RateLimit limit = new RateLimit(100, Duration.ofHours(1));
+        InMemoryRateLimitStore sharedStore = new InMemoryRateLimitStore(1000, limit.fullRefill());
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (sharedStore.tryConsume("username:alex", limit) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+
+        // Then
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(granted).hasValue(100);
+    }
+}
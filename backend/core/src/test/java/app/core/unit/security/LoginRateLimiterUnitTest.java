@@ -0,0 +1,85 @@
+package app.core.unit.security;
+
+import app.core.errorhandling.exceptions.RateLimitExceededException;
+import app.core.security.ratelimit.LoginRateLimiter;
+import app.core.security.ratelimit.RateLimit;
+import app.core.security.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginRateLimiter Unit Tests")
+@ActiveProfiles("unit")
+class LoginRateLimiterUnitTest {
+
+    @Mock
+    private RateLimitStore rateLimitStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void init() {
+        loginRateLimiter = new LoginRateLimiter(rateLimitStore, meterRegistry, true,
+                10, Duration.ofSeconds(30), 30, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should consume address and case-insensitive username buckets")
+    void shouldConsumeBothBuckets() {
+        // Given
+        when(rateLimitStore.tryConsume(any(), any())).thenReturn(0L);
+
+        // When
+        loginRateLimiter.acquire("login", "Alex", "10.0.0.1");
+
+        // Then
+        verify(rateLimitStore).tryConsume("address:10.0.0.1", new RateLimit(30, Duration.ofSeconds(2)));
+        verify(rateLimitStore).tryConsume("username:alex", new RateLimit(10, Duration.ofSeconds(30)));
+        assertThat(meterRegistry.find(LoginRateLimiter.REJECTED_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject with retry delay, count rejection and skip username bucket when address is limited")
+    void shouldRejectWhenAddressLimited() {
+        // Given
+        when(rateLimitStore.tryConsume(eq("address:10.0.0.1"), any())).thenReturn(Duration.ofMillis(1500).toNanos());
+
+        // When & Then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("signup", "alex", "10.0.0.1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofMillis(1500)));
+        verify(rateLimitStore, never()).tryConsume(eq("username:alex"), any());
+        assertThat(meterRegistry.get(LoginRateLimiter.REJECTED_METRIC)
+                .tags("endpoint", "signup", "key", "address").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not touch the store when disabled")
+    void shouldSkipWhenDisabled() {
+        // Given
+        LoginRateLimiter disabled = new LoginRateLimiter(rateLimitStore, meterRegistry, false,
+                10, Duration.ofSeconds(30), 30, Duration.ofSeconds(2));
+
+        // When
+        disabled.acquire("login", "alex", "10.0.0.1");
+
+        // Then
+        verifyNoInteractions(rateLimitStore);
+    }
+}
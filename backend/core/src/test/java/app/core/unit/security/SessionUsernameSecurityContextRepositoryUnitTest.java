@@ -0,0 +1,134 @@
+package app.core.unit.security;
+
+import app.core.model.UserEntity;
+import app.core.security.SessionUsernameSecurityContextRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionUsernameSecurityContextRepository Unit Tests")
+@ActiveProfiles("unit")
+class SessionUsernameSecurityContextRepositoryUnitTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SessionUsernameSecurityContextRepository repository;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @BeforeEach
+    void init() {
+        repository = new SessionUsernameSecurityContextRepository(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should store only username of authenticated user in session")
+    void shouldStoreOnlyUsernameInSession() {
+        // Given
+        SecurityContext context = new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(testUser, null, testUser.getAuthorities()));
+
+        // When
+        repository.saveContext(context, request, response);
+
+        // Then
+        assertThat(request.getSession(false)).isNotNull();
+        assertThat(Collections.list(request.getSession().getAttributeNames()))
+                .containsExactly(SessionUsernameSecurityContextRepository.USERNAME_ATTRIBUTE);
+        assertThat(request.getSession().getAttribute(SessionUsernameSecurityContextRepository.USERNAME_ATTRIBUTE))
+                .isEqualTo("testuser");
+        assertThat(repository.containsContext(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rebuild authentication from user loaded by username")
+    void shouldRebuildAuthenticationFromUsername() {
+        // Given
+        request.getSession().setAttribute(SessionUsernameSecurityContextRepository.USERNAME_ATTRIBUTE, "testuser");
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUser);
+
+        // When
+        DeferredSecurityContext context = repository.loadDeferredContext(request);
+
+        // Then
+        verifyNoInteractions(userDetailsService);
+        assertThat(context.get().getAuthentication().isAuthenticated()).isTrue();
+        assertThat(context.get().getAuthentication().getPrincipal()).isSameAs(testUser);
+        assertThat(context.isGenerated()).isFalse();
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("Should return empty context and forget username of deleted user")
+    void shouldReturnEmptyContextForDeletedUser() {
+        // Given
+        request.getSession().setAttribute(SessionUsernameSecurityContextRepository.USERNAME_ATTRIBUTE, "testuser");
+        when(userDetailsService.loadUserByUsername("testuser")).thenThrow(UsernameNotFoundException.class);
+
+        // When
+        DeferredSecurityContext context = repository.loadDeferredContext(request);
+
+        // Then
+        assertThat(context.get().getAuthentication()).isNull();
+        assertThat(context.isGenerated()).isTrue();
+        assertThat(repository.containsContext(request)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return empty context without creating session")
+    void shouldReturnEmptyContextWithoutSession() {
+        // When
+        DeferredSecurityContext context = repository.loadDeferredContext(request);
+
+        // Then
+        assertThat(context.get().getAuthentication()).isNull();
+        assertThat(context.isGenerated()).isTrue();
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should remove username when anonymous context is saved")
+    void shouldRemoveUsernameForAnonymousContext() {
+        // Given
+        request.getSession().setAttribute(SessionUsernameSecurityContextRepository.USERNAME_ATTRIBUTE, "testuser");
+        SecurityContext context = new SecurityContextImpl(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        // When
+        repository.saveContext(context, request, response);
+
+        // Then
+        assertThat(repository.containsContext(request)).isFalse();
+    }
+}
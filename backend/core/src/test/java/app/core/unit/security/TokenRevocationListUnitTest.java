@@ -0,0 +1,131 @@
+package app.core.unit.security;
+
+import app.core.model.TokenRevocationEntity;
+import app.core.repository.TokenRevocationRepository;
+import app.core.security.AccessTokenAuthenticationConverter;
+import app.core.security.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationList Unit Tests")
+@ActiveProfiles("unit")
+class TokenRevocationListUnitTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void init() {
+        tokenRevocationList = new TokenRevocationList(tokenRevocationRepository, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued before revocation and accept later ones")
+    void shouldRevokeTokensIssuedBeforeRevocation() {
+        // When
+        tokenRevocationList.revoke(1L);
+
+        // Then
+        verify(tokenRevocationRepository).upsert(eq(1L), any(Instant.class));
+        assertThat(tokenRevocationList.isRevoked(1L, Instant.now().minusSeconds(2))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(1L, Instant.now().plusSeconds(1))).isFalse();
+        assertThat(tokenRevocationList.isRevoked(2L, Instant.now().minusSeconds(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should apply revocation in memory only after the transaction commits")
+    void shouldRevokeInMemoryAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenRevocationList.revoke(1L);
+            tokenRevocationList.revoke(2L);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(tokenRevocationList.isRevoked(1L, Instant.now().minusSeconds(2))).isFalse();
+
+            // When
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            assertThat(tokenRevocationList.isRevoked(1L, Instant.now().minusSeconds(2))).isTrue();
+            assertThat(tokenRevocationList.isRevoked(2L, Instant.now().minusSeconds(2))).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued in the same second as revocation")
+    void shouldRevokeTokensIssuedInSameSecond() {
+        // Given
+        Instant second = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        when(tokenRevocationRepository.findAllByRevokedAtAfter(any(Instant.class)))
+                .thenReturn(List.of(new TokenRevocationEntity(1L, second.plusMillis(700))));
+
+        // When
+        tokenRevocationList.sync();
+
+        // Then
+        assertThat(tokenRevocationList.isRevoked(1L, second)).isTrue();
+        assertThat(tokenRevocationList.isRevoked(1L, second.plusMillis(900))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(1L, second.plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail validation of revoked access token")
+    void shouldFailValidationOfRevokedToken() {
+        // Given
+        tokenRevocationList.revoke(1L);
+
+        // When & Then
+        assertThat(tokenRevocationList.validate(accessToken(1L, Instant.now().minusSeconds(2))).hasErrors()).isTrue();
+        assertThat(tokenRevocationList.validate(accessToken(2L, Instant.now().minusSeconds(2))).hasErrors()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pick up revocations made by other instances")
+    void shouldSyncRevocationsFromDatabase() {
+        // Given
+        when(tokenRevocationRepository.findAllByRevokedAtAfter(any(Instant.class)))
+                .thenReturn(List.of(new TokenRevocationEntity(3L, Instant.now())));
+
+        // When
+        tokenRevocationList.sync();
+
+        // Then
+        verify(tokenRevocationRepository).deleteAllRevokedBefore(any(Instant.class));
+        assertThat(tokenRevocationList.isRevoked(3L, Instant.now().minusSeconds(2))).isTrue();
+    }
+
+    private Jwt accessToken(Long userId, Instant issuedAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("testuser")
+                .claim(AccessTokenAuthenticationConverter.USER_ID_CLAIM, userId)
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(Duration.ofMinutes(5)))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package app.core.unit.security;
+
+import app.core.config.PasswordEncoderConfig;
+import app.core.imports.ImportJob;
+import app.core.model.imports.ImportFormat;
+import app.core.security.BoundedPasswordEncoder;
+import app.core.security.ratelimit.InMemoryRateLimitStore;
+import app.core.security.ratelimit.RateLimit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Пути с блокировками, по которым идут запросы при {@code spring.threads.virtual.enabled=true}, не должны
+ * парковать виртуальный поток внутри {@code synchronized}: на Java 21 он при этом держит поток-носитель.
+ * Закрепления ловятся событием JFR {@code jdk.VirtualThreadPinned} с нулевым порогом.
+ * <p>
+ * Модуль собирается под Java 17, поэтому виртуальные потоки создаются через reflection. Тест выполняется на 21-23:
+ * начиная с 24 {@code synchronized} носитель не закрепляет (JEP 491)
+ */
+@DisplayName("Virtual thread pinning Unit Tests")
+@ActiveProfiles("unit")
+@EnabledForJreRange(min = JRE.JAVA_21, max = JRE.JAVA_23)
+class VirtualThreadPinningUnitTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @TempDir
+    private Path recordingDir;
+
+    @Test
+    @DisplayName("Should detect a virtual thread sleeping inside synchronized")
+    void shouldDetectPinningInSynchronizedBlock() throws Exception {
+        // Given
+        Object monitor = new Object();
+
+        // When
+        List<RecordedEvent> pinned = recordPinnedEvents(() -> {
+            synchronized (monitor) {
+                Thread.sleep(5);
+            }
+            return null;
+        });
+
+        // Then
+        assertThat(pinned).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not pin carriers while hashing passwords, consuming rate limits and updating import progress")
+    void shouldNotPinCarriersOnRequestPaths() throws Exception {
+        // Given
+        BoundedPasswordEncoder passwordEncoder = new PasswordEncoderConfig().passwordEncoder(4, 2, 1000);
+        String hash = new BCryptPasswordEncoder(4).encode("password123");
+        RateLimit limit = new RateLimit(10, Duration.ofSeconds(1));
+        InMemoryRateLimitStore rateLimitStore = new InMemoryRateLimitStore(1000, limit.fullRefill());
+        ImportJob importJob = new ImportJob("job-1", 1L, ImportFormat.CSV, Instant.now());
+
+        // When
+        List<RecordedEvent> pinned;
+        try {
+            pinned = recordPinnedEvents(() -> {
+                rateLimitStore.tryConsume("username:alex", limit);
+                importJob.reject(1, Map.of("amount", "must be a number"));
+                importJob.getErrors();
+                return passwordEncoder.matches("password123", hash);
+            });
+        } finally {
+            passwordEncoder.shutdown();
+        }
+
+        // Then
+        assertThat(pinned).isEmpty();
+    }
+
+    /**
+     * Выполняет {@code task} в 50 виртуальных потоках под записью JFR
+     *
+     * @return события закрепления виртуальных потоков
+     */
+    private List<RecordedEvent> recordPinnedEvents(Callable<?> task) throws Exception {
+        Path dump = recordingDir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    futures.add(executor.submit(task));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                .toList();
+    }
+}
@@ -0,0 +1,213 @@
+package app.core.unit.service;
+
+import app.core.mappers.AnalyticsMapper;
+import app.core.model.UserEntity;
+import app.core.model.dto.AnalyticsSummaryResponseDto;
+import app.core.model.dto.BucketAmountDto;
+import app.core.model.dto.CategoryAmountDto;
+import app.core.model.projection.BucketAmount;
+import app.core.model.projection.CategoryAmount;
+import app.core.repository.DailyRollupRepository;
+import app.core.repository.ExpenseRepository;
+import app.core.repository.IncomeRepository;
+import app.core.security.SecurityProvider;
+import app.core.service.AnalyticsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsServiceImpl Unit Tests")
+@ActiveProfiles("unit")
+class AnalyticsServiceImplUnitTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private IncomeRepository incomeRepository;
+
+    @Mock
+    private DailyRollupRepository dailyRollupRepository;
+
+    @Spy
+    private AnalyticsMapper analyticsMapper = Mappers.getMapper(AnalyticsMapper.class);
+
+    @Mock
+    private SecurityProvider securityProvider;
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @Test
+    @DisplayName("Should build summary with totals, categories and series from aggregates")
+    void shouldBuildSummaryFromAggregates() {
+        // Given
+        LocalDate day = LocalDate.of(2024, 1, 15);
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(expenseRepository.sumByCategory(eq(1L), any(), any())).thenReturn(List.of(
+                categoryAmount("Продукты", BigDecimal.valueOf(1500.50), 3L),
+                categoryAmount("Транспорт", BigDecimal.valueOf(499.50), 2L)
+        ));
+        when(expenseRepository.sumByBucket(eq(1L), any(), any(), eq("day"), eq("Europe/Moscow")))
+                .thenReturn(List.of(bucketAmount(day, BigDecimal.valueOf(2000))));
+        when(incomeRepository.sumByCategory(eq(1L), any(), any())).thenReturn(List.of());
+        when(incomeRepository.sumByBucket(eq(1L), any(), any(), eq("day"), eq("Europe/Moscow"))).thenReturn(List.of());
+
+        // When
+        AnalyticsSummaryResponseDto result = analyticsService.getSummary("month", "Europe/Moscow");
+
+        // Then
+        assertThat(result.period()).isEqualTo("month");
+        assertThat(result.unit()).isEqualTo("day");
+        assertThat(result.expenses().total()).isEqualByComparingTo("2000.00");
+        assertThat(result.expenses().byCategory()).containsExactly(
+                new CategoryAmountDto("Продукты", BigDecimal.valueOf(1500.50), 3L),
+                new CategoryAmountDto("Транспорт", BigDecimal.valueOf(499.50), 2L)
+        );
+        assertThat(result.expenses().series()).containsExactly(new BucketAmountDto(day, BigDecimal.valueOf(2000)));
+        assertThat(result.incomes().total()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.incomes().byCategory()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"week, day, 7", "month, day, 30"})
+    @DisplayName("Should span daily periods from the start of the day N days ago to the end of today in the requested zone")
+    void shouldStartDailyPeriodsAtStartOfDay(String period, String unit, int days) {
+        // Given
+        ZoneId zone = ZoneId.of("Asia/Yekaterinburg");
+        OffsetDateTime expectedFrom = LocalDate.now(zone).minusDays(days).atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime expectedTo = LocalDate.now(zone).plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When
+        AnalyticsSummaryResponseDto result = analyticsService.getSummary(period, zone.getId());
+
+        // Then
+        assertThat(result.unit()).isEqualTo(unit);
+        assertThat(result.from()).isEqualTo(expectedFrom);
+        assertThat(result.to()).isEqualTo(expectedTo);
+        verify(expenseRepository).sumByCategory(1L, expectedFrom, expectedTo);
+        verify(incomeRepository).sumByBucket(1L, expectedFrom, expectedTo, unit, zone.getId());
+    }
+
+    @Test
+    @DisplayName("Should span yearly period from the first day of the month 11 months ago to the end of this month")
+    void shouldStartYearlyPeriodAtFirstDayOfMonth() {
+        // Given
+        ZoneId zone = ZoneId.of("UTC");
+        LocalDate firstDayOfMonth = LocalDate.now(zone).withDayOfMonth(1);
+        OffsetDateTime expectedFrom = firstDayOfMonth.minusMonths(11).atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime expectedTo = firstDayOfMonth.plusMonths(1).atStartOfDay(zone).toOffsetDateTime();
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When
+        AnalyticsSummaryResponseDto result = analyticsService.getSummary("YEAR", "UTC");
+
+        // Then
+        assertThat(result.period()).isEqualTo("year");
+        assertThat(result.unit()).isEqualTo("month");
+        assertThat(result.from()).isEqualTo(expectedFrom);
+        assertThat(result.to()).isEqualTo(expectedTo);
+        verify(dailyRollupRepository).sumByBucket(1L, "EXPENSE", expectedFrom.toLocalDate(), expectedTo.toLocalDate(), "month");
+    }
+
+    @Test
+    @DisplayName("Should read UTC summary from daily rollups instead of transactions")
+    void shouldReadUtcSummaryFromDailyRollups() {
+        // Given
+        LocalDate fromDay = LocalDate.now(ZoneOffset.UTC).minusDays(7);
+        LocalDate toDay = LocalDate.now(ZoneOffset.UTC).plusDays(1);
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(dailyRollupRepository.sumByCategory(1L, "EXPENSE", fromDay, toDay)).thenReturn(List.of());
+        when(dailyRollupRepository.sumByCategory(1L, "INCOME", fromDay, toDay)).thenReturn(List.of(
+                categoryAmount("Зарплата", BigDecimal.valueOf(50000), 1L)
+        ));
+
+        // When
+        AnalyticsSummaryResponseDto result = analyticsService.getSummary("week", "Z");
+
+        // Then
+        assertThat(result.incomes().total()).isEqualByComparingTo("50000");
+        verify(dailyRollupRepository).sumByBucket(1L, "EXPENSE", fromDay, toDay, "day");
+        verify(dailyRollupRepository).sumByBucket(1L, "INCOME", fromDay, toDay, "day");
+        verifyNoInteractions(expenseRepository, incomeRepository);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"decade, UTC", "month, Mars/Olympus_Mons"})
+    @DisplayName("Should throw IllegalArgumentException for unknown period or time zone")
+    void shouldThrowIllegalArgumentExceptionForUnknownPeriodOrZone(String period, String zone) {
+        // When & Then
+        assertThatThrownBy(() -> analyticsService.getSummary(period, zone))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(expenseRepository, incomeRepository, dailyRollupRepository);
+    }
+
+    /* =======================
+       HELPERS
+       ======================= */
+
+    private CategoryAmount categoryAmount(String category, BigDecimal total, Long count) {
+        return new CategoryAmount() {
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private BucketAmount bucketAmount(LocalDate bucket, BigDecimal total) {
+        return new BucketAmount() {
+            @Override
+            public LocalDate getBucket() {
+                return bucket;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return total;
+            }
+        };
+    }
+}
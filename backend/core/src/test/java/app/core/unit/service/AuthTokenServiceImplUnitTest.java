@@ -0,0 +1,212 @@
+package app.core.unit.service;
+
+import app.core.model.RefreshTokenEntity;
+import app.core.model.UserEntity;
+import app.core.model.dto.TokenResponseDto;
+import app.core.repository.RefreshTokenRepository;
+import app.core.repository.UserRepository;
+import app.core.security.AccessTokenAuthenticationConverter;
+import app.core.security.TokenRevocationList;
+import app.core.service.AuthTokenServiceImpl;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthTokenServiceImpl Unit Tests")
+@ActiveProfiles("unit")
+class AuthTokenServiceImplUnitTest {
+
+    private final SecretKey key = new SecretKeySpec(
+            "unit-token-secret-0123456789abcdef".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    private final JwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private AuthTokenServiceImpl authTokenService;
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @BeforeEach
+    void init() {
+        authTokenService = new AuthTokenServiceImpl(new NimbusJwtEncoder(new ImmutableSecret<>(key)),
+                refreshTokenRepository, userRepository, tokenRevocationList, Duration.ofMinutes(5), Duration.ofDays(14));
+    }
+
+    @Test
+    @DisplayName("Should issue signed access token with user id and username claims")
+    void shouldIssueAccessTokenWithClaims() {
+        // When
+        TokenResponseDto result = authTokenService.issue(testUser);
+
+        // Then
+        Jwt jwt = jwtDecoder.decode(result.accessToken());
+        assertThat(jwt.getSubject()).isEqualTo("testuser");
+        assertThat(AccessTokenAuthenticationConverter.userId(jwt)).isEqualTo(1L);
+        assertThat(Duration.between(jwt.getIssuedAt(), jwt.getExpiresAt())).isEqualTo(Duration.ofMinutes(5));
+        assertThat(result.tokenType()).isEqualTo("Bearer");
+        assertThat(result.expiresIn()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Should build principal from access token claims without password")
+    void shouldBuildPrincipalFromClaims() {
+        // Given
+        Jwt jwt = jwtDecoder.decode(authTokenService.issue(testUser).accessToken());
+
+        // When
+        AbstractAuthenticationToken authentication = new AccessTokenAuthenticationConverter().convert(jwt);
+
+        // Then
+        assertThat(authentication.isAuthenticated()).isTrue();
+        UserEntity principal = (UserEntity) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("testuser");
+        assertThat(principal.getPassword()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should store only hash of refresh token")
+    void shouldStoreRefreshTokenHash() {
+        // When
+        TokenResponseDto result = authTokenService.issue(testUser);
+
+        // Then
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshTokenEntity saved = captor.getValue();
+        assertThat(saved.getTokenHash()).hasSize(64).isNotEqualTo(result.refreshToken());
+        assertThat(saved.getUserId()).isEqualTo(1L);
+        assertThat(saved.getExpiresAt()).isAfter(Instant.now().plus(Duration.ofDays(13)));
+        assertThat(saved.getUsedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should exchange refresh token for a new pair")
+    void shouldRotateRefreshToken() {
+        // Given
+        String refreshToken = authTokenService.issue(testUser).refreshToken();
+        RefreshTokenEntity stored = storedToken();
+        when(refreshTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(stored.getTokenHash()), any(Instant.class))).thenReturn(1);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // When
+        TokenResponseDto result = authTokenService.refresh(refreshToken);
+
+        // Then
+        assertThat(result.refreshToken()).isNotEqualTo(refreshToken);
+        assertThat(jwtDecoder.decode(result.accessToken()).getSubject()).isEqualTo("testuser");
+        verify(refreshTokenRepository, times(2)).save(any(RefreshTokenEntity.class));
+        verifyNoInteractions(tokenRevocationList);
+    }
+
+    @Test
+    @DisplayName("Should revoke all user tokens when used refresh token is presented again")
+    void shouldRevokeAllOnRefreshTokenReuse() {
+        // Given
+        String refreshToken = authTokenService.issue(testUser).refreshToken();
+        RefreshTokenEntity stored = storedToken();
+        stored.setUsedAt(Instant.now().minusSeconds(30));
+        when(refreshTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(stored.getTokenHash()), any(Instant.class))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> authTokenService.refresh(refreshToken))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(tokenRevocationList).revoke(1L);
+        verify(refreshTokenRepository).deleteAllByUserId(1L);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject expired refresh token without revoking other tokens")
+    void shouldRejectExpiredRefreshToken() {
+        // Given
+        String refreshToken = authTokenService.issue(testUser).refreshToken();
+        RefreshTokenEntity stored = storedToken();
+        stored.setExpiresAt(Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(stored.getTokenHash()), any(Instant.class))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> authTokenService.refresh(refreshToken))
+                .isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(tokenRevocationList);
+        verify(refreshTokenRepository, never()).deleteAllByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown refresh token")
+    void shouldRejectUnknownRefreshToken() {
+        // Given
+        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> authTokenService.refresh("unknown"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository, never()).markUsed(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should revoke access tokens and delete refresh tokens of user")
+    void shouldRevokeAllTokens() {
+        // When
+        authTokenService.revokeAll(1L);
+
+        // Then
+        verify(tokenRevocationList).revoke(1L);
+        verify(refreshTokenRepository).deleteAllByUserId(1L);
+    }
+
+    /**
+     * @return последний сохраненный refresh-токен
+     */
+    private RefreshTokenEntity storedToken() {
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,182 @@
+package app.core.unit.service;
+
+import app.core.model.ExpenseEntity;
+import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
+import app.core.model.projection.TransactionChange;
+import app.core.repository.DailyRollupRepository;
+import app.core.service.DailyRollupService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyRollupService Unit Tests")
+@ActiveProfiles("unit")
+class DailyRollupServiceUnitTest {
+
+    @Mock
+    private DailyRollupRepository dailyRollupRepository;
+
+    @InjectMocks
+    private DailyRollupService dailyRollupService;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @Test
+    @DisplayName("Should add amount and count to the UTC day of the transaction")
+    void shouldAddAmountAndCountToUtcDay() {
+        // Given
+        ExpenseEntity expense = ExpenseEntity.builder()
+                .amount(BigDecimal.valueOf(1500.21))
+                .category("Продукты")
+                .createDate(OffsetDateTime.parse("2024-01-16T01:30:00+03:00"))
+                .user(testUser)
+                .build();
+
+        // When
+        dailyRollupService.add(TransactionKind.EXPENSE, expense);
+
+        // Then
+        verify(dailyRollupRepository).upsertDelta(1L, "EXPENSE", LocalDate.of(2024, 1, 15), "Продукты",
+                BigDecimal.valueOf(1500.21), 1);
+        verify(dailyRollupRepository, never()).deleteIfEmpty(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should subtract amount and count and drop the row once it is empty")
+    void shouldSubtractAmountAndDropEmptyRow() {
+        // Given
+        Instant createDate = Instant.parse("2024-01-15T10:00:00Z");
+        TransactionChange deleted = change(BigDecimal.valueOf(50000), "Зарплата", createDate,
+                BigDecimal.valueOf(50000), "Зарплата", createDate);
+
+        // When
+        dailyRollupService.subtract(TransactionKind.INCOME, 1L, deleted);
+
+        // Then
+        verify(dailyRollupRepository).upsertDelta(1L, "INCOME", LocalDate.of(2024, 1, 15), "Зарплата",
+                BigDecimal.valueOf(-50000), -1);
+        verify(dailyRollupRepository).deleteIfEmpty(1L, "INCOME", LocalDate.of(2024, 1, 15), "Зарплата");
+    }
+
+    @Test
+    @DisplayName("Should apply only the amount difference when day and category are unchanged")
+    void shouldApplyAmountDifferenceWhenKeyIsUnchanged() {
+        // Given
+        Instant createDate = Instant.parse("2024-01-15T10:00:00Z");
+        TransactionChange change = change(BigDecimal.valueOf(250), "Продукты", createDate.plusSeconds(3600),
+                BigDecimal.valueOf(100), "Продукты", createDate);
+
+        // When
+        dailyRollupService.replace(TransactionKind.EXPENSE, 1L, change);
+
+        // Then
+        verify(dailyRollupRepository).upsertDelta(1L, "EXPENSE", LocalDate.of(2024, 1, 15), "Продукты",
+                BigDecimal.valueOf(150), 0);
+        verifyNoMoreInteractions(dailyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should move the contribution when category or day changes")
+    void shouldMoveContributionWhenKeyChanges() {
+        // Given
+        Instant createDate = Instant.parse("2024-01-15T10:00:00Z");
+        TransactionChange change = change(BigDecimal.valueOf(100), "Переводы", createDate.plusSeconds(86400),
+                BigDecimal.valueOf(100), "Зарплата", createDate);
+
+        // When
+        dailyRollupService.replace(TransactionKind.INCOME, 1L, change);
+
+        // Then
+        verify(dailyRollupRepository).upsertDelta(1L, "INCOME", LocalDate.of(2024, 1, 15), "Зарплата",
+                BigDecimal.valueOf(-100), -1);
+        verify(dailyRollupRepository).deleteIfEmpty(1L, "INCOME", LocalDate.of(2024, 1, 15), "Зарплата");
+        verify(dailyRollupRepository).upsertDelta(1L, "INCOME", LocalDate.of(2024, 1, 16), "Переводы",
+                BigDecimal.valueOf(100), 1);
+    }
+
+    @Test
+    @DisplayName("Should collapse batch deltas into one upsert per day and category")
+    void shouldCollapseBatchDeltasPerDayAndCategory() {
+        // Given
+        OffsetDateTime createDate = OffsetDateTime.parse("2024-01-15T10:00:00Z");
+        List<ExpenseEntity> expenses = List.of(
+                ExpenseEntity.builder().amount(BigDecimal.valueOf(100)).category("Продукты").createDate(createDate).user(testUser).build(),
+                ExpenseEntity.builder().amount(BigDecimal.valueOf(50.5)).category("Продукты").createDate(createDate.plusHours(1)).user(testUser).build(),
+                ExpenseEntity.builder().amount(BigDecimal.valueOf(70)).category("Транспорт").createDate(createDate).user(testUser).build()
+        );
+
+        // When
+        dailyRollupService.addAll(TransactionKind.EXPENSE, expenses);
+
+        // Then
+        verify(dailyRollupRepository).upsertDelta(1L, "EXPENSE", LocalDate.of(2024, 1, 15), "Продукты",
+                BigDecimal.valueOf(150.5), 2);
+        verify(dailyRollupRepository).upsertDelta(1L, "EXPENSE", LocalDate.of(2024, 1, 15), "Транспорт",
+                BigDecimal.valueOf(70), 1);
+        verifyNoMoreInteractions(dailyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should recompute rollups from transactions on rebuild")
+    void shouldRecomputeRollupsOnRebuild() {
+        // Given
+        when(dailyRollupRepository.deleteAllRollups()).thenReturn(3);
+        when(dailyRollupRepository.insertFromTransactions()).thenReturn(2);
+
+        // When
+        dailyRollupService.rebuild();
+
+        // Then
+        var order = inOrder(dailyRollupRepository);
+        order.verify(dailyRollupRepository).deleteAllRollups();
+        order.verify(dailyRollupRepository).insertFromTransactions();
+    }
+
+    @Test
+    @DisplayName("Should report mismatching rollup rows")
+    void shouldReportMismatchingRows() {
+        // Given
+        when(dailyRollupRepository.countMismatches()).thenReturn(4L);
+
+        // When & Then
+        assertThat(dailyRollupService.countMismatches()).isEqualTo(4L);
+    }
+
+    private TransactionChange change(BigDecimal amount, String category, Instant createDate,
+                                     BigDecimal oldAmount, String oldCategory, Instant oldCreateDate) {
+        return projectionFactory.createProjection(TransactionChange.class, Map.of(
+                "id", 1L,
+                "amount", amount,
+                "category", category,
+                "createDate", createDate,
+                "oldAmount", oldAmount,
+                "oldCategory", oldCategory,
+                "oldCreateDate", oldCreateDate));
+    }
+}
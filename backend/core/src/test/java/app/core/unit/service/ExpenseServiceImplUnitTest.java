@@ -1,16 +1,28 @@
 package app.core.unit.service;
 
+import app.core.batch.TransactionBatchValidator;
 import app.core.mappers.ExpenseMapper;
 import app.core.model.ExpenseEntity;
 import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchItemDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
+import app.core.pagination.KeysetPagination;
+import app.core.pagination.TransactionCursor;
 import app.core.repository.ExpenseRepository;
+import app.core.repository.TransactionResponseQueries;
 import app.core.security.SecurityProvider;
+import app.core.service.DailyRollupService;
 import app.core.service.ExpenseServiceImpl;
 import app.core.unit.utils.TestUtils;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -19,14 +31,22 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +54,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +63,21 @@ import static org.mockito.Mockito.*;
 @ActiveProfiles("unit")
 class ExpenseServiceImplUnitTest {
 
+    private static final TransactionFilterDto NO_FILTER = TransactionFilterDto.builder().build();
+
     @Mock
     private ExpenseRepository expenseRepository;
 
+    @Mock
+    private TransactionResponseQueries transactionResponseQueries;
+
+    @Mock
+    private DailyRollupService dailyRollupService;
+
+    @Spy
+    private TransactionBatchValidator transactionBatchValidator =
+            new TransactionBatchValidator(Validation.buildDefaultValidatorFactory().getValidator());
+
     @Mock
     private ExpenseMapper expenseMapper;
 
@@ -105,6 +138,7 @@ class ExpenseServiceImplUnitTest {
         assertThat(result).isEqualTo(expectedResponse);
 
         verify(expenseMapper).createExpenseFromRequest(request);
+        verify(dailyRollupService).add(TransactionKind.EXPENSE, savedEntity);
 
         verify(expenseRepository).save(argThat(entity -> {
             assertThat(entity.getUser()).isEqualTo(testUser);
@@ -188,27 +222,21 @@ class ExpenseServiceImplUnitTest {
     @DisplayName("Should return all user expenses successfully")
     void shouldReturnAllUserExpensesSuccessfully() {
         // Given
-        List<ExpenseEntity> userExpenses = List.of(
-                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю", testUser),
-                createExpenseEntity(2L, BigDecimal.valueOf(2500.21), "Развлечения", "Поход в кино", testUser)
-        );
-
         List<TransactionBaseResponseDto> expectedResponses = List.of(
                 createResponseDto(1L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю"),
                 createResponseDto(2L, BigDecimal.valueOf(2500.21), "Развлечения", "Поход в кино")
         );
 
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(expenseRepository.findAllByUserId(testUser.getId())).thenReturn(userExpenses);
-        when(expenseMapper.toResponse(userExpenses.get(0))).thenReturn(expectedResponses.get(0));
-        when(expenseMapper.toResponse(userExpenses.get(1))).thenReturn(expectedResponses.get(1));
+        when(expenseRepository.findAllResponsesByUserId(testUser.getId())).thenReturn(expectedResponses);
 
         // When
-        List<TransactionBaseResponseDto> result = expenseService.getAllUserExpenses();
+        List<TransactionBaseResponseDto> result = expenseService.getAllUserExpenses(NO_FILTER);
 
         // Then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(expenseRepository).findAllByUserId(testUser.getId());
+        verify(expenseRepository).findAllResponsesByUserId(testUser.getId());
+        verifyNoInteractions(expenseMapper);
     }
 
     @Order(5)
@@ -217,14 +245,14 @@ class ExpenseServiceImplUnitTest {
     void shouldReturnEmptyListWhenUserHasNoExpenses() {
         // Given
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(expenseRepository.findAllByUserId(testUser.getId())).thenReturn(List.of());
+        when(expenseRepository.findAllResponsesByUserId(testUser.getId())).thenReturn(List.of());
 
         // When
-        List<TransactionBaseResponseDto> result = expenseService.getAllUserExpenses();
+        List<TransactionBaseResponseDto> result = expenseService.getAllUserExpenses(NO_FILTER);
 
         // Then
         assertThat(result).isEmpty();
-        verify(expenseRepository).findAllByUserId(testUser.getId());
+        verify(expenseRepository).findAllResponsesByUserId(testUser.getId());
         verifyNoInteractions(expenseMapper);
     }
 
@@ -234,25 +262,22 @@ class ExpenseServiceImplUnitTest {
 
     @Order(6)
     @Test
-    @DisplayName("Should update expense successfully when expense exists and user has access")
+    @DisplayName("Should update expense with a single owner-scoped statement and move its rollup contribution")
     void shouldUpdateExpenseSuccessfully() {
         // Given
         Long expenseId = 1L;
         UpdateTransactionBaseRequestDto updateRequest =
                 createUpdateRequest(BigDecimal.valueOf(3000.21), "Медицина", "Визит к врачу");
 
-        ExpenseEntity existingExpense =
-                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю", testUser);
-
-        ExpenseEntity updatedExpense =
-                createExpenseEntity(1L, BigDecimal.valueOf(3000.21), "Медицина", "Визит к врачу", testUser);
+        TransactionChange updatedExpense = createChange(1L, BigDecimal.valueOf(3000.21), "Медицина", "Визит к врачу",
+                BigDecimal.valueOf(1500.21), "Продукты");
 
         TransactionBaseResponseDto expectedResponse =
                 createResponseDto(1L, BigDecimal.valueOf(3000.21), "Медицина", "Визит к врачу");
 
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(existingExpense));
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(expenseRepository.save(existingExpense)).thenReturn(updatedExpense);
+        when(expenseRepository.updateOwned(expenseId, testUser.getId(), BigDecimal.valueOf(3000.21), "Медицина", null, "Визит к врачу"))
+                .thenReturn(List.of(updatedExpense));
         when(expenseMapper.toResponse(updatedExpense)).thenReturn(expectedResponse);
 
         // When
@@ -260,8 +285,10 @@ class ExpenseServiceImplUnitTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
-        verify(expenseMapper).updateExpenseFromRequest(updateRequest, existingExpense);
+        verify(dailyRollupService).replace(TransactionKind.EXPENSE, testUser.getId(), updatedExpense);
+        verify(expenseRepository).updateOwned(expenseId, testUser.getId(), BigDecimal.valueOf(3000.21), "Медицина", null, "Визит к врачу");
+        verifyNoMoreInteractions(expenseRepository);
+        verify(securityProvider, never()).checkAccess(any(), any());
     }
 
     @Order(7)
@@ -273,27 +300,23 @@ class ExpenseServiceImplUnitTest {
         UpdateTransactionBaseRequestDto partialUpdateRequest =
                 createUpdateRequest(null, "Новая категория", null); // amount и description = null
 
-        ExpenseEntity existingExpense =
-                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю", testUser);
-
-        ExpenseEntity expectedUpdatedExpense =
-                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Новая категория", "Покупка продуктов на неделю", testUser);
+        TransactionChange updatedExpense = createChange(1L, BigDecimal.valueOf(1500.21), "Новая категория", "Покупка продуктов на неделю",
+                BigDecimal.valueOf(1500.21), "Продукты");
 
         TransactionBaseResponseDto expectedResponse =
                 createResponseDto(1L, BigDecimal.valueOf(1500.21), "Новая категория", "Покупка продуктов на неделю");
 
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(existingExpense));
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(expenseRepository.save(existingExpense)).thenReturn(expectedUpdatedExpense);
-        when(expenseMapper.toResponse(expectedUpdatedExpense)).thenReturn(expectedResponse);
+        when(expenseRepository.updateOwned(expenseId, testUser.getId(), null, "Новая категория", null, null))
+                .thenReturn(List.of(updatedExpense));
+        when(expenseMapper.toResponse(updatedExpense)).thenReturn(expectedResponse);
 
         // When
         TransactionBaseResponseDto result = expenseService.update(expenseId, partialUpdateRequest);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
-        verify(expenseMapper).updateExpenseFromRequest(partialUpdateRequest, existingExpense);
+        verify(dailyRollupService).replace(TransactionKind.EXPENSE, testUser.getId(), updatedExpense);
     }
 
     /* =======================
@@ -302,22 +325,23 @@ class ExpenseServiceImplUnitTest {
 
     @Order(8)
     @Test
-    @DisplayName("Should delete expense successfully when expense exists and user has access")
+    @DisplayName("Should delete expense with a single owner-scoped statement and subtract its rollup contribution")
     void shouldDeleteExpenseSuccessfully() {
         // Given
         Long expenseId = 1L;
-        ExpenseEntity existingExpense =
-                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю", testUser);
+        TransactionChange deletedExpense = createChange(1L, null, null, null, BigDecimal.valueOf(1500.21), "Продукты");
 
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(existingExpense));
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(expenseRepository.deleteOwned(expenseId, testUser.getId())).thenReturn(List.of(deletedExpense));
 
         // When
         expenseService.delete(expenseId);
 
         // Then
-        verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
-        verify(expenseRepository).delete(existingExpense);
+        verify(dailyRollupService).subtract(TransactionKind.EXPENSE, testUser.getId(), deletedExpense);
+        verify(expenseRepository).deleteOwned(expenseId, testUser.getId());
+        verifyNoMoreInteractions(expenseRepository);
+        verify(securityProvider, never()).checkAccess(any(), any());
     }
 
     /* =======================
@@ -348,7 +372,7 @@ class ExpenseServiceImplUnitTest {
     void shouldThrowEntityNotFoundExceptionForNonExistentExpense(TestUtils.Operation operation) {
         // Given
         Long expenseId = 1L;
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.empty());
+        stubLookup(operation, expenseId, null);
 
         // When & Then
         assertThatThrownBy(() -> executeOperation(operation, expenseId))
@@ -362,11 +386,7 @@ class ExpenseServiceImplUnitTest {
     void shouldThrowAccessDeniedExceptionWhenAccessingExpenseOfAnotherUser(TestUtils.Operation operation) {
         // Given
         Long expenseId = 1L;
-        ExpenseEntity expenseOfAnotherUser =
-                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю", otherUser);
-
-        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(expenseOfAnotherUser));
-        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        stubLookup(operation, expenseId, otherUser);
         doThrow(AccessDeniedException.class)
                 .when(securityProvider)
                 .checkAccess(otherUser.getId(), testUser.getId());
@@ -376,6 +396,202 @@ class ExpenseServiceImplUnitTest {
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    /* =======================
+       PAGINATION
+       ======================= */
+
+    @Order(12)
+    @Test
+    @DisplayName("Should return first page with next cursor when more expenses exist")
+    void shouldReturnFirstPageWithNextCursor() {
+        // Given
+        TransactionBaseResponseDto first = createResponseDto(2L, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю");
+        TransactionBaseResponseDto second = createResponseDto(1L, BigDecimal.valueOf(2500.21), "Развлечения", "Поход в кино");
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(expenseRepository.findFirstPageByUserId(testUser.getId(), Limit.of(2))).thenReturn(List.of(first, second));
+
+        // When
+        TransactionPageResponseDto result = expenseService.getUserExpensesPage(1, null, NO_FILTER);
+
+        // Then
+        assertThat(result.items()).containsExactly(first);
+        assertThat(result.nextCursor()).isEqualTo(new TransactionCursor(testDate, 2L).encode());
+    }
+
+    @Order(13)
+    @Test
+    @DisplayName("Should return last page without next cursor when cursor is provided")
+    void shouldReturnLastPageWithoutNextCursor() {
+        // Given
+        String after = new TransactionCursor(testDate, 2L).encode();
+        TransactionBaseResponseDto response = createResponseDto(1L, BigDecimal.valueOf(2500.21), "Развлечения", "Поход в кино");
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(expenseRepository.findPageByUserIdAfter(eq(testUser.getId()), argThat(date -> date.isEqual(testDate)), eq(2L), eq(Limit.of(11))))
+                .thenReturn(List.of(response));
+
+        // When
+        TransactionPageResponseDto result = expenseService.getUserExpensesPage(10, after, NO_FILTER);
+
+        // Then
+        assertThat(result.items()).containsExactly(response);
+        assertThat(result.nextCursor()).isNull();
+        verify(expenseRepository, never()).findFirstPageByUserId(any(), any());
+    }
+
+    @Order(14)
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, KeysetPagination.MAX_LIMIT + 1})
+    @DisplayName("Should throw IllegalArgumentException when page limit is out of range")
+    void shouldThrowIllegalArgumentExceptionWhenPageLimitIsOutOfRange(int limit) {
+        // When & Then
+        assertThatThrownBy(() -> expenseService.getUserExpensesPage(limit, null, NO_FILTER))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Order(15)
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when cursor is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsMalformed() {
+        // Given
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When & Then
+        assertThatThrownBy(() -> expenseService.getUserExpensesPage(10, "not-a-cursor", NO_FILTER))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(expenseRepository);
+    }
+
+    /* =======================
+       BATCH
+       ======================= */
+
+    @Order(16)
+    @Test
+    @DisplayName("Should create valid expenses and report invalid ones when batch is not atomic")
+    void shouldCreateValidExpensesAndReportInvalidOnes() {
+        // Given
+        CreateTransactionBaseRequestDto first = createTransactionRequest(BigDecimal.valueOf(1500.21), "Продукты", null);
+        CreateTransactionBaseRequestDto invalid = createTransactionRequest(BigDecimal.valueOf(-1), "Продукты", null);
+        CreateTransactionBaseRequestDto second = createTransactionRequest(BigDecimal.valueOf(300), "Транспорт", null);
+
+        ExpenseEntity firstEntity = createExpenseEntity(null, BigDecimal.valueOf(1500.21), "Продукты", null, null);
+        ExpenseEntity secondEntity = createExpenseEntity(null, BigDecimal.valueOf(300), "Транспорт", null, null);
+        List<ExpenseEntity> savedEntities = List.of(
+                createExpenseEntity(1L, BigDecimal.valueOf(1500.21), "Продукты", null, testUser),
+                createExpenseEntity(2L, BigDecimal.valueOf(300), "Транспорт", null, testUser)
+        );
+        TransactionBaseResponseDto firstResponse = createResponseDto(1L, BigDecimal.valueOf(1500.21), "Продукты", null);
+        TransactionBaseResponseDto secondResponse = createResponseDto(2L, BigDecimal.valueOf(300), "Транспорт", null);
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(expenseMapper.createExpenseFromRequest(first)).thenReturn(firstEntity);
+        when(expenseMapper.createExpenseFromRequest(second)).thenReturn(secondEntity);
+        when(expenseRepository.saveAll(List.of(firstEntity, secondEntity))).thenReturn(savedEntities);
+        when(expenseMapper.toResponse(savedEntities.get(0))).thenReturn(firstResponse);
+        when(expenseMapper.toResponse(savedEntities.get(1))).thenReturn(secondResponse);
+
+        // When
+        TransactionBatchResponseDto result = expenseService.createAll(List.of(first, invalid, second), false);
+
+        // Then
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.items()).extracting(TransactionBatchItemDto::index).containsExactly(0, 1, 2);
+        assertThat(result.items().get(0).item()).isEqualTo(firstResponse);
+        assertThat(result.items().get(1).item()).isNull();
+        assertThat(result.items().get(1).errors()).containsOnlyKeys("amount");
+        assertThat(result.items().get(2).item()).isEqualTo(secondResponse);
+        assertThat(firstEntity.getUser()).isEqualTo(testUser);
+        assertThat(secondEntity.getUser()).isEqualTo(testUser);
+        verify(dailyRollupService).addAll(TransactionKind.EXPENSE, savedEntities);
+    }
+
+    @Order(17)
+    @Test
+    @DisplayName("Should reject whole batch without persisting when atomic batch has invalid items")
+    void shouldRejectAtomicBatchWithInvalidItems() {
+        // Given
+        CreateTransactionBaseRequestDto valid = createTransactionRequest(BigDecimal.valueOf(1500.21), "Продукты", null);
+        CreateTransactionBaseRequestDto invalid = createTransactionRequest(BigDecimal.valueOf(100), null, null);
+
+        // When
+        TransactionBatchResponseDto result = expenseService.createAll(Arrays.asList(valid, invalid, null), true);
+
+        // Then
+        assertThat(result.created()).isZero();
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.items()).extracting(TransactionBatchItemDto::index).containsExactly(1, 2);
+        assertThat(result.items().get(0).errors()).containsOnlyKeys("category");
+        assertThat(result.items().get(1).errors()).containsOnlyKeys("item");
+        verifyNoInteractions(expenseRepository, expenseMapper, dailyRollupService);
+    }
+
+    @Order(18)
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when batch is empty or too large")
+    void shouldThrowIllegalArgumentExceptionWhenBatchSizeIsOutOfRange() {
+        // Given
+        List<CreateTransactionBaseRequestDto> tooLarge = Collections.nCopies(
+                TransactionBatchValidator.MAX_BATCH_SIZE + 1,
+                createTransactionRequest(BigDecimal.valueOf(100), "Продукты", null));
+
+        // When & Then
+        assertThatThrownBy(() -> expenseService.createAll(List.of(), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> expenseService.createAll(tooLarge, false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Order(19)
+    @Test
+    @DisplayName("Should list filtered expenses through specification projected into responses")
+    void shouldListFilteredExpensesThroughSpecification() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder().category("Продукты").build();
+        TransactionBaseResponseDto response = createResponseDto(1L, BigDecimal.valueOf(1500.21), "Продукты", null);
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(transactionResponseQueries.findAll(eq(ExpenseEntity.class), any(Specification.class), eq(Limit.unlimited())))
+                .thenReturn(List.of(response));
+
+        // When
+        List<TransactionBaseResponseDto> result = expenseService.getAllUserExpenses(filter);
+
+        // Then
+        assertThat(result).containsExactly(response);
+        verify(expenseRepository, never()).findAllResponsesByUserId(any());
+        verifyNoInteractions(expenseMapper);
+    }
+
+    @Order(20)
+    @Test
+    @DisplayName("Should return filtered page with next cursor")
+    void shouldReturnFilteredPageWithNextCursor() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder().from(testDate.minusDays(1)).build();
+        TransactionBaseResponseDto firstResponse = createResponseDto(2L, BigDecimal.valueOf(1500.21), "Продукты", null);
+        TransactionBaseResponseDto secondResponse = createResponseDto(1L, BigDecimal.valueOf(2500.21), "Развлечения", null);
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(transactionResponseQueries.findAll(eq(ExpenseEntity.class), any(Specification.class), eq(Limit.of(2))))
+                .thenReturn(List.of(firstResponse, secondResponse));
+
+        // When
+        TransactionPageResponseDto result = expenseService.getUserExpensesPage(1, null, filter);
+
+        // Then
+        assertThat(result.items()).containsExactly(firstResponse);
+        assertThat(result.nextCursor()).isEqualTo(new TransactionCursor(testDate, 2L).encode());
+        verify(expenseRepository, never()).findFirstPageByUserId(any(), any());
+    }
+
     /* =======================
        HELPERS
        ======================= */
@@ -388,6 +604,72 @@ class ExpenseServiceImplUnitTest {
         }
     }
 
+    /**
+     * GET читает строку целиком, UPDATE и DELETE получают пустой результат запроса с условием по владельцу
+     * и определяют владельца отдельным чтением
+     */
+    private void stubLookup(TestUtils.Operation operation, Long expenseId, UserEntity owner) {
+        switch (operation) {
+            case GET -> when(expenseRepository.findById(expenseId)).thenReturn(Optional.ofNullable(owner)
+                    .map(user -> createExpenseEntity(expenseId, BigDecimal.valueOf(1500.21), "Продукты", "Покупка продуктов на неделю", user)));
+            case UPDATE -> when(expenseRepository.updateOwned(eq(expenseId), eq(testUser.getId()), any(), any(), any(), any()))
+                    .thenReturn(List.of());
+            case DELETE -> when(expenseRepository.deleteOwned(expenseId, testUser.getId())).thenReturn(List.of());
+        }
+        if (operation != TestUtils.Operation.GET) {
+            when(expenseRepository.findUserIdById(expenseId)).thenReturn(Optional.ofNullable(owner).map(UserEntity::getId));
+        }
+        // GET несуществующей строки завершается до обращения к контексту безопасности
+        if (owner != null || operation != TestUtils.Operation.GET) {
+            when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        }
+    }
+
+    private TransactionChange createChange(Long id, BigDecimal amount, String category, String description,
+                                           BigDecimal oldAmount, String oldCategory) {
+        return new TransactionChange() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getAmount() {
+                return amount;
+            }
+
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public Instant getCreateDate() {
+                return testDate.toInstant();
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public BigDecimal getOldAmount() {
+                return oldAmount;
+            }
+
+            @Override
+            public String getOldCategory() {
+                return oldCategory;
+            }
+
+            @Override
+            public Instant getOldCreateDate() {
+                return testDate.toInstant();
+            }
+        };
+    }
+
     private CreateTransactionBaseRequestDto createTransactionRequest(BigDecimal amount, String category, String description) {
         return CreateTransactionBaseRequestDto.builder()
                 .amount(amount)
@@ -412,6 +694,7 @@ class ExpenseServiceImplUnitTest {
                 .category(category)
                 .createDate(testDate)
                 .description(description)
+                .userId(user == null ? null : user.getId())
                 .user(user)
                 .build();
     }
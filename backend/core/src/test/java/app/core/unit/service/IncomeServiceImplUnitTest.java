@@ -1,16 +1,28 @@
 package app.core.unit.service;
 
+import app.core.batch.TransactionBatchValidator;
 import app.core.mappers.IncomeMapper;
 import app.core.model.IncomeEntity;
 import app.core.model.UserEntity;
+import app.core.model.analytics.TransactionKind;
 import app.core.model.dto.CreateTransactionBaseRequestDto;
 import app.core.model.dto.TransactionBaseResponseDto;
+import app.core.model.dto.TransactionBatchItemDto;
+import app.core.model.dto.TransactionBatchResponseDto;
+import app.core.model.dto.TransactionFilterDto;
+import app.core.model.dto.TransactionPageResponseDto;
 import app.core.model.dto.UpdateTransactionBaseRequestDto;
+import app.core.model.projection.TransactionChange;
+import app.core.pagination.KeysetPagination;
+import app.core.pagination.TransactionCursor;
 import app.core.repository.IncomeRepository;
+import app.core.repository.TransactionResponseQueries;
 import app.core.security.SecurityProvider;
+import app.core.service.DailyRollupService;
 import app.core.service.IncomeServiceImpl;
 import app.core.unit.utils.TestUtils;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -19,14 +31,22 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +54,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +63,21 @@ import static org.mockito.Mockito.*;
 @ActiveProfiles("unit")
 class IncomeServiceImplUnitTest {
 
+    private static final TransactionFilterDto NO_FILTER = TransactionFilterDto.builder().build();
+
     @Mock
     private IncomeRepository incomeRepository;
 
+    @Mock
+    private TransactionResponseQueries transactionResponseQueries;
+
+    @Mock
+    private DailyRollupService dailyRollupService;
+
+    @Spy
+    private TransactionBatchValidator transactionBatchValidator =
+            new TransactionBatchValidator(Validation.buildDefaultValidatorFactory().getValidator());
+
     @Mock
     private IncomeMapper incomeMapper;
 
@@ -106,6 +139,7 @@ class IncomeServiceImplUnitTest {
         assertThat(result).isEqualTo(expectedResponse);
 
         verify(incomeMapper).createIncomeFromRequest(request);
+        verify(dailyRollupService).add(TransactionKind.INCOME, savedEntity);
 
         verify(incomeRepository).save(argThat(entity -> {
             assertThat(entity.getUser()).isEqualTo(testUser);
@@ -189,27 +223,21 @@ class IncomeServiceImplUnitTest {
     @DisplayName("Should return all user incomes successfully")
     void shouldReturnAllUserIncomesSuccessfully() {
         // Given
-        List<IncomeEntity> userIncomes = List.of(
-                createIncomeEntity(1L, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата", testUser),
-                createIncomeEntity(2L, BigDecimal.valueOf(2000.21), "Переводы", "Дополнительный доход", testUser)
-        );
-
         List<TransactionBaseResponseDto> expectedResponses = List.of(
                 createResponseDto(1L, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата"),
                 createResponseDto(2L, BigDecimal.valueOf(2000.21), "Переводы", "Дополнительный доход")
         );
 
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(incomeRepository.findAllByUserId(testUser.getId())).thenReturn(userIncomes);
-        when(incomeMapper.toResponse(userIncomes.get(0))).thenReturn(expectedResponses.get(0));
-        when(incomeMapper.toResponse(userIncomes.get(1))).thenReturn(expectedResponses.get(1));
+        when(incomeRepository.findAllResponsesByUserId(testUser.getId())).thenReturn(expectedResponses);
 
         // When
-        List<TransactionBaseResponseDto> result = incomeService.getAllUserIncomes();
+        List<TransactionBaseResponseDto> result = incomeService.getAllUserIncomes(NO_FILTER);
 
         // Then
         assertThat(result).isEqualTo(expectedResponses);
-        verify(incomeRepository).findAllByUserId(testUser.getId());
+        verify(incomeRepository).findAllResponsesByUserId(testUser.getId());
+        verifyNoInteractions(incomeMapper);
     }
 
     @Order(5)
@@ -218,14 +246,14 @@ class IncomeServiceImplUnitTest {
     void shouldReturnEmptyListWhenUserHasNoIncomes() {
         // Given
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(incomeRepository.findAllByUserId(testUser.getId())).thenReturn(List.of());
+        when(incomeRepository.findAllResponsesByUserId(testUser.getId())).thenReturn(List.of());
 
         // When
-        List<TransactionBaseResponseDto> result = incomeService.getAllUserIncomes();
+        List<TransactionBaseResponseDto> result = incomeService.getAllUserIncomes(NO_FILTER);
 
         // Then
         assertThat(result).isEmpty();
-        verify(incomeRepository).findAllByUserId(testUser.getId());
+        verify(incomeRepository).findAllResponsesByUserId(testUser.getId());
         verifyNoInteractions(incomeMapper);
     }
 
@@ -235,25 +263,22 @@ class IncomeServiceImplUnitTest {
 
     @Order(6)
     @Test
-    @DisplayName("Should update income successfully when income exists and user has access")
+    @DisplayName("Should update income with a single owner-scoped statement and move its rollup contribution")
     void shouldUpdateIncomeSuccessfully() {
         // Given
         Long incomeId = 1L;
         UpdateTransactionBaseRequestDto updateRequest =
                 createUpdateRequest(BigDecimal.valueOf(6000.21), "Переводы", "Годовая премия");
 
-        IncomeEntity existingIncome =
-                createIncomeEntity(1L, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата", testUser);
-
-        IncomeEntity updatedIncome =
-                createIncomeEntity(1L, BigDecimal.valueOf(6000.21), "Переводы", "Годовая премия", testUser);
+        TransactionChange updatedIncome = createChange(1L, BigDecimal.valueOf(6000.21), "Переводы", "Годовая премия",
+                BigDecimal.valueOf(5000.21), "Зарплата");
 
         TransactionBaseResponseDto expectedResponse =
                 createResponseDto(1L, BigDecimal.valueOf(6000.21), "Переводы", "Годовая премия");
 
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(existingIncome));
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(incomeRepository.save(existingIncome)).thenReturn(updatedIncome);
+        when(incomeRepository.updateOwned(incomeId, testUser.getId(), BigDecimal.valueOf(6000.21), "Переводы", null, "Годовая премия"))
+                .thenReturn(List.of(updatedIncome));
         when(incomeMapper.toResponse(updatedIncome)).thenReturn(expectedResponse);
 
         // When
@@ -261,8 +286,10 @@ class IncomeServiceImplUnitTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
-        verify(incomeMapper).updateIncomeFromRequest(updateRequest, existingIncome);
+        verify(dailyRollupService).replace(TransactionKind.INCOME, testUser.getId(), updatedIncome);
+        verify(incomeRepository).updateOwned(incomeId, testUser.getId(), BigDecimal.valueOf(6000.21), "Переводы", null, "Годовая премия");
+        verifyNoMoreInteractions(incomeRepository);
+        verify(securityProvider, never()).checkAccess(any(), any());
     }
 
     @Order(7)
@@ -274,27 +301,23 @@ class IncomeServiceImplUnitTest {
         UpdateTransactionBaseRequestDto partialUpdateRequest =
                 createUpdateRequest(null, "Новая категория", null); // amount и description = null
 
-        IncomeEntity existingIncome =
-                createIncomeEntity(1L, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата", testUser);
-
-        IncomeEntity expectedUpdatedIncome =
-                createIncomeEntity(1L, BigDecimal.valueOf(5000.21), "Новая категория", "Месячная зарплата", testUser);
+        TransactionChange updatedIncome = createChange(1L, BigDecimal.valueOf(5000.21), "Новая категория", "Месячная зарплата",
+                BigDecimal.valueOf(5000.21), "Зарплата");
 
         TransactionBaseResponseDto expectedResponse =
                 createResponseDto(1L, BigDecimal.valueOf(5000.21), "Новая категория", "Месячная зарплата");
 
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(existingIncome));
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
-        when(incomeRepository.save(existingIncome)).thenReturn(expectedUpdatedIncome);
-        when(incomeMapper.toResponse(expectedUpdatedIncome)).thenReturn(expectedResponse);
+        when(incomeRepository.updateOwned(incomeId, testUser.getId(), null, "Новая категория", null, null))
+                .thenReturn(List.of(updatedIncome));
+        when(incomeMapper.toResponse(updatedIncome)).thenReturn(expectedResponse);
 
         // When
         TransactionBaseResponseDto result = incomeService.update(incomeId, partialUpdateRequest);
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
-        verify(incomeMapper).updateIncomeFromRequest(partialUpdateRequest, existingIncome);
+        verify(dailyRollupService).replace(TransactionKind.INCOME, testUser.getId(), updatedIncome);
     }
 
     /* =======================
@@ -303,22 +326,23 @@ class IncomeServiceImplUnitTest {
 
     @Order(8)
     @Test
-    @DisplayName("Should delete income successfully when income exists and user has access")
+    @DisplayName("Should delete income with a single owner-scoped statement and subtract its rollup contribution")
     void shouldDeleteIncomeSuccessfully() {
         // Given
         Long incomeId = 1L;
-        IncomeEntity existingIncome =
-                createIncomeEntity(1L, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата", testUser);
+        TransactionChange deletedIncome = createChange(1L, null, null, null, BigDecimal.valueOf(5000.21), "Зарплата");
 
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(existingIncome));
         when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(incomeRepository.deleteOwned(incomeId, testUser.getId())).thenReturn(List.of(deletedIncome));
 
         // When
         incomeService.delete(incomeId);
 
         // Then
-        verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
-        verify(incomeRepository).delete(existingIncome);
+        verify(dailyRollupService).subtract(TransactionKind.INCOME, testUser.getId(), deletedIncome);
+        verify(incomeRepository).deleteOwned(incomeId, testUser.getId());
+        verifyNoMoreInteractions(incomeRepository);
+        verify(securityProvider, never()).checkAccess(any(), any());
     }
 
     /* =======================
@@ -349,7 +373,7 @@ class IncomeServiceImplUnitTest {
     void shouldThrowEntityNotFoundExceptionForNonExistentIncome(TestUtils.Operation operation) {
         // Given
         Long incomeId = 1L;
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.empty());
+        stubLookup(operation, incomeId, null);
 
         // When & Then
         assertThatThrownBy(() -> executeOperation(operation, incomeId))
@@ -363,11 +387,7 @@ class IncomeServiceImplUnitTest {
     void shouldThrowAccessDeniedExceptionWhenAccessingIncomeOfAnotherUser(TestUtils.Operation operation) {
         // Given
         Long incomeId = 1L;
-        IncomeEntity incomeOfAnotherUser =
-                createIncomeEntity(1L, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата", otherUser);
-
-        when(incomeRepository.findById(incomeId)).thenReturn(Optional.of(incomeOfAnotherUser));
-        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        stubLookup(operation, incomeId, otherUser);
         doThrow(AccessDeniedException.class)
                 .when(securityProvider)
                 .checkAccess(otherUser.getId(), testUser.getId());
@@ -377,6 +397,202 @@ class IncomeServiceImplUnitTest {
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    /* =======================
+       PAGINATION
+       ======================= */
+
+    @Order(12)
+    @Test
+    @DisplayName("Should return first page with next cursor when more incomes exist")
+    void shouldReturnFirstPageWithNextCursor() {
+        // Given
+        TransactionBaseResponseDto first = createResponseDto(2L, BigDecimal.valueOf(1500.21), "Зарплата", "Зарплата за январь");
+        TransactionBaseResponseDto second = createResponseDto(1L, BigDecimal.valueOf(2500.21), "Фриланс", "Оплата проекта");
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(incomeRepository.findFirstPageByUserId(testUser.getId(), Limit.of(2))).thenReturn(List.of(first, second));
+
+        // When
+        TransactionPageResponseDto result = incomeService.getUserIncomesPage(1, null, NO_FILTER);
+
+        // Then
+        assertThat(result.items()).containsExactly(first);
+        assertThat(result.nextCursor()).isEqualTo(new TransactionCursor(testDate, 2L).encode());
+    }
+
+    @Order(13)
+    @Test
+    @DisplayName("Should return last page without next cursor when cursor is provided")
+    void shouldReturnLastPageWithoutNextCursor() {
+        // Given
+        String after = new TransactionCursor(testDate, 2L).encode();
+        TransactionBaseResponseDto response = createResponseDto(1L, BigDecimal.valueOf(2500.21), "Фриланс", "Оплата проекта");
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(incomeRepository.findPageByUserIdAfter(eq(testUser.getId()), argThat(date -> date.isEqual(testDate)), eq(2L), eq(Limit.of(11))))
+                .thenReturn(List.of(response));
+
+        // When
+        TransactionPageResponseDto result = incomeService.getUserIncomesPage(10, after, NO_FILTER);
+
+        // Then
+        assertThat(result.items()).containsExactly(response);
+        assertThat(result.nextCursor()).isNull();
+        verify(incomeRepository, never()).findFirstPageByUserId(any(), any());
+    }
+
+    @Order(14)
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, KeysetPagination.MAX_LIMIT + 1})
+    @DisplayName("Should throw IllegalArgumentException when page limit is out of range")
+    void shouldThrowIllegalArgumentExceptionWhenPageLimitIsOutOfRange(int limit) {
+        // When & Then
+        assertThatThrownBy(() -> incomeService.getUserIncomesPage(limit, null, NO_FILTER))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(incomeRepository);
+    }
+
+    @Order(15)
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when cursor is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsMalformed() {
+        // Given
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When & Then
+        assertThatThrownBy(() -> incomeService.getUserIncomesPage(10, "not-a-cursor", NO_FILTER))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(incomeRepository);
+    }
+
+    /* =======================
+       BATCH
+       ======================= */
+
+    @Order(16)
+    @Test
+    @DisplayName("Should create valid incomes and report invalid ones when batch is not atomic")
+    void shouldCreateValidIncomesAndReportInvalidOnes() {
+        // Given
+        CreateTransactionBaseRequestDto first = createTransactionRequest(BigDecimal.valueOf(1500.21), "Зарплата", null);
+        CreateTransactionBaseRequestDto invalid = createTransactionRequest(BigDecimal.valueOf(-1), "Зарплата", null);
+        CreateTransactionBaseRequestDto second = createTransactionRequest(BigDecimal.valueOf(300), "Фриланс", null);
+
+        IncomeEntity firstEntity = createIncomeEntity(null, BigDecimal.valueOf(1500.21), "Зарплата", null, null);
+        IncomeEntity secondEntity = createIncomeEntity(null, BigDecimal.valueOf(300), "Фриланс", null, null);
+        List<IncomeEntity> savedEntities = List.of(
+                createIncomeEntity(1L, BigDecimal.valueOf(1500.21), "Зарплата", null, testUser),
+                createIncomeEntity(2L, BigDecimal.valueOf(300), "Фриланс", null, testUser)
+        );
+        TransactionBaseResponseDto firstResponse = createResponseDto(1L, BigDecimal.valueOf(1500.21), "Зарплата", null);
+        TransactionBaseResponseDto secondResponse = createResponseDto(2L, BigDecimal.valueOf(300), "Фриланс", null);
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(incomeMapper.createIncomeFromRequest(first)).thenReturn(firstEntity);
+        when(incomeMapper.createIncomeFromRequest(second)).thenReturn(secondEntity);
+        when(incomeRepository.saveAll(List.of(firstEntity, secondEntity))).thenReturn(savedEntities);
+        when(incomeMapper.toResponse(savedEntities.get(0))).thenReturn(firstResponse);
+        when(incomeMapper.toResponse(savedEntities.get(1))).thenReturn(secondResponse);
+
+        // When
+        TransactionBatchResponseDto result = incomeService.createAll(List.of(first, invalid, second), false);
+
+        // Then
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.items()).extracting(TransactionBatchItemDto::index).containsExactly(0, 1, 2);
+        assertThat(result.items().get(0).item()).isEqualTo(firstResponse);
+        assertThat(result.items().get(1).item()).isNull();
+        assertThat(result.items().get(1).errors()).containsOnlyKeys("amount");
+        assertThat(result.items().get(2).item()).isEqualTo(secondResponse);
+        assertThat(firstEntity.getUser()).isEqualTo(testUser);
+        assertThat(secondEntity.getUser()).isEqualTo(testUser);
+        verify(dailyRollupService).addAll(TransactionKind.INCOME, savedEntities);
+    }
+
+    @Order(17)
+    @Test
+    @DisplayName("Should reject whole batch without persisting when atomic batch has invalid items")
+    void shouldRejectAtomicBatchWithInvalidItems() {
+        // Given
+        CreateTransactionBaseRequestDto valid = createTransactionRequest(BigDecimal.valueOf(1500.21), "Зарплата", null);
+        CreateTransactionBaseRequestDto invalid = createTransactionRequest(BigDecimal.valueOf(100), null, null);
+
+        // When
+        TransactionBatchResponseDto result = incomeService.createAll(Arrays.asList(valid, invalid, null), true);
+
+        // Then
+        assertThat(result.created()).isZero();
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.items()).extracting(TransactionBatchItemDto::index).containsExactly(1, 2);
+        assertThat(result.items().get(0).errors()).containsOnlyKeys("category");
+        assertThat(result.items().get(1).errors()).containsOnlyKeys("item");
+        verifyNoInteractions(incomeRepository, incomeMapper, dailyRollupService);
+    }
+
+    @Order(18)
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when batch is empty or too large")
+    void shouldThrowIllegalArgumentExceptionWhenBatchSizeIsOutOfRange() {
+        // Given
+        List<CreateTransactionBaseRequestDto> tooLarge = Collections.nCopies(
+                TransactionBatchValidator.MAX_BATCH_SIZE + 1,
+                createTransactionRequest(BigDecimal.valueOf(100), "Зарплата", null));
+
+        // When & Then
+        assertThatThrownBy(() -> incomeService.createAll(List.of(), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> incomeService.createAll(tooLarge, false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(incomeRepository);
+    }
+
+    @Order(19)
+    @Test
+    @DisplayName("Should list filtered incomes through specification projected into responses")
+    void shouldListFilteredIncomesThroughSpecification() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder().category("Продукты").build();
+        TransactionBaseResponseDto response = createResponseDto(1L, BigDecimal.valueOf(1500.21), "Продукты", null);
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(transactionResponseQueries.findAll(eq(IncomeEntity.class), any(Specification.class), eq(Limit.unlimited())))
+                .thenReturn(List.of(response));
+
+        // When
+        List<TransactionBaseResponseDto> result = incomeService.getAllUserIncomes(filter);
+
+        // Then
+        assertThat(result).containsExactly(response);
+        verify(incomeRepository, never()).findAllResponsesByUserId(any());
+        verifyNoInteractions(incomeMapper);
+    }
+
+    @Order(20)
+    @Test
+    @DisplayName("Should return filtered page with next cursor")
+    void shouldReturnFilteredPageWithNextCursor() {
+        // Given
+        TransactionFilterDto filter = TransactionFilterDto.builder().from(testDate.minusDays(1)).build();
+        TransactionBaseResponseDto firstResponse = createResponseDto(2L, BigDecimal.valueOf(1500.21), "Продукты", null);
+        TransactionBaseResponseDto secondResponse = createResponseDto(1L, BigDecimal.valueOf(2500.21), "Развлечения", null);
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(transactionResponseQueries.findAll(eq(IncomeEntity.class), any(Specification.class), eq(Limit.of(2))))
+                .thenReturn(List.of(firstResponse, secondResponse));
+
+        // When
+        TransactionPageResponseDto result = incomeService.getUserIncomesPage(1, null, filter);
+
+        // Then
+        assertThat(result.items()).containsExactly(firstResponse);
+        assertThat(result.nextCursor()).isEqualTo(new TransactionCursor(testDate, 2L).encode());
+        verify(incomeRepository, never()).findFirstPageByUserId(any(), any());
+    }
+
     /* =======================
        HELPERS
        ======================= */
@@ -389,6 +605,72 @@ class IncomeServiceImplUnitTest {
         }
     }
 
+    /**
+     * GET читает строку целиком, UPDATE и DELETE получают пустой результат запроса с условием по владельцу
+     * и определяют владельца отдельным чтением
+     */
+    private void stubLookup(TestUtils.Operation operation, Long incomeId, UserEntity owner) {
+        switch (operation) {
+            case GET -> when(incomeRepository.findById(incomeId)).thenReturn(Optional.ofNullable(owner)
+                    .map(user -> createIncomeEntity(incomeId, BigDecimal.valueOf(5000.21), "Зарплата", "Месячная зарплата", user)));
+            case UPDATE -> when(incomeRepository.updateOwned(eq(incomeId), eq(testUser.getId()), any(), any(), any(), any()))
+                    .thenReturn(List.of());
+            case DELETE -> when(incomeRepository.deleteOwned(incomeId, testUser.getId())).thenReturn(List.of());
+        }
+        if (operation != TestUtils.Operation.GET) {
+            when(incomeRepository.findUserIdById(incomeId)).thenReturn(Optional.ofNullable(owner).map(UserEntity::getId));
+        }
+        // GET несуществующей строки завершается до обращения к контексту безопасности
+        if (owner != null || operation != TestUtils.Operation.GET) {
+            when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        }
+    }
+
+    private TransactionChange createChange(Long id, BigDecimal amount, String category, String description,
+                                           BigDecimal oldAmount, String oldCategory) {
+        return new TransactionChange() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getAmount() {
+                return amount;
+            }
+
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public Instant getCreateDate() {
+                return testDate.toInstant();
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public BigDecimal getOldAmount() {
+                return oldAmount;
+            }
+
+            @Override
+            public String getOldCategory() {
+                return oldCategory;
+            }
+
+            @Override
+            public Instant getOldCreateDate() {
+                return testDate.toInstant();
+            }
+        };
+    }
+
     private CreateTransactionBaseRequestDto createTransactionRequest(BigDecimal amount, String category, String description) {
         return CreateTransactionBaseRequestDto.builder()
                 .amount(amount)
@@ -413,6 +695,7 @@ class IncomeServiceImplUnitTest {
                 .category(category)
                 .createDate(testDate)
                 .description(description)
+                .userId(user == null ? null : user.getId())
                 .user(user)
                 .build();
     }
@@ -0,0 +1,143 @@
+package app.core.unit.service;
+
+import app.core.mappers.TransactionMapper;
+import app.core.model.export.ExportFormat;
+import app.core.model.projection.TransactionExportRow;
+import app.core.repository.TransactionRepository;
+import app.core.service.TransactionExportWriter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionExportWriter Unit Tests")
+@ActiveProfiles("unit")
+class TransactionExportWriterUnitTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private final TransactionMapper transactionMapper = Mappers.getMapper(TransactionMapper.class);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private TransactionExportWriter transactionExportWriter;
+
+    @BeforeEach
+    void init() {
+        transactionExportWriter = new TransactionExportWriter(transactionRepository, transactionMapper, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line in repository order")
+    void shouldWriteNdjsonLines() throws IOException {
+        // Given
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.of(
+                createRow("INCOME", 2L, "50000.21", "Salary", "2024-01-14T09:00:00Z", "Monthly salary"),
+                createRow("EXPENSE", 1L, "1500.00", "Food", "2024-01-15T10:30:00Z", null)
+        ));
+
+        // When
+        String result = export(ExportFormat.NDJSON);
+
+        // Then
+        assertThat(result).isEqualTo("""
+                {"kind":"INCOME","id":2,"amount":50000.21,"category":"Salary","createDate":"2024-01-14T09:00:00Z","description":"Monthly salary"}
+                {"kind":"EXPENSE","id":1,"amount":1500.00,"category":"Food","createDate":"2024-01-15T10:30:00Z"}
+                """);
+    }
+
+    @Test
+    @DisplayName("Should write CSV with header, quoting and formula guard")
+    void shouldWriteCsvWithQuotingAndFormulaGuard() throws IOException {
+        // Given
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.of(
+                createRow("EXPENSE", 1L, "1500.00", "Food, drinks", "2024-01-15T10:30:00Z", "Said \"hi\""),
+                createRow("EXPENSE", 3L, "1E+3", "=SUM(A1:A9)", "2024-01-16T00:00:00Z", "line\nbreak"),
+                createRow("INCOME", 2L, "10", "Salary", "2024-01-17T00:00:00Z", null)
+        ));
+
+        // When
+        String result = export(ExportFormat.CSV);
+
+        // Then
+        assertThat(result).isEqualTo("""
+                kind,id,amount,category,createDate,description
+                EXPENSE,1,1500.00,"Food, drinks",2024-01-15T10:30:00Z,"Said ""hi\"""
+                EXPENSE,3,1000,'=SUM(A1:A9),2024-01-16T00:00:00Z,"line
+                break"
+                INCOME,2,10,Salary,2024-01-17T00:00:00Z,
+                """);
+    }
+
+    @Test
+    @DisplayName("Should write only CSV header when history is empty")
+    void shouldWriteOnlyHeaderWhenHistoryIsEmpty() throws IOException {
+        // Given
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.empty());
+
+        // When & Then
+        assertThat(export(ExportFormat.CSV)).isEqualTo("kind,id,amount,category,createDate,description\n");
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportWriter.write(1L, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private TransactionExportRow createRow(String kind, Long id, String amount, String category,
+                                           String createDate, String description) {
+        return new TransactionExportRow() {
+            @Override
+            public String getKind() {
+                return kind;
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getAmount() {
+                return new BigDecimal(amount);
+            }
+
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public Instant getCreateDate() {
+                return Instant.parse(createDate);
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package app.core.unit.service;
+
+import app.core.mappers.TransactionMapper;
+import app.core.model.UserEntity;
+import app.core.model.dto.TransactionHistoryPageResponseDto;
+import app.core.model.projection.TransactionExportRow;
+import app.core.pagination.KeysetPagination;
+import app.core.pagination.TransactionHistoryCursor;
+import app.core.repository.TransactionRepository;
+import app.core.security.SecurityProvider;
+import app.core.service.TransactionHistoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionHistoryServiceImpl Unit Tests")
+@ActiveProfiles("unit")
+class TransactionHistoryServiceImplUnitTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private SecurityProvider securityProvider;
+
+    private final TransactionMapper transactionMapper = Mappers.getMapper(TransactionMapper.class);
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private TransactionHistoryServiceImpl transactionHistoryService;
+
+    private final OffsetDateTime testDate = OffsetDateTime.parse("2024-01-01T10:00:00Z");
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @BeforeEach
+    void init() {
+        transactionHistoryService = new TransactionHistoryServiceImpl(transactionRepository, transactionMapper, securityProvider);
+    }
+
+    @Test
+    @DisplayName("Should return first page with cursor of last row including its kind")
+    void shouldReturnFirstPageWithNextCursor() {
+        // Given
+        TransactionExportRow expense = createRow("EXPENSE", 5L, "Food");
+        TransactionExportRow income = createRow("INCOME", 5L, "Salary");
+        TransactionExportRow extra = createRow("EXPENSE", 4L, "Transport");
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(transactionRepository.findFirstPageByUserId(testUser.getId(), Limit.of(3))).thenReturn(List.of(income, expense, extra));
+
+        // When
+        TransactionHistoryPageResponseDto result = transactionHistoryService.getPage(2, null);
+
+        // Then
+        assertThat(result.items()).extracting(item -> item.kind() + ":" + item.id()).containsExactly("INCOME:5", "EXPENSE:5");
+        assertThat(result.nextCursor()).isEqualTo(new TransactionHistoryCursor(testDate, 5L, "EXPENSE").encode());
+    }
+
+    @Test
+    @DisplayName("Should continue after cursor and return last page without next cursor")
+    void shouldReturnLastPageWithoutNextCursor() {
+        // Given
+        String after = new TransactionHistoryCursor(testDate, 5L, "EXPENSE").encode();
+        TransactionExportRow income = createRow("INCOME", 4L, "Salary");
+
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        when(transactionRepository.findPageByUserIdAfter(eq(testUser.getId()), argThat(date -> date.isEqual(testDate)),
+                eq(5L), eq("EXPENSE"), eq(Limit.of(11))))
+                .thenReturn(List.of(income));
+
+        // When
+        TransactionHistoryPageResponseDto result = transactionHistoryService.getPage(10, after);
+
+        // Then
+        assertThat(result.items()).extracting(item -> item.category()).containsExactly("Salary");
+        assertThat(result.nextCursor()).isNull();
+        verify(transactionRepository, never()).findFirstPageByUserId(any(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, KeysetPagination.MAX_LIMIT + 1})
+    @DisplayName("Should throw IllegalArgumentException when page limit is out of range")
+    void shouldThrowIllegalArgumentExceptionWhenPageLimitIsOutOfRange(int limit) {
+        // When & Then
+        assertThatThrownBy(() -> transactionHistoryService.getPage(limit, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-a-cursor", "MjAyNC0wMS0wMVQxMDowMDowMFpfNQ", "MjAyNC0wMS0wMVQxMDowMDowMFpfNV9PVEhFUg"})
+    @DisplayName("Should throw IllegalArgumentException when cursor is malformed or has unknown kind")
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsMalformed(String after) {
+        // Given
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionHistoryService.getPage(10, after))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private TransactionExportRow createRow(String kind, Long id, String category) {
+        return projectionFactory.createProjection(TransactionExportRow.class, Map.of(
+                "kind", kind,
+                "id", id,
+                "amount", BigDecimal.TEN,
+                "category", category,
+                "createDate", testDate.toInstant(),
+                "description", category + " note"
+        ));
+    }
+}
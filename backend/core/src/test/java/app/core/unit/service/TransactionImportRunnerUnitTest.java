@@ -0,0 +1,130 @@
+package app.core.unit.service;
+
+import app.core.imports.ImportJob;
+import app.core.imports.ImportJobRegistry;
+import app.core.imports.StatementRecord;
+import app.core.model.imports.ImportFormat;
+import app.core.model.imports.ImportJobStatus;
+import app.core.service.TransactionImportRunner;
+import app.core.service.TransactionImportWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionImportRunner Unit Tests")
+@ActiveProfiles("unit")
+class TransactionImportRunnerUnitTest {
+
+    @Mock
+    private TransactionImportWriter transactionImportWriter;
+
+    private final ImportJobRegistry importJobRegistry = new ImportJobRegistry(Duration.ofHours(1));
+
+    private TransactionImportRunner transactionImportRunner;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void init() {
+        transactionImportRunner = new TransactionImportRunner(transactionImportWriter, importJobRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void shutdown() {
+        transactionImportRunner.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write statement in fixed-size chunks and collect errors")
+    void shouldWriteStatementInChunks() throws IOException {
+        // Given
+        int rows = TransactionImportRunner.CHUNK_SIZE * 2 + 1;
+        StringBuilder csv = new StringBuilder("amount,category,createDate\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i == 0 ? "oops" : "10").append(",Food,2025-01-15\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("statement.csv"), csv);
+        ImportJob job = importJobRegistry.register(1L, ImportFormat.CSV);
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(transactionImportWriter.write(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<StatementRecord> chunk = invocation.getArgument(1);
+            chunkSizes.add(chunk.size());
+            return chunkSizes.size() == 1 ? Map.of(chunk.get(0).line(), Map.of("amount", "must be greater than 0")) : Map.of();
+        });
+
+        // When
+        transactionImportRunner.run(job, file, ZoneOffset.UTC);
+
+        // Then
+        assertThat(chunkSizes).containsExactly(TransactionImportRunner.CHUNK_SIZE, TransactionImportRunner.CHUNK_SIZE);
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(job.getImported()).isEqualTo(rows - 2);
+        assertThat(job.getFailed()).isEqualTo(2);
+        assertThat(job.getErrors()).extracting(ImportJob.LineErrors::line).containsExactly(2L, 3L);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should fail job and delete file when statement cannot be read")
+    void shouldFailJobWhenStatementIsMalformed() throws IOException {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("statement.csv"), "amount,description\n10,x\n");
+        ImportJob job = importJobRegistry.register(1L, ImportFormat.CSV);
+
+        // When
+        transactionImportRunner.run(job, file, ZoneOffset.UTC);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(job.getMessage()).isEqualTo("CSV statement has no columns [category, createDate]");
+        assertThat(file).doesNotExist();
+        verifyNoInteractions(transactionImportWriter);
+    }
+
+    @Test
+    @DisplayName("Should keep rows committed before a failing chunk")
+    void shouldKeepImportedRowsWhenWriteFails() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("amount,category,createDate\n");
+        for (int i = 0; i < TransactionImportRunner.CHUNK_SIZE + 1; i++) {
+            csv.append("10,Food,2025-01-15\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("statement.csv"), csv);
+        ImportJob job = importJobRegistry.register(1L, ImportFormat.CSV);
+        when(transactionImportWriter.write(eq(1L), anyList()))
+                .thenReturn(Map.of())
+                .thenThrow(new IllegalStateException("Connection lost"));
+
+        // When
+        transactionImportRunner.run(job, file, ZoneOffset.UTC);
+
+        // Then
+        verify(transactionImportWriter, times(2)).write(eq(1L), anyList());
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(job.getMessage()).isEqualTo("Connection lost");
+        assertThat(job.getImported()).isEqualTo(TransactionImportRunner.CHUNK_SIZE);
+    }
+}
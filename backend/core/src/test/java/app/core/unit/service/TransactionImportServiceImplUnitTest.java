@@ -0,0 +1,177 @@
+package app.core.unit.service;
+
+import app.core.imports.ImportJob;
+import app.core.imports.ImportJobRegistry;
+import app.core.mappers.TransactionMapper;
+import app.core.model.UserEntity;
+import app.core.model.dto.TransactionImportJobResponseDto;
+import app.core.model.imports.ImportFormat;
+import app.core.model.imports.ImportJobStatus;
+import app.core.security.SecurityProvider;
+import app.core.service.TransactionImportRunner;
+import app.core.service.TransactionImportServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionImportServiceImpl Unit Tests")
+@ActiveProfiles("unit")
+class TransactionImportServiceImplUnitTest {
+
+    private static final String STATEMENT = "amount,category,createDate\n10,Food,2025-01-15\n";
+
+    @Mock
+    private TransactionImportRunner transactionImportRunner;
+
+    @Mock
+    private SecurityProvider securityProvider;
+
+    private final ImportJobRegistry importJobRegistry = new ImportJobRegistry(Duration.ofHours(1));
+
+    private final TransactionMapper transactionMapper = Mappers.getMapper(TransactionMapper.class);
+
+    private TransactionImportServiceImpl transactionImportService;
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @BeforeEach
+    void init() {
+        transactionImportService = new TransactionImportServiceImpl(transactionImportRunner, importJobRegistry,
+                transactionMapper, securityProvider, DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    @DisplayName("Should spool statement to a file and queue the job")
+    void shouldSpoolStatementAndQueueJob() throws IOException {
+        // Given
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        ArgumentCaptor<Path> file = ArgumentCaptor.forClass(Path.class);
+
+        // When
+        TransactionImportJobResponseDto result = transactionImportService.start(ImportFormat.CSV, "Europe/Moscow", stream(STATEMENT));
+
+        // Then
+        assertThat(result.jobId()).isNotBlank();
+        assertThat(result.status()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(result.format()).isEqualTo("csv");
+        assertThat(result.createdAt()).isNotNull();
+        verify(transactionImportRunner).submit(any(ImportJob.class), file.capture(), eq(ZoneId.of("Europe/Moscow")));
+        assertThat(Files.readString(file.getValue())).isEqualTo(STATEMENT);
+        assertThat(importJobRegistry.find(result.jobId())).get()
+                .extracting(ImportJob::getUserId).isEqualTo(1L);
+        Files.delete(file.getValue());
+    }
+
+    @Test
+    @DisplayName("Should reject statement larger than the limit without queueing")
+    void shouldRejectTooLargeStatement() {
+        // Given
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionImportService.start(ImportFormat.CSV, "UTC", stream(STATEMENT.repeat(100))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Statement is larger than 1024 bytes");
+        verifyNoInteractions(transactionImportRunner);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown time zone before reading the statement")
+    void shouldRejectUnknownTimeZone() {
+        // When & Then
+        assertThatThrownBy(() -> transactionImportService.start(ImportFormat.CSV, "Mars/Base", stream(STATEMENT)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown time zone 'Mars/Base'");
+        verifyNoInteractions(transactionImportRunner);
+    }
+
+    @Test
+    @DisplayName("Should drop job and file when import queue is full")
+    void shouldDropJobWhenQueueIsFull() {
+        // Given
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        ArgumentCaptor<ImportJob> job = ArgumentCaptor.forClass(ImportJob.class);
+        ArgumentCaptor<Path> file = ArgumentCaptor.forClass(Path.class);
+        doThrow(new TaskRejectedException("full")).when(transactionImportRunner).submit(job.capture(), file.capture(), any());
+
+        // When & Then
+        assertThatThrownBy(() -> transactionImportService.start(ImportFormat.OFX, "UTC", stream(STATEMENT)))
+                .isInstanceOf(TaskRejectedException.class)
+                .hasMessage("Import queue is full, try again later");
+        assertThat(importJobRegistry.find(job.getValue().getId())).isEmpty();
+        assertThat(file.getValue()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should return progress of own import job")
+    void shouldReturnOwnJobProgress() {
+        // Given
+        ImportJob job = importJobRegistry.register(1L, ImportFormat.CSV);
+        job.start();
+        job.addImported(500);
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+
+        // When
+        TransactionImportJobResponseDto result = transactionImportService.getJob(job.getId());
+
+        // Then
+        assertThat(result.status()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(result.imported()).isEqualTo(500);
+        verify(securityProvider).checkAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException for unknown import job")
+    void shouldThrowEntityNotFoundForUnknownJob() {
+        // When & Then
+        assertThatThrownBy(() -> transactionImportService.getJob("missing"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw AccessDeniedException for import job of another user")
+    void shouldThrowAccessDeniedForJobOfAnotherUser() {
+        // Given
+        ImportJob job = importJobRegistry.register(2L, ImportFormat.CSV);
+        when(securityProvider.getUserFromSecurityContext()).thenReturn(testUser);
+        doThrow(AccessDeniedException.class).when(securityProvider).checkAccess(2L, 1L);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionImportService.getJob(job.getId()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,10 +7,13 @@ import app.core.model.dto.UpdateUserRequestDto;
 import app.core.model.dto.UserResponseDto;
 import app.core.repository.UserRepository;
 import app.core.security.SecurityProvider;
+import app.core.service.AuthTokenServiceImpl;
 import app.core.service.UserManagementServiceImpl;
+import app.core.service.UserServiceImpl;
 import app.core.errorhandling.exceptions.UserAlreadyExistsException;
 import app.core.unit.utils.TestUtils;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -19,14 +22,19 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.sql.SQLException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -52,6 +60,12 @@ class UserManagementServiceImplUnitTest {
     @Mock
     private SecurityProvider securityProvider;
 
+    @Mock
+    private UserServiceImpl userService;
+
+    @Mock
+    private ObjectProvider<AuthTokenServiceImpl> authTokenService;
+
     @InjectMocks
     private UserManagementServiceImpl userManagementService;
 
@@ -86,9 +100,8 @@ class UserManagementServiceImplUnitTest {
         UserEntity savedEntity = createUserEntity(1L, "testUserDisplayName", "testuser", "hashedPassword", "test@email.com");
         UserResponseDto expectedResponse = createUserResponse(1L, "testUserDisplayName", "testuser", "test@email.com");
 
-        when(userRepository.findByUsername(request.username())).thenReturn(Optional.empty());
         when(userMapper.createUserFromRequest(request, passwordEncoder)).thenReturn(mappedEntity);
-        when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(savedEntity);
         when(userMapper.toResponse(savedEntity)).thenReturn(expectedResponse);
 
         // When
@@ -97,9 +110,9 @@ class UserManagementServiceImplUnitTest {
         // Then
         assertThat(result).isEqualTo(expectedResponse);
 
-        verify(userRepository).findByUsername(request.username());
+        verify(userRepository, never()).findByUsername(any());
         verify(userMapper).createUserFromRequest(request, passwordEncoder);
-        verify(userRepository).save(argThat(entity -> {
+        verify(userRepository).saveAndFlush(argThat(entity -> {
             assertThat(entity.getUsername()).isEqualTo("testuser");
             assertThat(entity.getDisplayName()).isEqualTo("testUserDisplayName");
             assertThat(entity.getEmail()).isEqualTo("test@email.com");
@@ -114,22 +127,43 @@ class UserManagementServiceImplUnitTest {
         // Given
         CreateUserRequestDto request = createUserRequest("testuser", "password123", "test@email.com");
 
-        when(userRepository.findByUsername(request.username())).thenReturn(Optional.of(testUser));
+        UserEntity mappedEntity = createUserEntity(null, "testUserDisplayName", "testuser", "hashedPassword", "test@email.com");
+
+        when(userMapper.createUserFromRequest(request, passwordEncoder)).thenReturn(mappedEntity);
+        when(userRepository.saveAndFlush(mappedEntity)).thenThrow(uniqueViolation("uq_users_username_lower"));
 
         // When & Then
         assertThatThrownBy(() -> userManagementService.createUser(request))
                 .isInstanceOf(UserAlreadyExistsException.class)
                 .hasMessage("User with username 'testuser' already exists");
 
-        verify(userRepository).findByUsername(request.username());
+        verify(userRepository).saveAndFlush(mappedEntity);
+        verify(userMapper).createUserFromRequest(request, passwordEncoder);
         verifyNoMoreInteractions(userRepository, userMapper);
     }
 
+    @Order(3)
+    @Test
+    @DisplayName("Should rethrow integrity violation not caused by duplicate username")
+    void shouldRethrowIntegrityViolationNotCausedByUsername() {
+        // Given
+        CreateUserRequestDto request = createUserRequest("testuser", "password123", "test@email.com");
+        UserEntity mappedEntity = createUserEntity(null, "testUserDisplayName", "testuser", "hashedPassword", "test@email.com");
+        DataIntegrityViolationException violation = uniqueViolation("users_pk");
+
+        when(userMapper.createUserFromRequest(request, passwordEncoder)).thenReturn(mappedEntity);
+        when(userRepository.saveAndFlush(mappedEntity)).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> userManagementService.createUser(request))
+                .isSameAs(violation);
+    }
+
     /* =======================
        GET USER
        ======================= */
 
-    @Order(3)
+    @Order(4)
     @Test
     @DisplayName("Should get current user successfully")
     void shouldGetCurrentUserSuccessfully() {
@@ -151,7 +185,7 @@ class UserManagementServiceImplUnitTest {
         verify(userMapper).toResponse(testUser);
     }
 
-    @Order(4)
+    @Order(5)
     @Test
     @DisplayName("Should get user by id successfully when user has access")
     void shouldGetUserByIdSuccessfully() {
@@ -175,7 +209,7 @@ class UserManagementServiceImplUnitTest {
        UPDATE USER
        ======================= */
 
-    @Order(5)
+    @Order(6)
     @Test
     @DisplayName("Should update current user successfully")
     void shouldUpdateCurrentUserSuccessfully() {
@@ -203,7 +237,7 @@ class UserManagementServiceImplUnitTest {
         verify(securityProvider).updateAuthenticationInSecurityContext(testUser);
     }
 
-    @Order(6)
+    @Order(7)
     @Test
     @DisplayName("Should update user by id successfully when user has access")
     void shouldUpdateUserByIdSuccessfully() {
@@ -227,13 +261,15 @@ class UserManagementServiceImplUnitTest {
         verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
         verify(userMapper).updateUserFromRequest(updateRequest, testUser, passwordEncoder);
         verify(userRepository).save(testUser);
+        verify(userService).evictUser("testuser");
+        verify(authTokenService, never()).ifAvailable(any());
     }
 
     /* =======================
        DELETE USER
        ======================= */
 
-    @Order(7)
+    @Order(8)
     @Test
     @DisplayName("Should delete current user successfully")
     void shouldDeleteCurrentUserSuccessfully() {
@@ -251,7 +287,7 @@ class UserManagementServiceImplUnitTest {
         verify(userRepository).deleteById(testUser.getId());
     }
 
-    @Order(8)
+    @Order(9)
     @Test
     @DisplayName("Should delete user by id successfully when user has access")
     void shouldDeleteUserByIdSuccessfully() {
@@ -267,13 +303,15 @@ class UserManagementServiceImplUnitTest {
         // Then
         verify(securityProvider).checkAccess(testUser.getId(), testUser.getId());
         verify(userRepository).deleteById(userId);
+        verify(userService).evictUser("testuser");
+        verifyTokensRevoked(userId);
     }
 
     /* =======================
        EXCEPTIONS
        ======================= */
 
-    @Order(9)
+    @Order(10)
     @Test
     @DisplayName("Should throw exception when security context returns null user on get current")
     void shouldThrowExceptionWhenSecurityContextUserIsNullOnGetCurrent() {
@@ -287,7 +325,7 @@ class UserManagementServiceImplUnitTest {
         verifyNoInteractions(userRepository);
     }
 
-    @Order(10)
+    @Order(11)
     @ParameterizedTest
     @EnumSource(value = TestUtils.Operation.class, names = {"GET", "UPDATE", "DELETE"})
     @DisplayName("Should throw EntityNotFoundException for non-existent user")
@@ -301,7 +339,7 @@ class UserManagementServiceImplUnitTest {
                 .isInstanceOf(EntityNotFoundException.class);
     }
 
-    @Order(11)
+    @Order(12)
     @ParameterizedTest
     @EnumSource(value = TestUtils.Operation.class, names = {"GET", "UPDATE", "DELETE"})
     @DisplayName("Should throw AccessDeniedException when accessing another user")
@@ -318,13 +356,14 @@ class UserManagementServiceImplUnitTest {
         // When & Then
         assertThatThrownBy(() -> executeOperation(operation, userId))
                 .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(userService);
     }
 
     /* =======================
    PARTIAL UPDATE/CREATE TESTS
    ======================= */
 
-    @Order(12)
+    @Order(13)
     @Test
     @DisplayName("Should create user with generated displayName when displayName not provided")
     void shouldCreateUserWithGeneratedDisplayName() {
@@ -341,9 +380,8 @@ class UserManagementServiceImplUnitTest {
         UserEntity savedEntity = createUserEntity(1L, "testuser", "testuser", "hashedPassword", "test@email.com");
         UserResponseDto expectedResponse = createUserResponse(1L, "testuser", "testuser", "test@email.com");
 
-        when(userRepository.findByUsername(request.username())).thenReturn(Optional.empty());
         when(userMapper.createUserFromRequest(request, passwordEncoder)).thenReturn(mappedEntity);
-        when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(savedEntity);
         when(userMapper.toResponse(savedEntity)).thenReturn(expectedResponse);
 
         // When
@@ -354,7 +392,7 @@ class UserManagementServiceImplUnitTest {
         verify(userMapper).createUserFromRequest(request, passwordEncoder);
     }
 
-    @Order(13)
+    @Order(14)
     @Test
     @DisplayName("Should update only email when other fields are null")
     void shouldUpdateOnlyEmail() {
@@ -384,7 +422,7 @@ class UserManagementServiceImplUnitTest {
         verify(securityProvider).getUserFromSecurityContext();
     }
 
-    @Order(14)
+    @Order(15)
     @Test
     @DisplayName("Should update only displayName when other fields are null")
     void shouldUpdateOnlyDisplayName() {
@@ -414,7 +452,7 @@ class UserManagementServiceImplUnitTest {
         verify(securityProvider).getUserFromSecurityContext();
     }
 
-    @Order(15)
+    @Order(16)
     @Test
     @DisplayName("Should update only password and trigger auth context update")
     void shouldUpdateOnlyPasswordAndTriggerAuthUpdate() {
@@ -444,9 +482,10 @@ class UserManagementServiceImplUnitTest {
         verify(userRepository).save(existingUser);
         verify(securityProvider).updateAuthenticationInSecurityContext(existingUser);
         verify(securityProvider).getUserFromSecurityContext();
+        verifyTokensRevoked(userId);
     }
 
-    @Order(16)
+    @Order(17)
     @Test
     @DisplayName("Should throw EntityNotFoundException when deleting non-existent user")
     void shouldThrowEntityNotFoundExceptionWhenDeletingNonExistentUser() {
@@ -464,6 +503,15 @@ class UserManagementServiceImplUnitTest {
        HELPERS
        ======================= */
 
+    @SuppressWarnings("unchecked")
+    private void verifyTokensRevoked(Long userId) {
+        ArgumentCaptor<Consumer<AuthTokenServiceImpl>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(authTokenService).ifAvailable(captor.capture());
+        AuthTokenServiceImpl tokenService = mock(AuthTokenServiceImpl.class);
+        captor.getValue().accept(tokenService);
+        verify(tokenService).revokeAll(userId);
+    }
+
     private void executeOperation(TestUtils.Operation operation, Long userId) {
         switch (operation) {
             case GET -> userManagementService.getUser(userId);
@@ -490,6 +538,11 @@ class UserManagementServiceImplUnitTest {
                 .build();
     }
 
+    private DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("duplicate key value violates unique constraint",
+                new ConstraintViolationException("could not execute statement", new SQLException("23505"), constraintName));
+    }
+
     private UserEntity createUserEntity(Long id, String displayName, String username, String password, String email) {
         return new UserEntity(id, displayName, username, password, email);
     }
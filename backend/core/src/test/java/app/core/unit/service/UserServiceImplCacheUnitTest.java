@@ -0,0 +1,127 @@
+package app.core.unit.service;
+
+import app.core.config.CacheConfig;
+import app.core.model.UserEntity;
+import app.core.repository.UserRepository;
+import app.core.service.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+@DisplayName("UserServiceImpl Cache Unit Tests")
+@ActiveProfiles("unit")
+class UserServiceImplCacheUnitTest {
+
+    @Configuration
+    @Import({CacheConfig.class, UserServiceImpl.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.USERS);
+            cacheManager.setCacheSpecification("maximumSize=100,recordStats");
+            return cacheManager;
+        }
+    }
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final UserEntity testUser = new UserEntity(
+            1L,
+            "testUserDisplayName",
+            "testuser",
+            "hashedPassword",
+            "test@email.com"
+    );
+
+    @BeforeEach
+    void init() {
+        cacheManager.getCache(CacheConfig.USERS).clear();
+    }
+
+    @Test
+    @DisplayName("Should load user from database only once while cached")
+    void shouldLoadUserOnceWhileCached() {
+        // Given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // When
+        var first = userService.loadUserByUsername("testuser");
+        var second = userService.loadUserByUsername("testuser");
+
+        // Then
+        assertThat(first).isEqualTo(testUser);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    @DisplayName("Should share cache entry between usernames differing only in case")
+    void shouldShareCacheEntryIgnoringCase() {
+        // Given
+        when(userRepository.findByUsername("TestUser")).thenReturn(Optional.of(testUser));
+        userService.loadUserByUsername("TestUser");
+
+        // When
+        var result = userService.loadUserByUsername("testuser");
+
+        // Then
+        assertThat(result).isSameAs(testUser);
+        verify(userRepository, times(1)).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing user")
+    void shouldNotCacheMissingUser() {
+        // Given
+        when(userRepository.findByUsername("nonexistentuser")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> userService.loadUserByUsername("nonexistentuser"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userService.loadUserByUsername("nonexistentuser"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(2)).findByUsername("nonexistentuser");
+    }
+
+    @Test
+    @DisplayName("Should reload user from database after eviction")
+    void shouldReloadUserAfterEviction() {
+        // Given
+        UserEntity updatedUser = new UserEntity(1L, "testUserDisplayName", "testuser", "newHashedPassword", "test@email.com");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser), Optional.of(updatedUser));
+        userService.loadUserByUsername("testuser");
+
+        // When
+        userService.evictUser("testuser");
+        var result = userService.loadUserByUsername("testuser");
+
+        // Then
+        assertThat(result.getPassword()).isEqualTo("newHashedPassword");
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -27,6 +29,9 @@ class UserServiceImplUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -69,4 +74,19 @@ class UserServiceImplUnitTest {
 
         verify(userRepository).findByUsername(username);
     }
-}
\ No newline at end of file
+
+    @Order(3)
+    @Test
+    @DisplayName("Should store upgraded password hash and return user copy with it")
+    void shouldUpdatePasswordHash() {
+        // When
+        UserDetails result = userService.updatePassword(testUser, "{bcrypt}newHash");
+
+        // Then
+        verify(userRepository).updatePassword(1L, "{bcrypt}newHash");
+        verify(cacheManager).getCache("users");
+        assertThat(result.getPassword()).isEqualTo("{bcrypt}newHash");
+        assertThat(result.getUsername()).isEqualTo("testuser");
+        assertThat(testUser.getPassword()).isEqualTo("hashedPassword");
+    }
+}
@@ -0,0 +1,89 @@
+package app.loadtests;
+
+import app.core.repository.DailyRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Наполнение БД перед прогоном.
+ * <p>
+ * Строки генерируются в самой БД ({@code INSERT ... SELECT} по {@code generate_series}): без передачи по сети
+ * и без Hibernate миллион транзакций вставляется за десятки секунд. Значения выводятся из номера пользователя,
+ * номера транзакции и {@code load.seed}, поэтому при тех же параметрах данные совпадают от прогона к прогону;
+ * даты отсчитываются от текущего момента и покрывают последний год. Агрегаты {@code daily_rollups}
+ * пересчитываются тем же запросом, что и при сверке
+ */
+public class DataSeeder {
+
+    public static final String USERNAME_PREFIX = "loaduser";
+    private static final String USERNAME_PATTERN = "^" + USERNAME_PREFIX + "[0-9]+$";
+
+    private static final String EXPENSE_CATEGORIES = "ARRAY['Продукты', 'Транспорт', 'Кафе', 'Дом', 'Здоровье', 'Одежда', 'Связь', 'Подарки']";
+    private static final String INCOME_CATEGORIES = "ARRAY['Зарплата', 'Фриланс', 'Проценты', 'Возврат']";
+    private static final long SECONDS_PER_YEAR = 365L * 24 * 60 * 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final String schema;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate,
+                      TransactionTemplate transactionTemplate,
+                      DailyRollupRepository dailyRollupRepository,
+                      PasswordEncoder passwordEncoder,
+                      String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.schema = schema;
+    }
+
+    /**
+     * Создает пользователей {@code loaduser1..N} с паролем {@code load.password} и их транзакции.
+     * Если пользователи с этим префиксом уже есть (прогон против своей БД), ничего не вставляет
+     *
+     * @return {@code false}, если данные остались от прошлого прогона
+     */
+    public boolean seed(LoadTestSettings settings) {
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + schema + ".users WHERE username ~ ?", Long.class, USERNAME_PATTERN);
+        if (existing != null && existing > 0) {
+            return false;
+        }
+        // один хеш на всех: BCrypt на каждого пользователя занял бы больше времени, чем все остальное наполнение
+        String passwordHash = passwordEncoder.encode(settings.password());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO " + schema + ".users (username, display_name, email, password_hash) " +
+                            "SELECT ? || n, 'Load User ' || n, ? || n || '@example.com', ? FROM generate_series(1, ?) n",
+                    USERNAME_PREFIX, USERNAME_PREFIX, passwordHash, settings.users());
+            insertTransactions("expenses", EXPENSE_CATEGORIES, "t % 4 <> 0", settings);
+            insertTransactions("incomes", INCOME_CATEGORIES, "t % 4 = 0", settings);
+            dailyRollupRepository.deleteAllRollups();
+            dailyRollupRepository.insertFromTransactions();
+        });
+        jdbcTemplate.execute("ANALYZE " + schema + ".users, " + schema + ".expenses, " + schema + ".incomes, "
+                + schema + ".daily_rollups");
+        return true;
+    }
+
+    /**
+     * @param filter условие на номер транзакции пользователя {@code t}, делит их между расходами и доходами
+     */
+    private void insertTransactions(String table, String categories, String filter, LoadTestSettings settings) {
+        jdbcTemplate.update("INSERT INTO " + schema + "." + table + " (user_id, amount, category, create_date, description) " +
+                        "SELECT u.id, " +
+                        "CAST(1 + (u.n * 7919 + t * 104729 + ?) % 500000 AS numeric) / 100, " +
+                        "(" + categories + ")[1 + (u.n + t) % cardinality(" + categories + ")], " +
+                        "now() - make_interval(secs => (u.n * 40503 + t * 2654435761 + ?) % ?), " +
+                        "'Load transaction ' || t " +
+                        "FROM (SELECT id, CAST(substring(username FROM ?) AS bigint) AS n " +
+                        "FROM " + schema + ".users WHERE username ~ ?) u " +
+                        "CROSS JOIN generate_series(CAST(1 AS bigint), ?) t " +
+                        "WHERE " + filter,
+                settings.seed(), settings.seed(), SECONDS_PER_YEAR, USERNAME_PREFIX.length() + 1, USERNAME_PATTERN,
+                (long) settings.transactionsPerUser());
+    }
+}
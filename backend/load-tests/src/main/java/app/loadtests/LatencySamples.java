@@ -0,0 +1,64 @@
+package app.loadtests;
+
+import java.util.Arrays;
+
+/**
+ * Длительности запросов одного сценария в наносекундах. Не потокобезопасен: у каждого виртуального
+ * пользователя свои экземпляры, после прогона они сливаются через {@link #addAll}
+ */
+public class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private int errors;
+
+    /**
+     * @param success ответ 2xx; остальные ответы и сетевые ошибки считаются ошибками, но их время тоже учитывается
+     */
+    public void add(long nanos, boolean success) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void addAll(LatencySamples other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(size + other.size, size * 2));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int errors() {
+        return errors;
+    }
+
+    /**
+     * Процентили по ближайшему рангу
+     *
+     * @param quantiles доли от 0 до 1
+     * @return наносекунды в порядке {@code quantiles}, нули при отсутствии замеров
+     */
+    public long[] percentiles(double... quantiles) {
+        long[] result = new long[quantiles.length];
+        if (size == 0) {
+            return result;
+        }
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        for (int i = 0; i < quantiles.length; i++) {
+            int rank = (int) Math.ceil(quantiles[i] * size);
+            result[i] = sorted[Math.max(rank, 1) - 1];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+package app.loadtests;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Итог прогона: пропускная способность и процентили времени ответа по сценариям и по всем запросам вместе
+ */
+public record LoadReport(LoadTestSettings settings, List<ScenarioResult> scenarios, ScenarioResult total) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    /**
+     * @param throughput запросов в секунду за время замера (без прогрева)
+     */
+    public record ScenarioResult(String scenario,
+                                 int requests,
+                                 int errors,
+                                 double throughput,
+                                 double p50Millis,
+                                 double p95Millis,
+                                 double p99Millis,
+                                 double maxMillis) {
+
+        static ScenarioResult of(String scenario, LatencySamples samples, Duration measured) {
+            long[] percentiles = samples.percentiles(0.5, 0.95, 0.99, 1.0);
+            return new ScenarioResult(scenario,
+                    samples.size(),
+                    samples.errors(),
+                    samples.size() / (measured.toNanos() / 1_000_000_000d),
+                    percentiles[0] / NANOS_PER_MILLI,
+                    percentiles[1] / NANOS_PER_MILLI,
+                    percentiles[2] / NANOS_PER_MILLI,
+                    percentiles[3] / NANOS_PER_MILLI);
+        }
+    }
+
+    public static LoadReport of(LoadTestSettings settings, List<Map<Scenario, LatencySamples>> perUser) {
+        List<ScenarioResult> scenarios = new ArrayList<>();
+        LatencySamples all = new LatencySamples();
+        for (Scenario scenario : Scenario.values()) {
+            LatencySamples merged = new LatencySamples();
+            perUser.forEach(samples -> merged.addAll(samples.get(scenario)));
+            if (merged.size() > 0) {
+                scenarios.add(ScenarioResult.of(scenario.propertyName(), merged, settings.duration()));
+                all.addAll(merged);
+            }
+        }
+        return new LoadReport(settings, scenarios, ScenarioResult.of("total", all, settings.duration()));
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s%n", "scenario", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        scenarios.forEach(result -> print(out, result));
+        print(out, total);
+    }
+
+    private static void print(PrintStream out, ScenarioResult result) {
+        out.printf("%-10s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", result.scenario(), result.requests(), result.errors(),
+                result.throughput(), result.p50Millis(), result.p95Millis(), result.p99Millis(), result.maxMillis());
+    }
+}
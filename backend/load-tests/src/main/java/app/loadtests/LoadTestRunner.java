@@ -0,0 +1,90 @@
+package app.loadtests;
+
+import app.core.FinancialControlStarter;
+import app.core.repository.DailyRollupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Точка входа {@code load-tests.jar}: поднимает backend с профилем {@code loadtest} (PostgreSQL в Testcontainers),
+ * наполняет БД через {@link DataSeeder}, гоняет {@code load.clients} виртуальных пользователей по HTTP и печатает
+ * p50/p95/p99 и пропускную способность по сценариям; тот же отчет пишется в JSON ({@code load.result-file}).
+ * <p>
+ * Аргументы передаются Spring, поэтому переопределяется любая настройка: {@code --load.users=1000},
+ * {@code --spring.threads.virtual.enabled=true}, {@code --spring.datasource.url=...}
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FinancialControlStarter.class)
+                .profiles("loadtest")
+                .run(args)) {
+            Environment environment = context.getEnvironment();
+            LoadTestSettings settings = LoadTestSettings.from(environment);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class),
+                    context.getBean(TransactionTemplate.class),
+                    context.getBean(DailyRollupRepository.class),
+                    context.getBean(PasswordEncoder.class),
+                    environment.getRequiredProperty("spring.jpa.properties.hibernate.default_schema"));
+            long seedStart = System.nanoTime();
+            if (seeder.seed(settings)) {
+                System.out.printf("Seeded %d users with %d transactions each in %d ms%n", settings.users(),
+                        settings.transactionsPerUser(), Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+            } else {
+                System.out.println("Load users already exist, seeding skipped");
+            }
+
+            URI baseUri = URI.create("http://localhost:" + environment.getRequiredProperty("local.server.port"));
+            LoadReport report = LoadReport.of(settings, run(settings, baseUri, objectMapper));
+            report.print(System.out);
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(settings.resultFile()), report);
+        }
+    }
+
+    private static List<Map<Scenario, LatencySamples>> run(LoadTestSettings settings, URI baseUri, ObjectMapper objectMapper)
+            throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long recordFrom = System.nanoTime() + settings.warmup().toNanos();
+        long recordUntil = recordFrom + settings.duration().toNanos();
+        System.out.printf("Running %d clients: %s warmup, %s measured%n", settings.clients(), settings.warmup(), settings.duration());
+
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < settings.clients(); i++) {
+            String username = DataSeeder.USERNAME_PREFIX + (i % settings.users() + 1);
+            users.add(new VirtualUser(httpClient, objectMapper, baseUri, settings, username, settings.seed() + i,
+                    recordFrom, recordUntil));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(settings.clients());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            users.forEach(user -> futures.add(executor.submit(user)));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return users.stream().map(VirtualUser::samples).toList();
+    }
+}
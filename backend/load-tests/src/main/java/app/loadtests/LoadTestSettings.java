@@ -0,0 +1,53 @@
+package app.loadtests;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Параметры прогона из блока {@code load} в {@code application-loadtest.yml}, переопределяются аргументами
+ * {@code --load.<name>=...}
+ *
+ * @param mix доли сценариев в процентах, в сумме 100
+ */
+public record LoadTestSettings(long seed,
+                               int users,
+                               int transactionsPerUser,
+                               String password,
+                               int clients,
+                               Duration warmup,
+                               Duration duration,
+                               int pageSize,
+                               Map<Scenario, Integer> mix,
+                               String resultFile) {
+
+    public LoadTestSettings {
+        if (users < 1 || transactionsPerUser < 1 || clients < 1) {
+            throw new IllegalArgumentException("load.users, load.transactions-per-user and load.clients must be positive");
+        }
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total != 100 || mix.values().stream().anyMatch(weight -> weight < 0)) {
+            throw new IllegalArgumentException("load.mix must be non-negative percentages adding up to 100, got " + mix);
+        }
+    }
+
+    public static LoadTestSettings from(Environment environment) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, environment.getProperty("load.mix." + scenario.propertyName(), Integer.class, 0));
+        }
+        return new LoadTestSettings(
+                environment.getRequiredProperty("load.seed", Long.class),
+                environment.getRequiredProperty("load.users", Integer.class),
+                environment.getRequiredProperty("load.transactions-per-user", Integer.class),
+                environment.getRequiredProperty("load.password"),
+                environment.getRequiredProperty("load.clients", Integer.class),
+                environment.getRequiredProperty("load.warmup", Duration.class),
+                environment.getRequiredProperty("load.duration", Duration.class),
+                environment.getRequiredProperty("load.page-size", Integer.class),
+                mix,
+                environment.getRequiredProperty("load.result-file"));
+    }
+}
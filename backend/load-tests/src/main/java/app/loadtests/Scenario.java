@@ -0,0 +1,37 @@
+package app.loadtests;
+
+import java.util.Locale;
+
+/**
+ * Запросы, из которых складывается нагрузка; доля каждого задается {@code load.mix.<name>}
+ */
+public enum Scenario {
+    /**
+     * {@code POST /api/auth/login}, новая сессия или пара токенов вместо прежней
+     */
+    LOGIN,
+    /**
+     * {@code GET /api/expenses?limit=...}, первая страница истории расходов
+     */
+    LIST,
+    /**
+     * {@code POST /api/expenses}
+     */
+    CREATE,
+    /**
+     * {@code PATCH /api/expenses/{id}} одного из засеянных расходов пользователя
+     */
+    UPDATE,
+    /**
+     * {@code DELETE /api/expenses/{id}} расхода, созданного этим же виртуальным пользователем
+     */
+    DELETE,
+    /**
+     * {@code GET /api/analytics/summary?period=month}
+     */
+    DASHBOARD;
+
+    public String propertyName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,202 @@
+package app.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Клиент, который входит под одним из засеянных пользователей и до конца прогона шлет запросы без пауз,
+ * выбирая сценарий случайно по долям {@code load.mix}.
+ * <p>
+ * Изменяет только свои данные: обновляет расходы с первой страницы истории, удаляет только созданные им самим,
+ * поэтому при {@code create >= delete} объем данных за прогон не убывает
+ */
+public class VirtualUser implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final String username;
+    private final Random random;
+    private final long recordFrom;
+    private final long recordUntil;
+    private final Map<Scenario, LatencySamples> samples = new EnumMap<>(Scenario.class);
+    private final List<Long> seededIds = new ArrayList<>();
+    private final Deque<Long> createdIds = new ArrayDeque<>();
+
+    private String cookie;
+    private String accessToken;
+
+    /**
+     * @param recordFrom  {@link System#nanoTime()} конца прогрева, более ранние запросы не учитываются
+     * @param recordUntil {@link System#nanoTime()} конца прогона
+     */
+    public VirtualUser(HttpClient httpClient,
+                       ObjectMapper objectMapper,
+                       URI baseUri,
+                       LoadTestSettings settings,
+                       String username,
+                       long seed,
+                       long recordFrom,
+                       long recordUntil) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.username = username;
+        this.random = new Random(seed);
+        this.recordFrom = recordFrom;
+        this.recordUntil = recordUntil;
+        for (Scenario scenario : Scenario.values()) {
+            samples.put(scenario, new LatencySamples());
+        }
+    }
+
+    public Map<Scenario, LatencySamples> samples() {
+        return samples;
+    }
+
+    @Override
+    public void run() {
+        try {
+            HttpResponse<String> login = execute(Scenario.LOGIN);
+            HttpResponse<String> page = execute(Scenario.LIST);
+            if (!isSuccessful(login) || !isSuccessful(page)) {
+                throw new IllegalStateException("login returned " + login.statusCode() + ", list returned " + page.statusCode());
+            }
+            for (JsonNode item : objectMapper.readTree(page.body()).path("items")) {
+                seededIds.add(item.path("id").asLong());
+            }
+            if (seededIds.isEmpty()) {
+                throw new IllegalStateException("no expenses to update");
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            throw new IllegalStateException("Virtual user " + username + " failed to start", e);
+        }
+        while (System.nanoTime() < recordUntil && !Thread.currentThread().isInterrupted()) {
+            Scenario scenario = next();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = isSuccessful(execute(scenario));
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= recordFrom) {
+                samples.get(scenario).add(System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    private Scenario next() {
+        int roll = random.nextInt(100);
+        for (Map.Entry<Scenario, Integer> weight : settings.mix().entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0) {
+                // удалять пока нечего — создаем, чтобы не слать заведомо лишний 404
+                return weight.getKey() == Scenario.DELETE && createdIds.isEmpty() ? Scenario.CREATE : weight.getKey();
+            }
+        }
+        throw new IllegalStateException("load.mix does not add up to 100");
+    }
+
+    private HttpResponse<String> execute(Scenario scenario) throws IOException, InterruptedException {
+        return switch (scenario) {
+            case LOGIN -> login();
+            case LIST -> send(request("/api/expenses?limit=" + settings.pageSize()).GET());
+            case CREATE -> create();
+            case UPDATE -> send(request("/api/expenses/" + seededIds.get(random.nextInt(seededIds.size())))
+                    .method("PATCH", json(Map.of("amount", randomAmount()))));
+            case DELETE -> send(request("/api/expenses/" + createdIds.pop()).DELETE());
+            case DASHBOARD -> send(request("/api/analytics/summary?period=month").GET());
+        };
+    }
+
+    /**
+     * В режиме {@code session} запоминает cookie сессии, в режиме {@code token} — access-токен из ответа
+     */
+    private HttpResponse<String> login() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request("/api/auth/login")
+                .POST(json(Map.of("username", username, "password", settings.password(), "rememberMe", false))));
+        if (!isSuccessful(response)) {
+            return response;
+        }
+        response.headers().allValues("Set-Cookie").stream()
+                .filter(value -> value.startsWith("JSESSIONID="))
+                .findFirst()
+                .ifPresent(value -> cookie = value.substring(0, value.indexOf(';') < 0 ? value.length() : value.indexOf(';')));
+        if (!response.body().isEmpty()) {
+            JsonNode token = objectMapper.readTree(response.body()).path("accessToken");
+            accessToken = token.isTextual() ? token.asText() : null;
+        }
+        return response;
+    }
+
+    private HttpResponse<String> create() throws IOException, InterruptedException {
+        Map<String, Object> body = Map.of(
+                "amount", randomAmount(),
+                "category", "Нагрузка",
+                "createDate", DATE_FORMAT.format(OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS)),
+                "description", "Load test");
+        HttpResponse<String> response = send(request("/api/expenses").POST(json(body)));
+        if (isSuccessful(response)) {
+            createdIds.push(objectMapper.readTree(response.body()).path("id").asLong());
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private BigDecimal randomAmount() {
+        return BigDecimal.valueOf(100 + random.nextInt(500_000)).divide(BigDecimal.valueOf(100), 2, RoundingMode.UNNECESSARY);
+    }
+
+    private static boolean isSuccessful(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+}
@@ -0,0 +1,31 @@
+CREATE TABLE refresh_tokens
+(
+    token_hash char(64)                 NOT NULL,
+    user_id    bigint                   NOT NULL,
+    expires_at timestamp with time zone NOT NULL,
+    used_at    timestamp with time zone,
+    CONSTRAINT refresh_tokens_pk PRIMARY KEY (token_hash),
+    CONSTRAINT refresh_tokens_user_fk FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX refresh_tokens_user_id_idx ON refresh_tokens (user_id);
+CREATE INDEX refresh_tokens_expires_at_idx ON refresh_tokens (expires_at);
+
+COMMENT ON TABLE refresh_tokens IS 'Выданные refresh-токены';
+COMMENT ON COLUMN refresh_tokens.token_hash IS 'SHA-256 токена в hex, сам токен не хранится';
+COMMENT ON COLUMN refresh_tokens.user_id IS 'Пользователь';
+COMMENT ON COLUMN refresh_tokens.expires_at IS 'Время истечения';
+COMMENT ON COLUMN refresh_tokens.used_at IS 'Время обмена на новую пару токенов; повторное предъявление отзывает все токены пользователя';
+
+CREATE TABLE token_revocations
+(
+    user_id    bigint                   NOT NULL,
+    revoked_at timestamp with time zone NOT NULL,
+    CONSTRAINT token_revocations_pk PRIMARY KEY (user_id)
+);
+
+CREATE INDEX token_revocations_revoked_at_idx ON token_revocations (revoked_at);
+
+COMMENT ON TABLE token_revocations IS 'Отзывы access-токенов: токены пользователя, выпущенные раньше revoked_at, недействительны';
+COMMENT ON COLUMN token_revocations.user_id IS 'Пользователь, без внешнего ключа: отзыв переживает удаление пользователя';
+COMMENT ON COLUMN token_revocations.revoked_at IS 'Время отзыва';
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_incomes_user_id_category_create_date ON incomes (user_id, category, create_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_expenses_user_id_category_create_date ON expenses (user_id, category, create_date DESC, id DESC);
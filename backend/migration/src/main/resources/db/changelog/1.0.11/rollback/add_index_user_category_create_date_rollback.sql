@@ -0,0 +1,2 @@
+DROP INDEX IF EXISTS idx_incomes_user_id_category_create_date;
+DROP INDEX IF EXISTS idx_expenses_user_id_category_create_date;
@@ -0,0 +1,63 @@
+-- Раздел таблицы доходов или расходов за календарный год (UTC).
+-- Строки этого года, попавшие в раздел по умолчанию, переносятся в новый раздел до его подключения.
+-- Раздел по умолчанию заблокирован от записи до конца транзакции: строка, вставленная между переносом
+-- и ATTACH PARTITION, не прошла бы проверку раздела по умолчанию и откатила бы весь вызов
+CREATE OR REPLACE FUNCTION create_transaction_partition(parent text, partition_year int) RETURNS boolean
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    partition_name text        := format('%s_y%s', parent, partition_year);
+    lower_bound    timestamptz := make_timestamptz(partition_year, 1, 1, 0, 0, 0, 'UTC');
+    upper_bound    timestamptz := make_timestamptz(partition_year + 1, 1, 1, 0, 0, 0, 'UTC');
+BEGIN
+    IF parent NOT IN ('expenses', 'incomes') THEN
+        RAISE EXCEPTION 'Unknown transaction table %', parent;
+    END IF;
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    EXECUTE format('LOCK TABLE %I IN SHARE ROW EXCLUSIVE MODE', parent || '_default');
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', partition_name, parent);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE create_date >= $1 AND create_date < $2 RETURNING *) '
+                       'INSERT INTO %I SELECT * FROM moved', parent || '_default', partition_name)
+        USING lower_bound, upper_bound;
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent, partition_name, lower_bound, upper_bound);
+    RETURN true;
+END;
+$$;
+
+COMMENT ON FUNCTION create_transaction_partition(text, int) IS 'Создает годовой раздел expenses или incomes';
+
+-- Разделы на текущий год и years_ahead следующих, а также на годы строк из разделов по умолчанию.
+-- Вызывается по расписанию; рекомендательная блокировка не дает двум экземплярам создавать разделы одновременно
+CREATE OR REPLACE FUNCTION create_transaction_partitions(years_ahead int) RETURNS int
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    parent         text;
+    partition_year int;
+    created        int := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_transaction_partitions'));
+    FOREACH parent IN ARRAY ARRAY ['expenses', 'incomes']
+        LOOP
+            FOR partition_year IN EXECUTE format(
+                    'SELECT CAST(extract(year FROM create_date AT TIME ZONE ''UTC'') AS int) FROM %I '
+                        'UNION SELECT CAST(extract(year FROM now() AT TIME ZONE ''UTC'') AS int) + g FROM generate_series(0, $1) g',
+                    parent || '_default') USING years_ahead
+                LOOP
+                    IF create_transaction_partition(parent, partition_year) THEN
+                        created := created + 1;
+                    END IF;
+                END LOOP;
+        END LOOP;
+    RETURN created;
+END;
+$$;
+
+COMMENT ON FUNCTION create_transaction_partitions(int) IS 'Создает недостающие годовые разделы expenses и incomes';
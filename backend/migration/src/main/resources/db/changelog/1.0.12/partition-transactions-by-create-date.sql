@@ -0,0 +1,85 @@
+ALTER TABLE expenses RENAME TO expenses_unpartitioned;
+ALTER TABLE expenses_unpartitioned DROP CONSTRAINT expenses_pk;
+ALTER TABLE expenses_unpartitioned DROP CONSTRAINT expenses_user_fk;
+DROP INDEX IF EXISTS idx_expenses_user_id_create_date_id;
+DROP INDEX IF EXISTS idx_expenses_user_id_category_create_date;
+
+-- Первичный ключ секционированной таблицы обязан включать ключ секционирования;
+-- уникальность id по-прежнему обеспечивает последовательность expenses_seq
+CREATE TABLE expenses
+(
+    id          bigint                   NOT NULL DEFAULT nextval('expenses_seq'),
+    amount      numeric(19, 2),
+    category    varchar(128),
+    create_date timestamp with time zone NOT NULL DEFAULT now(),
+    description text,
+    user_id     bigint                   NOT NULL,
+    CONSTRAINT expenses_pk PRIMARY KEY (id, create_date),
+    CONSTRAINT expenses_user_fk FOREIGN KEY (user_id) REFERENCES users (id)
+) PARTITION BY RANGE (create_date);
+
+CREATE TABLE expenses_default PARTITION OF expenses DEFAULT;
+
+COMMENT ON TABLE expenses IS 'Расходы, годовые разделы по create_date (UTC)';
+COMMENT ON COLUMN expenses.amount IS 'Сумма';
+COMMENT ON COLUMN expenses.category IS 'Категория';
+COMMENT ON COLUMN expenses.create_date IS 'Дата создания';
+COMMENT ON COLUMN expenses.description IS 'Описание расхода';
+COMMENT ON COLUMN expenses.user_id IS 'Пользователь';
+
+SELECT create_transaction_partition('expenses', y.year)
+FROM (SELECT DISTINCT CAST(extract(year FROM create_date AT TIME ZONE 'UTC') AS int) AS year FROM expenses_unpartitioned
+      UNION
+      SELECT CAST(extract(year FROM now() AT TIME ZONE 'UTC') AS int) + g FROM generate_series(0, 1) g) y;
+
+INSERT INTO expenses (id, amount, category, create_date, description, user_id)
+SELECT id, amount, category, create_date, description, user_id
+FROM expenses_unpartitioned;
+
+CREATE INDEX idx_expenses_user_id_create_date_id ON expenses (user_id, create_date DESC, id DESC);
+CREATE INDEX idx_expenses_user_id_category_create_date ON expenses (user_id, category, create_date DESC, id DESC);
+
+DROP TABLE expenses_unpartitioned;
+ANALYZE expenses;
+
+ALTER TABLE incomes RENAME TO incomes_unpartitioned;
+ALTER TABLE incomes_unpartitioned DROP CONSTRAINT income_pk;
+ALTER TABLE incomes_unpartitioned DROP CONSTRAINT incomes_user_fk;
+DROP INDEX IF EXISTS idx_incomes_user_id_create_date_id;
+DROP INDEX IF EXISTS idx_incomes_user_id_category_create_date;
+
+CREATE TABLE incomes
+(
+    id          bigint                   NOT NULL DEFAULT nextval('incomes_seq'),
+    amount      numeric(19, 2),
+    category    varchar(128),
+    create_date timestamp with time zone NOT NULL DEFAULT now(),
+    description text,
+    user_id     bigint                   NOT NULL,
+    CONSTRAINT incomes_pk PRIMARY KEY (id, create_date),
+    CONSTRAINT incomes_user_fk FOREIGN KEY (user_id) REFERENCES users (id)
+) PARTITION BY RANGE (create_date);
+
+CREATE TABLE incomes_default PARTITION OF incomes DEFAULT;
+
+COMMENT ON TABLE incomes IS 'Доходы, годовые разделы по create_date (UTC)';
+COMMENT ON COLUMN incomes.amount IS 'Сумма';
+COMMENT ON COLUMN incomes.category IS 'Категория';
+COMMENT ON COLUMN incomes.create_date IS 'Дата создания';
+COMMENT ON COLUMN incomes.description IS 'Описание дохода';
+COMMENT ON COLUMN incomes.user_id IS 'Пользователь';
+
+SELECT create_transaction_partition('incomes', y.year)
+FROM (SELECT DISTINCT CAST(extract(year FROM create_date AT TIME ZONE 'UTC') AS int) AS year FROM incomes_unpartitioned
+      UNION
+      SELECT CAST(extract(year FROM now() AT TIME ZONE 'UTC') AS int) + g FROM generate_series(0, 1) g) y;
+
+INSERT INTO incomes (id, amount, category, create_date, description, user_id)
+SELECT id, amount, category, create_date, description, user_id
+FROM incomes_unpartitioned;
+
+CREATE INDEX idx_incomes_user_id_create_date_id ON incomes (user_id, create_date DESC, id DESC);
+CREATE INDEX idx_incomes_user_id_category_create_date ON incomes (user_id, category, create_date DESC, id DESC);
+
+DROP TABLE incomes_unpartitioned;
+ANALYZE incomes;
@@ -0,0 +1,2 @@
+DROP FUNCTION IF EXISTS create_transaction_partitions(int);
+DROP FUNCTION IF EXISTS create_transaction_partition(text, int);
@@ -0,0 +1,59 @@
+CREATE TABLE expenses_unpartitioned
+(
+    id          bigint                   NOT NULL DEFAULT nextval('expenses_seq'),
+    amount      numeric(19, 2),
+    category    varchar(128),
+    create_date timestamp with time zone NOT NULL DEFAULT now(),
+    description text,
+    user_id     bigint                   NOT NULL
+);
+
+INSERT INTO expenses_unpartitioned (id, amount, category, create_date, description, user_id)
+SELECT id, amount, category, create_date, description, user_id
+FROM expenses;
+
+DROP TABLE expenses;
+ALTER TABLE expenses_unpartitioned RENAME TO expenses;
+ALTER TABLE expenses
+    ADD CONSTRAINT expenses_pk PRIMARY KEY (id),
+    ADD CONSTRAINT expenses_user_fk FOREIGN KEY (user_id) REFERENCES users (id);
+
+CREATE INDEX idx_expenses_user_id_create_date_id ON expenses (user_id, create_date DESC, id DESC);
+CREATE INDEX idx_expenses_user_id_category_create_date ON expenses (user_id, category, create_date DESC, id DESC);
+
+COMMENT ON TABLE expenses IS 'Расходы';
+COMMENT ON COLUMN expenses.amount IS 'Сумма';
+COMMENT ON COLUMN expenses.category IS 'Категория';
+COMMENT ON COLUMN expenses.create_date IS 'Дата создания';
+COMMENT ON COLUMN expenses.description IS 'Описание расхода';
+COMMENT ON COLUMN expenses.user_id IS 'Пользователь';
+
+CREATE TABLE incomes_unpartitioned
+(
+    id          bigint                   NOT NULL DEFAULT nextval('incomes_seq'),
+    amount      numeric(19, 2),
+    category    varchar(128),
+    create_date timestamp with time zone NOT NULL DEFAULT now(),
+    description text,
+    user_id     bigint                   NOT NULL
+);
+
+INSERT INTO incomes_unpartitioned (id, amount, category, create_date, description, user_id)
+SELECT id, amount, category, create_date, description, user_id
+FROM incomes;
+
+DROP TABLE incomes;
+ALTER TABLE incomes_unpartitioned RENAME TO incomes;
+ALTER TABLE incomes
+    ADD CONSTRAINT income_pk PRIMARY KEY (id),
+    ADD CONSTRAINT incomes_user_fk FOREIGN KEY (user_id) REFERENCES users (id);
+
+CREATE INDEX idx_incomes_user_id_create_date_id ON incomes (user_id, create_date DESC, id DESC);
+CREATE INDEX idx_incomes_user_id_category_create_date ON incomes (user_id, category, create_date DESC, id DESC);
+
+COMMENT ON TABLE incomes IS 'Доходы';
+COMMENT ON COLUMN incomes.amount IS 'Сумма';
+COMMENT ON COLUMN incomes.category IS 'Категория';
+COMMENT ON COLUMN incomes.create_date IS 'Дата создания';
+COMMENT ON COLUMN incomes.description IS 'Описание дохода';
+COMMENT ON COLUMN incomes.user_id IS 'Пользователь';
@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_incomes_user_id ON incomes (user_id);
+CREATE INDEX IF NOT EXISTS idx_expenses_user_id ON expenses (user_id);
+
+DROP INDEX IF EXISTS idx_incomes_user_id_create_date_id;
+DROP INDEX IF EXISTS idx_expenses_user_id_create_date_id;
@@ -0,0 +1,29 @@
+CREATE TABLE daily_rollups
+(
+    user_id  bigint         NOT NULL,
+    kind     varchar(16)    NOT NULL,
+    day      date           NOT NULL,
+    category varchar(128)   NOT NULL,
+    total    numeric(19, 2) NOT NULL,
+    count    bigint         NOT NULL,
+    CONSTRAINT daily_rollups_pk PRIMARY KEY (user_id, kind, day, category),
+    CONSTRAINT daily_rollups_user_fk FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+COMMENT ON TABLE daily_rollups IS 'Суточные агрегаты транзакций';
+COMMENT ON COLUMN daily_rollups.user_id IS 'Пользователь';
+COMMENT ON COLUMN daily_rollups.kind IS 'Тип транзакций: EXPENSE или INCOME';
+COMMENT ON COLUMN daily_rollups.day IS 'День (UTC)';
+COMMENT ON COLUMN daily_rollups.category IS 'Категория';
+COMMENT ON COLUMN daily_rollups.total IS 'Сумма транзакций за день';
+COMMENT ON COLUMN daily_rollups.count IS 'Количество транзакций за день';
+
+INSERT INTO daily_rollups (user_id, kind, day, category, total, count)
+SELECT user_id, 'EXPENSE', CAST(create_date AT TIME ZONE 'UTC' AS date), category, SUM(amount), COUNT(*)
+FROM expenses
+GROUP BY 1, 2, 3, 4;
+
+INSERT INTO daily_rollups (user_id, kind, day, category, total, count)
+SELECT user_id, 'INCOME', CAST(create_date AT TIME ZONE 'UTC' AS date), category, SUM(amount), COUNT(*)
+FROM incomes
+GROUP BY 1, 2, 3, 4;
@@ -0,0 +1,3 @@
+ALTER SEQUENCE expenses_seq INCREMENT BY 1;
+ALTER SEQUENCE incomes_seq INCREMENT BY 1;
+ALTER SEQUENCE users_seq INCREMENT BY 1;
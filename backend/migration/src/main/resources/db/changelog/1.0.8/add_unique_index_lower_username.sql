@@ -0,0 +1,3 @@
+CREATE UNIQUE INDEX IF NOT EXISTS uq_users_username_lower ON users (lower(username));
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uq_users_username;
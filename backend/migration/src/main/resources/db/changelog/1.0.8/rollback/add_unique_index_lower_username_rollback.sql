@@ -0,0 +1,3 @@
+ALTER TABLE users ADD CONSTRAINT uq_users_username UNIQUE (username);
+
+DROP INDEX IF EXISTS uq_users_username_lower;
@@ -0,0 +1,2 @@
+DROP TABLE IF EXISTS spring_session_attributes;
+DROP TABLE IF EXISTS spring_session;